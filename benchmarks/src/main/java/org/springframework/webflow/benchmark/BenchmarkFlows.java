@@ -0,0 +1,183 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.webflow.engine.EndState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.Transition;
+import org.springframework.webflow.engine.ViewState;
+import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
+import org.springframework.webflow.engine.support.DefaultTransitionCriteria;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.View;
+import org.springframework.webflow.execution.ViewFactory;
+
+/**
+ * Flow definitions and scope payload shared by the benchmarks of the flow execution hot path.
+ * <p>
+ * The flows built are made of a number of view states, each transitioning to the next one on <code>next</code> and
+ * re-rendering itself on <code>refresh</code>, followed by an end state. A start action puts a payload of orders in
+ * flow scope, which is what flow execution snapshots are mostly made of in practice.
+ */
+final class BenchmarkFlows {
+
+	private BenchmarkFlows() {
+	}
+
+	/**
+	 * Create a flow.
+	 * @param id the flow id
+	 * @param stateCount the number of view states
+	 * @param payloadSize the number of orders put in flow scope on start
+	 */
+	static Flow createFlow(String id, int stateCount, int payloadSize) {
+		Flow flow = new Flow(id);
+		for (int i = 0; i < stateCount; i++) {
+			ViewState state = new ViewState(flow, "view" + i, new BenchmarkViewFactory());
+			String next = (i + 1 < stateCount ? "view" + (i + 1) : "end");
+			state.getTransitionSet().add(new Transition(new DefaultTransitionCriteria(new StaticExpression("next")),
+					new DefaultTargetStateResolver(next)));
+			state.getTransitionSet().add(new Transition(new DefaultTransitionCriteria(new StaticExpression("refresh")),
+					null));
+		}
+		new EndState(flow, "end");
+		flow.getStartActionList().add(context -> {
+			for (int i = 0; i < payloadSize; i++) {
+				context.getFlowScope().put("order" + i, createOrder(i, 5));
+			}
+			return new Event(flow, "success");
+		});
+		return flow;
+	}
+
+	/**
+	 * Create an order.
+	 * @param number the order number
+	 * @param itemCount the number of order items
+	 */
+	static Order createOrder(int number, int itemCount) {
+		Order order = new Order();
+		order.setName("order" + number);
+		for (int i = 0; i < itemCount; i++) {
+			Item item = new Item();
+			item.setName("item" + i);
+			item.setQuantity(i);
+			order.getItems().add(item);
+		}
+		return order;
+	}
+
+
+	/**
+	 * Creates views processing the event given by the <code>_eventId</code> request parameter, and rendering nothing.
+	 */
+	private static class BenchmarkViewFactory implements ViewFactory {
+
+		public View getView(RequestContext context) {
+			return new BenchmarkView(context);
+		}
+	}
+
+
+	private static class BenchmarkView implements View {
+
+		private final RequestContext context;
+
+		public BenchmarkView(RequestContext context) {
+			this.context = context;
+		}
+
+		public void render() {
+		}
+
+		public boolean userEventQueued() {
+			return hasFlowEvent();
+		}
+
+		public void processUserEvent() {
+		}
+
+		public boolean hasFlowEvent() {
+			return this.context.getRequestParameters().contains("_eventId");
+		}
+
+		public Event getFlowEvent() {
+			return new Event(this, this.context.getRequestParameters().get("_eventId"));
+		}
+
+		public Serializable getUserEventState() {
+			return null;
+		}
+
+		public void saveState() {
+		}
+	}
+
+
+	public static class Order implements Serializable {
+
+		private String name;
+
+		private List<Item> items = new ArrayList<>();
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Item> getItems() {
+			return this.items;
+		}
+
+		public void setItems(List<Item> items) {
+			this.items = items;
+		}
+	}
+
+
+	public static class Item implements Serializable {
+
+		private String name;
+
+		private Integer quantity;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getQuantity() {
+			return this.quantity;
+		}
+
+		public void setQuantity(Integer quantity) {
+			this.quantity = quantity;
+		}
+	}
+
+}
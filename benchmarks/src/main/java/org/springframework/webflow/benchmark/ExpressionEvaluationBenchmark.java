@@ -0,0 +1,115 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.expression.Expression;
+import org.springframework.binding.expression.ParserContext;
+import org.springframework.binding.expression.spel.SpringELExpressionParser;
+import org.springframework.binding.expression.support.FluentParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.MockRequestContext;
+
+/**
+ * Cost of parsing and evaluating flow definition expressions with the {@link SpringELExpressionParser} configured by
+ * Web Flow, against a request context whose flow scope holds a payload of orders. Covers implicit variables resolved
+ * by searching scopes, explicit scope references, and setting values.
+ *
+ * @see BenchmarkFlows
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionEvaluationBenchmark {
+
+	@Param({ "10", "100" })
+	public int payloadSize;
+
+	private final SpringELExpressionParser expressionParser =
+			new WebFlowSpringELExpressionParser(new SpelExpressionParser());
+
+	private final ParserContext parserContext = new FluentParserContext().evaluate(RequestContext.class);
+
+	private MockRequestContext context;
+
+	private Expression scopeSearchingExpression;
+
+	private Expression flowScopeExpression;
+
+	private Expression setterExpression;
+
+	@Setup
+	public void setUp() {
+		context = new MockRequestContext();
+		for (int i = 0; i < payloadSize; i++) {
+			context.getFlowScope().put("order" + i, BenchmarkFlows.createOrder(i, 5));
+		}
+		scopeSearchingExpression = parse(lastOrder() + ".items[2].name");
+		flowScopeExpression = parse("flowScope." + lastOrder() + ".items[2].name");
+		setterExpression = parse(lastOrder() + ".items[2].quantity");
+	}
+
+	@Benchmark
+	public Expression parse() {
+		return parse(lastOrder() + ".items[2].name");
+	}
+
+	@Benchmark
+	public Object evaluateScopeSearching() {
+		return scopeSearchingExpression.getValue(context);
+	}
+
+	@Benchmark
+	public Object evaluateFlowScope() {
+		return flowScopeExpression.getValue(context);
+	}
+
+	@Benchmark
+	public Object parseAndEvaluate() {
+		return parse(lastOrder() + ".items[2].name").getValue(context);
+	}
+
+	@Benchmark
+	public void setValue() {
+		setterExpression.setValue(context, "3");
+	}
+
+	private Expression parse(String expression) {
+		return expressionParser.parseExpression(expression, parserContext);
+	}
+
+	private String lastOrder() {
+		return "order" + (payloadSize - 1);
+	}
+
+}
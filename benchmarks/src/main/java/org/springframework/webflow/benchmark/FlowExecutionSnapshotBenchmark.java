@@ -0,0 +1,127 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshot;
+import org.springframework.webflow.execution.repository.snapshot.SerializedFlowExecutionSnapshotFactory;
+import org.springframework.webflow.test.MockExternalContext;
+import org.springframework.webflow.test.MockFlowExecutionKey;
+import org.springframework.webflow.test.MockFlowExecutionKeyFactory;
+
+/**
+ * Cost of taking and restoring the serialized snapshot of a paused flow execution with
+ * {@link SerializedFlowExecutionSnapshotFactory}, as done by every flow execution request. The size of the serialized
+ * snapshot is reported as the <code>snapshotBytes</code> secondary result.
+ *
+ * @see BenchmarkFlows
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowExecutionSnapshotBenchmark {
+
+	private static final String FLOW_ID = "flow";
+
+	@Param({ "3", "30" })
+	public int stateCount;
+
+	@Param({ "0", "100" })
+	public int payloadSize;
+
+	@Param({ "true", "false" })
+	public boolean compress;
+
+	private final MockFlowExecutionKeyFactory keyFactory = new MockFlowExecutionKeyFactory();
+
+	private SerializedFlowExecutionSnapshotFactory snapshotFactory;
+
+	private FlowExecution flowExecution;
+
+	private FlowExecutionSnapshot snapshot;
+
+	private int snapshotBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		FlowDefinitionRegistryImpl registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(BenchmarkFlows.createFlow(FLOW_ID, stateCount, payloadSize));
+		FlowExecutionImplFactory executionFactory = new FlowExecutionImplFactory();
+		executionFactory.setExecutionKeyFactory(keyFactory);
+		snapshotFactory = new SerializedFlowExecutionSnapshotFactory(executionFactory, registry);
+		snapshotFactory.setCompress(compress);
+		flowExecution = executionFactory.createFlowExecution(registry.getFlowDefinition(FLOW_ID));
+		flowExecution.start(null, new MockExternalContext());
+		snapshot = snapshotFactory.createSnapshot(flowExecution);
+		snapshotBytes = serialize(snapshot);
+	}
+
+	@Benchmark
+	public FlowExecutionSnapshot createSnapshot(SnapshotSize size) {
+		size.snapshotBytes = snapshotBytes;
+		return snapshotFactory.createSnapshot(flowExecution);
+	}
+
+	@Benchmark
+	public FlowExecution restoreExecution(SnapshotSize size) {
+		size.snapshotBytes = snapshotBytes;
+		return snapshotFactory.restoreExecution(snapshot, FLOW_ID, new MockFlowExecutionKey("e1s1"),
+				new LocalAttributeMap<>(), keyFactory);
+	}
+
+	private int serialize(Serializable object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.size();
+	}
+
+	/**
+	 * Reports the size of the serialized snapshot along with the benchmark results.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class SnapshotSize {
+
+		public long snapshotBytes;
+	}
+
+}
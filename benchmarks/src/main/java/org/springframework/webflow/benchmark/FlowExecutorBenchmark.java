@@ -0,0 +1,106 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.webflow.config.FlowExecutorBuilder;
+import org.springframework.webflow.core.collection.SharedAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.executor.FlowExecutionResult;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.test.MockExternalContext;
+
+/**
+ * Cost of processing flow execution requests end-to-end through a {@link FlowExecutor} configured with the defaults
+ * of {@link FlowExecutorBuilder}: conversations stored in the session and serialized snapshots. Covers launching a
+ * flow, resuming it in the same view state, and walking through all its view states to the end.
+ *
+ * @see BenchmarkFlows
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowExecutorBenchmark {
+
+	private static final String FLOW_ID = "flow";
+
+	@Param({ "3", "30" })
+	public int stateCount;
+
+	@Param({ "0", "100" })
+	public int payloadSize;
+
+	private FlowExecutor flowExecutor;
+
+	private SharedAttributeMap<Object> sessionMap;
+
+	private String flowExecutionKey;
+
+	@Setup
+	public void setUp() {
+		FlowDefinitionRegistryImpl registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(BenchmarkFlows.createFlow(FLOW_ID, stateCount, payloadSize));
+		flowExecutor = new FlowExecutorBuilder(registry).build();
+		sessionMap = new MockExternalContext().getSessionMap();
+		flowExecutionKey = flowExecutor.launchExecution(FLOW_ID, null, createExternalContext(null)).getPausedKey();
+	}
+
+	@Benchmark
+	public FlowExecutionResult launch() {
+		return flowExecutor.launchExecution(FLOW_ID, null, createExternalContext(null));
+	}
+
+	@Benchmark
+	public FlowExecutionResult resume() {
+		FlowExecutionResult result = flowExecutor.resumeExecution(flowExecutionKey, createExternalContext("refresh"));
+		flowExecutionKey = result.getPausedKey();
+		return result;
+	}
+
+	@Benchmark
+	public FlowExecutionResult launchAndNavigateToEnd() {
+		FlowExecutionResult result = flowExecutor.launchExecution(FLOW_ID, null, createExternalContext(null));
+		while (result.isPaused()) {
+			result = flowExecutor.resumeExecution(result.getPausedKey(), createExternalContext("next"));
+		}
+		return result;
+	}
+
+	private MockExternalContext createExternalContext(String eventId) {
+		MockExternalContext context = new MockExternalContext();
+		context.setSessionMap(sessionMap);
+		if (eventId != null) {
+			context.setEventId(eventId);
+		}
+		return context;
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.expression.ExpressionParser;
+import org.springframework.binding.expression.support.FluentParserContext;
+import org.springframework.binding.mapping.Mapper;
+import org.springframework.binding.mapping.MappingResults;
+import org.springframework.binding.mapping.impl.DefaultMapper;
+import org.springframework.binding.mapping.impl.DefaultMapping;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.engine.builder.FlowAssembler;
+import org.springframework.webflow.engine.builder.model.FlowModelFlowBuilder;
+import org.springframework.webflow.engine.model.AbstractStateModel;
+import org.springframework.webflow.engine.model.EndStateModel;
+import org.springframework.webflow.engine.model.FlowModel;
+import org.springframework.webflow.engine.model.InputModel;
+import org.springframework.webflow.engine.model.registry.FlowModelHolder;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.MockFlowBuilderContext;
+import org.springframework.webflow.test.MockRequestContext;
+
+/**
+ * Cost of mapping flow input into flow scope with the input mapper built from a flow definition, whose attribute
+ * names and scope attributes are compiled into direct attribute access. The <code>legacy*</code> benchmark maps the
+ * same input through the parsed Spring EL expressions, as previously done.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowMappingBenchmark {
+
+	private static final int INPUT_COUNT = 5;
+
+	private Mapper inputMapper;
+
+	private Mapper legacyInputMapper;
+
+	private MutableAttributeMap<Object> input;
+
+	private MockRequestContext context;
+
+	@Setup
+	public void setUp() {
+		FlowModel model = new FlowModel();
+		LinkedList<InputModel> inputs = new LinkedList<>();
+		for (int i = 0; i < INPUT_COUNT; i++) {
+			inputs.add(new InputModel("input" + i, null));
+		}
+		model.setInputs(inputs);
+		LinkedList<AbstractStateModel> states = new LinkedList<>();
+		states.add(new EndStateModel("end"));
+		model.setStates(states);
+		FlowModelFlowBuilder builder = new FlowModelFlowBuilder(new StaticFlowModelHolder(model));
+		inputMapper = new FlowAssembler(builder, new MockFlowBuilderContext("flow")).assembleFlow().getInputMapper();
+
+		ExpressionParser parser = new WebFlowSpringELExpressionParser(new SpelExpressionParser());
+		DefaultMapper mapper = new DefaultMapper();
+		mapper.setErrorResultsOnly(true);
+		for (int i = 0; i < INPUT_COUNT; i++) {
+			mapper.addMapping(new DefaultMapping(
+					parser.parseExpression("input" + i, new FluentParserContext().evaluate(MutableAttributeMap.class)),
+					parser.parseExpression("flowScope.input" + i,
+							new FluentParserContext().evaluate(RequestContext.class))));
+		}
+		legacyInputMapper = mapper;
+
+		input = new LocalAttributeMap<>();
+		for (int i = 0; i < INPUT_COUNT; i++) {
+			input.put("input" + i, "value" + i);
+		}
+		context = new MockRequestContext();
+	}
+
+	@Benchmark
+	public MappingResults mapInput() {
+		return inputMapper.map(input, context);
+	}
+
+	@Benchmark
+	public MappingResults legacyMapInput() {
+		return legacyInputMapper.map(input, context);
+	}
+
+
+	private static class StaticFlowModelHolder implements FlowModelHolder {
+
+		private final FlowModel model;
+
+		StaticFlowModelHolder(FlowModel model) {
+			this.model = model;
+		}
+
+		public FlowModel getFlowModel() {
+			return model;
+		}
+
+		public Resource getFlowModelResource() {
+			return new ClassPathResource("", getClass());
+		}
+
+		public boolean hasFlowModelChanged() {
+			return false;
+		}
+
+		public void refresh() {
+		}
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.webflow.definition.FlowDefinition;
+import org.springframework.webflow.definition.StateDefinition;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+
+/**
+ * Cost of the flow definition and state lookups done for every flow execution request: locating the flow definition
+ * in a registry, possibly through its parent registry, and locating the current state of a restored flow execution.
+ *
+ * @see BenchmarkFlows
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowRegistryBenchmark {
+
+	@Param({ "10", "1000" })
+	public int flowCount;
+
+	@Param({ "3", "30" })
+	public int stateCount;
+
+	private FlowDefinitionRegistryImpl registry;
+
+	private String localFlowId;
+
+	private String parentFlowId;
+
+	private String lastStateId;
+
+	@Setup
+	public void setUp() {
+		FlowDefinitionRegistryImpl parent = new FlowDefinitionRegistryImpl();
+		registry = new FlowDefinitionRegistryImpl();
+		registry.setParent(parent);
+		for (int i = 0; i < flowCount; i++) {
+			registry.registerFlowDefinition(BenchmarkFlows.createFlow("flow" + i, stateCount, 0));
+			parent.registerFlowDefinition(BenchmarkFlows.createFlow("parentFlow" + i, stateCount, 0));
+		}
+		localFlowId = "flow" + (flowCount - 1);
+		parentFlowId = "parentFlow" + (flowCount - 1);
+		lastStateId = "view" + (stateCount - 1);
+	}
+
+	@Benchmark
+	public FlowDefinition getFlowDefinition() {
+		return registry.getFlowDefinition(localFlowId);
+	}
+
+	@Benchmark
+	public FlowDefinition getParentFlowDefinition() {
+		return registry.getFlowDefinition(parentFlowId);
+	}
+
+	@Benchmark
+	public boolean containsUnknownFlowDefinition() {
+		return registry.containsFlowDefinition("unknown");
+	}
+
+	@Benchmark
+	public StateDefinition getState() {
+		return registry.getFlowDefinition(localFlowId).getState(lastStateId);
+	}
+
+}
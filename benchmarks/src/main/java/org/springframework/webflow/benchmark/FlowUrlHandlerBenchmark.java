@@ -0,0 +1,143 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.webflow.context.servlet.DefaultFlowUrlHandler;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+
+/**
+ * Cost of creating flow URLs with {@link DefaultFlowUrlHandler}, as done for every paused flow execution response and
+ * every rendered form action. The <code>legacy*</code> benchmarks create the same URLs as previously done: through a
+ * new string builder, encoding every parameter with {@link URLEncoder}. Run with <code>-prof gc</code> to compare
+ * allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowUrlHandlerBenchmark {
+
+	private DefaultFlowUrlHandler urlHandler;
+
+	private MockHttpServletRequest request;
+
+	private LocalAttributeMap<Object> input;
+
+	@Setup
+	public void setUp() {
+		urlHandler = new DefaultFlowUrlHandler();
+		request = new MockHttpServletRequest();
+		request.setContextPath("/springtravel");
+		request.setServletPath("/app");
+		request.setPathInfo("/hotels/booking");
+		request.setRequestURI("/springtravel/app/hotels/booking");
+		input = new LocalAttributeMap<>(new LinkedHashMap<>());
+		input.put("hotelId", 42);
+		input.put("searchString", "Atlanta");
+	}
+
+	@Benchmark
+	public String flowExecutionUrl() {
+		return urlHandler.createFlowExecutionUrl("hotels/booking", "e12s3", request);
+	}
+
+	@Benchmark
+	public String legacyFlowExecutionUrl() {
+		StringBuilder url = new StringBuilder();
+		url.append(request.getRequestURI());
+		url.append('?');
+		appendQueryParameter(url, "execution", "e12s3", getEncodingScheme());
+		return url.toString();
+	}
+
+	@Benchmark
+	public String flowDefinitionUrl() {
+		return urlHandler.createFlowDefinitionUrl("hotels/search", null, request);
+	}
+
+	@Benchmark
+	public String legacyFlowDefinitionUrl() {
+		return legacyCreateFlowDefinitionUrl("hotels/search", null);
+	}
+
+	@Benchmark
+	public String flowDefinitionUrlWithInput() {
+		return urlHandler.createFlowDefinitionUrl("hotels/search", input, request);
+	}
+
+	@Benchmark
+	public String legacyFlowDefinitionUrlWithInput() {
+		return legacyCreateFlowDefinitionUrl("hotels/search", input.asMap());
+	}
+
+	// the previous implementation, for comparison
+
+	private String legacyCreateFlowDefinitionUrl(String flowId, Map<String, Object> input) {
+		StringBuilder url = new StringBuilder();
+		url.append(request.getContextPath());
+		url.append(request.getServletPath());
+		url.append('/');
+		url.append(flowId);
+		if (input != null && !input.isEmpty()) {
+			url.append('?');
+			String encodingScheme = getEncodingScheme();
+			Iterator<Map.Entry<String, Object>> entries = input.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<String, Object> entry = entries.next();
+				appendQueryParameter(url, entry.getKey(), entry.getValue(), encodingScheme);
+				if (entries.hasNext()) {
+					url.append('&');
+				}
+			}
+		}
+		return url.toString();
+	}
+
+	private String getEncodingScheme() {
+		String encodingScheme = request.getCharacterEncoding();
+		return encodingScheme != null ? encodingScheme : "ISO-8859-1";
+	}
+
+	private void appendQueryParameter(StringBuilder url, Object key, Object value, String encodingScheme) {
+		try {
+			url.append(URLEncoder.encode(key.toString(), encodingScheme)).append('=')
+					.append(URLEncoder.encode(value.toString(), encodingScheme));
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+}
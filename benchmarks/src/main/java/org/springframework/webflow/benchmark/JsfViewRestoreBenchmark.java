@@ -0,0 +1,192 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.faces.FactoryFinder;
+import jakarta.faces.application.ApplicationFactory;
+import jakarta.faces.application.ViewHandler;
+import jakarta.faces.application.ViewHandlerWrapper;
+import jakarta.faces.component.UIForm;
+import jakarta.faces.component.UIInput;
+import jakarta.faces.component.UIOutput;
+import jakarta.faces.component.UIPanel;
+import jakarta.faces.component.UIViewRoot;
+import jakarta.faces.component.visit.VisitContext;
+import jakarta.faces.component.visit.VisitHint;
+import jakarta.faces.component.visit.VisitResult;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.FacesContextFactory;
+import jakarta.faces.event.ComponentSystemEvent;
+import jakarta.faces.event.PostRestoreStateEvent;
+import jakarta.faces.lifecycle.Lifecycle;
+import jakarta.faces.lifecycle.LifecycleFactory;
+import org.apache.myfaces.test.mock.MockApplicationFactory;
+import org.apache.myfaces.test.mock.MockFacesContext;
+import org.apache.myfaces.test.mock.MockFacesContextFactory;
+import org.apache.myfaces.test.mock.MockHttpServletRequest;
+import org.apache.myfaces.test.mock.MockHttpServletResponse;
+import org.apache.myfaces.test.mock.MockPartialViewContextFactory;
+import org.apache.myfaces.test.mock.MockRenderKitFactory;
+import org.apache.myfaces.test.mock.MockServletContext;
+import org.apache.myfaces.test.mock.lifecycle.MockLifecycleFactory;
+import org.apache.myfaces.test.mock.visit.MockVisitContextFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.faces.webflow.JsfViewFactory;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.ViewState;
+import org.springframework.webflow.execution.RequestContextHolder;
+import org.springframework.webflow.execution.View;
+import org.springframework.webflow.test.MockRequestControlContext;
+
+/**
+ * Cost of restoring a large JSF view with {@link JsfViewFactory}, as done for every postback to a flow view. The
+ * synthetic view is made of rows of input and output components, a few of which handle the PostRestoreStateEvent.
+ * The <code>legacy*</code> benchmark restores the view as previously done: followed by a visit of the whole component
+ * tree delivering the PostRestoreStateEvent to every component.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsfViewRestoreBenchmark {
+
+	private static final String VIEW_ID = "/large.xhtml";
+
+	@Param({ "1000", "10000" })
+	public int componentCount;
+
+	private FacesContext facesContext;
+
+	private MockRequestControlContext requestContext;
+
+	private JsfViewFactory viewFactory;
+
+	@Setup
+	public void setUp() {
+		FactoryFinder.setFactory(FactoryFinder.APPLICATION_FACTORY, MockApplicationFactory.class.getName());
+		FactoryFinder.setFactory(FactoryFinder.FACES_CONTEXT_FACTORY, MockFacesContextFactory.class.getName());
+		FactoryFinder.setFactory(FactoryFinder.LIFECYCLE_FACTORY, MockLifecycleFactory.class.getName());
+		FactoryFinder.setFactory(FactoryFinder.RENDER_KIT_FACTORY, MockRenderKitFactory.class.getName());
+		FactoryFinder.setFactory(FactoryFinder.PARTIAL_VIEW_CONTEXT_FACTORY,
+				MockPartialViewContextFactory.class.getName());
+		FactoryFinder.setFactory(FactoryFinder.VISIT_CONTEXT_FACTORY, MockVisitContextFactory.class.getName());
+		Lifecycle lifecycle = ((LifecycleFactory) FactoryFinder.getFactory(FactoryFinder.LIFECYCLE_FACTORY))
+				.getLifecycle(LifecycleFactory.DEFAULT_LIFECYCLE);
+		MockServletContext servletContext = new MockServletContext();
+		facesContext = ((FacesContextFactory) FactoryFinder.getFactory(FactoryFinder.FACES_CONTEXT_FACTORY))
+				.getFacesContext(servletContext, new MockHttpServletRequest(), new MockHttpServletResponse(), lifecycle);
+		((MockFacesContext) facesContext).setApplication(
+				((ApplicationFactory) FactoryFinder.getFactory(FactoryFinder.APPLICATION_FACTORY)).getApplication());
+		UIViewRoot viewRoot = createViewRoot();
+		ViewHandler viewHandler = facesContext.getApplication().getViewHandler();
+		facesContext.getApplication().setViewHandler(new ViewHandlerWrapper(viewHandler) {
+			public UIViewRoot restoreView(FacesContext context, String viewId) {
+				return viewRoot;
+			}
+		});
+
+		viewFactory = new JsfViewFactory(new StaticExpression(VIEW_ID), lifecycle);
+		Flow flow = new Flow("flow");
+		requestContext = new MockRequestControlContext(flow);
+		requestContext.setCurrentState(new ViewState(flow, "view", viewFactory));
+		RequestContextHolder.setRequestContext(requestContext);
+	}
+
+	@TearDown
+	public void tearDown() {
+		RequestContextHolder.setRequestContext(null);
+		facesContext.release();
+		FactoryFinder.releaseFactories();
+	}
+
+	@Setup(Level.Invocation)
+	public void clearViewRoot() {
+		facesContext.setViewRoot(null);
+		facesContext.getAttributes().clear();
+	}
+
+	@Benchmark
+	public View restoreView() {
+		return viewFactory.getView(requestContext);
+	}
+
+	@Benchmark
+	public View legacyRestoreView() {
+		View view = viewFactory.getView(requestContext);
+		VisitContext visitContext = VisitContext.createVisitContext(facesContext, null,
+				EnumSet.of(VisitHint.SKIP_ITERATION));
+		PostRestoreStateEvent event = new PostRestoreStateEvent(facesContext.getViewRoot());
+		facesContext.getViewRoot().visitTree(visitContext, (context, target) -> {
+			event.setComponent(target);
+			target.processEvent(event);
+			return VisitResult.ACCEPT;
+		});
+		return view;
+	}
+
+	/**
+	 * Creates a form with rows of ten components, one row out of a hundred holding a component handling the
+	 * PostRestoreStateEvent.
+	 */
+	private UIViewRoot createViewRoot() {
+		UIViewRoot viewRoot = new UIViewRoot();
+		viewRoot.setViewId(VIEW_ID);
+		UIForm form = new UIForm();
+		form.setId("form");
+		viewRoot.getChildren().add(form);
+		for (int row = 0; row < componentCount / 10; row++) {
+			UIPanel panel = new UIPanel();
+			form.getChildren().add(panel);
+			for (int i = 0; i < 5; i++) {
+				panel.getChildren().add(new UIOutput());
+				panel.getChildren().add(row % 100 == 0 && i == 0 ? new PostRestoreStateAwareInput() : new UIInput());
+			}
+		}
+		return viewRoot;
+	}
+
+
+	private static class PostRestoreStateAwareInput extends UIInput {
+
+		private int postRestoreStateEvents;
+
+		public void processEvent(ComponentSystemEvent event) {
+			if (event instanceof PostRestoreStateEvent) {
+				postRestoreStateEvents++;
+			}
+			super.processEvent(event);
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.convert.service.DefaultConversionService;
+import org.springframework.webflow.core.collection.LocalParameterMap;
+
+/**
+ * Request parameter binding throughput of {@link LocalParameterMap#get(String, Class)}. The <code>defaultService</code>
+ * benchmark uses the default conversion service, which converts common target types through specialized executors.
+ * The <code>genericService</code> benchmark uses a separate conversion service instance, so parameters are converted by
+ * the executor the conversion service resolves for the target type, which is cached after the first lookup, and which
+ * delegates to the Spring conversion service. Types without a specialized executor, such as <code>LocalDate</code>,
+ * take that path in both benchmarks.
+ * <p>
+ * Neither benchmark measures the conversion service as it was before executor lookups were cached, when every
+ * conversion resolved and created a new executor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalParameterMapBenchmark {
+
+	@Param({ "Integer", "Long", "Boolean", "Enum", "LocalDate" })
+	public String targetType;
+
+	private LocalParameterMap defaultServiceParameters;
+
+	private LocalParameterMap genericServiceParameters;
+
+	private Class<?> type;
+
+	@Setup
+	public void setUp() {
+		Map<String, Object> parameters = new HashMap<>();
+		switch (targetType) {
+		case "Integer":
+			parameters.put("value", "12345");
+			type = Integer.class;
+			break;
+		case "Long":
+			parameters.put("value", "1234567890123");
+			type = Long.class;
+			break;
+		case "Boolean":
+			parameters.put("value", "true");
+			type = Boolean.class;
+			break;
+		case "Enum":
+			parameters.put("value", "SECONDS");
+			type = TimeUnit.class;
+			break;
+		case "LocalDate":
+			parameters.put("value", "2026-10-19");
+			type = LocalDate.class;
+			break;
+		default:
+			throw new IllegalArgumentException(targetType);
+		}
+		defaultServiceParameters = new LocalParameterMap(parameters);
+		genericServiceParameters = new LocalParameterMap(parameters, new DefaultConversionService());
+	}
+
+	@Benchmark
+	public Object defaultService() {
+		return defaultServiceParameters.get("value", type);
+	}
+
+	@Benchmark
+	public Object genericService() {
+		return genericServiceParameters.get("value", type);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.message.DefaultMessageContext;
+import org.springframework.binding.message.Message;
+import org.springframework.binding.message.MessageBuilder;
+
+/**
+ * Cost of saving the messages of a request as flash scope memento, as done by every flow execution request. Compares
+ * the memento created by {@link DefaultMessageContext} with the map memento created previously, which is what
+ * <code>legacy*</code> benchmarks build. Run with <code>-prof gc</code> to compare allocation; the serialize benchmarks
+ * report the serialized size of the memento as the <code>mementoBytes</code> secondary result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesMementoBenchmark {
+
+	@Param({ "0", "3" })
+	public int messageCount;
+
+	private Serializable memento;
+
+	private Serializable legacyMemento;
+
+	private int mementoBytes;
+
+	private int legacyMementoBytes;
+
+	@Setup
+	public void setUp() throws IOException {
+		DefaultMessageContext context = createMessageContext();
+		memento = context.createMessagesMemento();
+		legacyMemento = createLegacyMemento(context);
+		mementoBytes = serialize(memento);
+		legacyMementoBytes = serialize(legacyMemento);
+	}
+
+	@Benchmark
+	public Serializable createMemento() {
+		return createMessageContext().createMessagesMemento();
+	}
+
+	@Benchmark
+	public Serializable legacyCreateMemento() {
+		return createLegacyMemento(createMessageContext());
+	}
+
+	@Benchmark
+	public int serializeMemento(MementoSize size) throws IOException {
+		size.mementoBytes = mementoBytes;
+		return serialize(memento);
+	}
+
+	@Benchmark
+	public int legacySerializeMemento(MementoSize size) throws IOException {
+		size.mementoBytes = legacyMementoBytes;
+		return serialize(legacyMemento);
+	}
+
+	private DefaultMessageContext createMessageContext() {
+		DefaultMessageContext context = new DefaultMessageContext();
+		for (int i = 0; i < messageCount; i++) {
+			context.addMessage(new MessageBuilder().error().source("field" + i).defaultText("Invalid value").build());
+		}
+		return context;
+	}
+
+	/**
+	 * Builds the memento as previously created: a copy of the message lists indexed by source, including the eagerly
+	 * created list of the <code>null</code> source.
+	 */
+	private Serializable createLegacyMemento(DefaultMessageContext context) {
+		LinkedHashMap<Object, List<Message>> memento = new LinkedHashMap<>();
+		memento.put(null, new ArrayList<>());
+		for (Message message : context.getAllMessages()) {
+			memento.computeIfAbsent(message.getSource(), source -> new ArrayList<>()).add(message);
+		}
+		return memento;
+	}
+
+	private int serialize(Serializable object) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		return bytes.size();
+	}
+
+	/**
+	 * Reports the size of the serialized memento along with the benchmark results.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class MementoSize {
+
+		public long mementoBytes;
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.mvc.servlet.ServletMvcView;
+import org.springframework.webflow.mvc.view.AbstractMvcView;
+import org.springframework.webflow.test.MockRequestControlContext;
+
+/**
+ * Cost of binding a form submission to the flow model with {@link AbstractMvcView}, as done when resuming a Spring MVC
+ * view state. The form edits an order with a number of items, and is bound with the default binding, and with the
+ * indexed collection binding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MvcViewBindingBenchmark {
+
+	@Param({ "10", "100" })
+	public int itemCount;
+
+	private final WebFlowSpringELExpressionParser expressionParser =
+			new WebFlowSpringELExpressionParser(new SpelExpressionParser());
+
+	private MockRequestControlContext context;
+
+	@Setup
+	public void setUp() {
+		context = new MockRequestControlContext();
+		context.putRequestParameter("_eventId", "submit");
+		context.putRequestParameter("name", "order");
+		for (int i = 0; i < itemCount; i++) {
+			context.putRequestParameter("items[" + i + "].name", "item" + i);
+			context.putRequestParameter("items[" + i + "].quantity", String.valueOf(i));
+		}
+		BenchmarkFlows.Order order = BenchmarkFlows.createOrder(0, itemCount);
+		StaticExpression model = new StaticExpression(order);
+		model.setExpressionString("order");
+		context.getCurrentState().getAttributes().put("model", model);
+		context.getFlowScope().put("order", order);
+	}
+
+	@Benchmark
+	public AbstractMvcView bind() {
+		return processUserEvent(false);
+	}
+
+	@Benchmark
+	public AbstractMvcView bindIndexed() {
+		return processUserEvent(true);
+	}
+
+	private AbstractMvcView processUserEvent(boolean indexedCollectionBinding) {
+		AbstractMvcView view = new ServletMvcView((model, request, response) -> {}, context);
+		view.setExpressionParser(expressionParser);
+		view.setIndexedCollectionBinding(indexedCollectionBinding);
+		view.processUserEvent();
+		return view;
+	}
+
+}
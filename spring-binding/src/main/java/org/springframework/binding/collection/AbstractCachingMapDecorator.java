@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,9 @@ import org.springframework.util.Assert;
  * This class is an abstract template. Caching Map implementations should
  * subclass and override the <code>create(key)</code> method which encapsulates
  * expensive creation of a new object.
+ * <p>
+ * Access to the default synchronized target Map is serialized across threads. For caches on concurrently used lookup
+ * paths, prefer {@link ConcurrentCache}.
  *
  * @author Keith Donald
  * @author Juergen Hoeller
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.collection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A thread-safe cache of expensive to create values, backed by a {@link ConcurrentHashMap}.
+ * <p>
+ * Values are created on demand by a factory function with compute-if-absent semantics: concurrent lookups of the same
+ * missing key create the value only once, while lookups of different keys never block each other. Unlike
+ * {@link AbstractCachingMapDecorator}, lookups of cached values do not acquire any monitor.
+ * <p>
+ * The cache optionally holds its keys weakly, so that entries are dropped once a key (typically a key referencing a
+ * {@link Class}) is no longer strongly reachable. A maximum size may also be configured, in which case the eldest
+ * entries are evicted, approximately in insertion order, once the limit is exceeded. Hit, miss and eviction counts are
+ * recorded and exposed for monitoring purposes.
+ *
+ * @since 4.0.2
+ */
+public class ConcurrentCache<K, V> {
+
+	private static final Object NULL_VALUE = new Object();
+
+
+	private final ConcurrentMap<Object, Object> targetMap;
+
+	private final Function<? super K, ? extends V> factory;
+
+	private final int maxSize;
+
+	private final boolean weakKeys;
+
+	private final ReferenceQueue<K> queue;
+
+	private final Queue<Object> insertionOrder;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+
+	/**
+	 * Create an unbounded cache with strong keys.
+	 * @param factory the function creating the value for a key not cached yet
+	 */
+	public ConcurrentCache(Function<? super K, ? extends V> factory) {
+		this(factory, 0, false);
+	}
+
+	/**
+	 * Create a cache.
+	 * @param factory the function creating the value for a key not cached yet
+	 * @param maxSize the maximum number of entries to keep, or 0 for an unbounded cache
+	 * @param weakKeys whether to reference keys weakly
+	 */
+	public ConcurrentCache(Function<? super K, ? extends V> factory, int maxSize, boolean weakKeys) {
+		Assert.notNull(factory, "The value factory is required");
+		Assert.isTrue(maxSize >= 0, "The maximum cache size must not be negative");
+		this.targetMap = new ConcurrentHashMap<>(maxSize > 0 ? Math.min(maxSize, 256) : 16);
+		this.factory = factory;
+		this.maxSize = maxSize;
+		this.weakKeys = weakKeys;
+		this.queue = (weakKeys ? new ReferenceQueue<>() : null);
+		this.insertionOrder = (maxSize > 0 ? new ConcurrentLinkedQueue<>() : null);
+	}
+
+
+	/**
+	 * Get the value for the given key, creating and caching it if it does not exist in the cache yet.
+	 * @param key the cache key
+	 * @return the cached value, possibly <code>null</code> if the factory returned <code>null</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(K key) {
+		Assert.notNull(key, "The cache key is required");
+		Object value = this.targetMap.get(lookupKey(key));
+		if (value != null) {
+			this.hitCount.increment();
+			return (value == NULL_VALUE ? null : (V) value);
+		}
+		purgeStaleKeys();
+		Object internalKey = storedKey(key);
+		boolean[] created = new boolean[1];
+		value = this.targetMap.computeIfAbsent(internalKey, k -> {
+			created[0] = true;
+			V newValue = this.factory.apply(key);
+			return (newValue != null ? newValue : NULL_VALUE);
+		});
+		if (created[0]) {
+			this.missCount.increment();
+			entryAdded(internalKey);
+		}
+		else {
+			this.hitCount.increment();
+		}
+		return (value == NULL_VALUE ? null : (V) value);
+	}
+
+	/**
+	 * Get the value for the given key if it is cached, without creating it.
+	 * @param key the cache key
+	 * @return the cached value, or <code>null</code> if not cached
+	 */
+	@SuppressWarnings("unchecked")
+	public V getIfPresent(K key) {
+		Object value = this.targetMap.get(lookupKey(key));
+		return (value == null || value == NULL_VALUE ? null : (V) value);
+	}
+
+	/**
+	 * Put a value into the cache, replacing any value previously cached for the key.
+	 * @param key the cache key
+	 * @param value the value to cache, may be <code>null</code>
+	 */
+	public void put(K key, V value) {
+		Assert.notNull(key, "The cache key is required");
+		purgeStaleKeys();
+		Object internalKey = storedKey(key);
+		if (this.targetMap.put(internalKey, (value != null ? value : NULL_VALUE)) == null) {
+			entryAdded(internalKey);
+		}
+	}
+
+	/**
+	 * Remove the value cached for the given key, if any.
+	 * @param key the cache key
+	 */
+	public void remove(K key) {
+		this.targetMap.remove(lookupKey(key));
+	}
+
+	/**
+	 * Remove all entries from the cache. Recorded statistics are preserved.
+	 */
+	public void clear() {
+		this.targetMap.clear();
+		if (this.insertionOrder != null) {
+			this.insertionOrder.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of entries currently cached.
+	 */
+	public int size() {
+		purgeStaleKeys();
+		return this.targetMap.size();
+	}
+
+	/**
+	 * Returns the maximum number of entries kept by this cache, or 0 if unbounded.
+	 */
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	/**
+	 * Returns whether this cache references its keys weakly.
+	 */
+	public boolean isWeakKeys() {
+		return this.weakKeys;
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached value.
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that had to create a value.
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Returns the number of entries evicted because the maximum size was exceeded.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	// internal helpers
+
+	private Object lookupKey(K key) {
+		return (this.weakKeys ? new WeakKey<>(key, null) : key);
+	}
+
+	private Object storedKey(K key) {
+		// stored keys are registered against the queue so that collected entries can be purged
+		return (this.weakKeys ? new WeakKey<>(key, this.queue) : key);
+	}
+
+	private void entryAdded(Object internalKey) {
+		if (this.insertionOrder != null) {
+			this.insertionOrder.add(internalKey);
+			evictIfNecessary();
+		}
+	}
+
+	private void evictIfNecessary() {
+		while (this.targetMap.size() > this.maxSize) {
+			Object eldest = this.insertionOrder.poll();
+			if (eldest == null) {
+				return;
+			}
+			if (this.targetMap.remove(eldest) != null) {
+				this.evictionCount.increment();
+			}
+		}
+	}
+
+	private void purgeStaleKeys() {
+		if (this.queue != null) {
+			Reference<? extends K> ref;
+			while ((ref = this.queue.poll()) != null) {
+				this.targetMap.remove(ref);
+			}
+		}
+	}
+
+	public String toString() {
+		return "ConcurrentCache [size = " + this.targetMap.size() + ", hits = " + getHitCount() + ", misses = "
+				+ getMissCount() + ", evictions = " + getEvictionCount() + "]";
+	}
+
+	/**
+	 * A weakly referenced key, comparing equal to any other weak key with an equal referent.
+	 */
+	private static class WeakKey<K> extends WeakReference<K> {
+
+		private final int hashCode;
+
+		WeakKey(K key, ReferenceQueue<? super K> queue) {
+			super(key, queue);
+			this.hashCode = key.hashCode();
+		}
+
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof WeakKey)) {
+				return false;
+			}
+			Object key = get();
+			return (key != null && ObjectUtils.nullSafeEquals(key, ((WeakKey<?>) other).get()));
+		}
+
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.collection;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hands out a {@link Lock} per mutex object, such as the mutex of a {@link SharedMap}, for code that must serialize
+ * work on a shared object without synchronizing on its mutex. Unlike a <code>synchronized</code> block, waiting for or
+ * holding such a lock does not pin the carrier thread of a virtual thread.
+ * <p>
+ * Locks are only exclusive among callers using this class: code synchronizing on the mutex itself is not excluded.
+ * Like a monitor, a lock belongs to the mutex instance, not to its value: mutexes are matched by identity, so a mutex
+ * that is itself a mutable map keeps its lock when modified. Mutex objects are referenced weakly, so a lock is
+ * discarded along with its mutex, typically when the HTTP session providing it ends.
+ *
+ * Example usage:
+ *
+ * <pre>
+ * Lock lock = MutexLocks.getLock(sharedMap.getMutex());
+ * lock.lock();
+ * try {
+ * 	// do synchronized work
+ * } finally {
+ * 	lock.unlock();
+ * }
+ * </pre>
+ *
+ * @since 4.0.2
+ */
+public final class MutexLocks {
+
+	private static final ConcurrentMap<MutexKey, Lock> locks = new ConcurrentHashMap<>();
+
+	private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	private MutexLocks() {
+	}
+
+	/**
+	 * Returns the lock associated with the given mutex, creating it if necessary. The same lock is returned for the
+	 * same mutex as long as the mutex is referenced.
+	 * @param mutex the mutex, never <code>null</code>
+	 * @return the lock for the mutex
+	 */
+	public static Lock getLock(Object mutex) {
+		Assert.notNull(mutex, "The mutex is required");
+		Lock lock = locks.get(new MutexKey(mutex, null));
+		if (lock != null) {
+			return lock;
+		}
+		purgeStaleKeys();
+		return locks.computeIfAbsent(new MutexKey(mutex, queue), key -> new ReentrantLock());
+	}
+
+	private static void purgeStaleKeys() {
+		Reference<?> ref;
+		while ((ref = queue.poll()) != null) {
+			locks.remove(ref);
+		}
+	}
+
+
+	/**
+	 * A weakly referenced mutex, comparing equal to any other key referencing the same mutex instance.
+	 */
+	private static class MutexKey extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		MutexKey(Object mutex, ReferenceQueue<Object> queue) {
+			super(mutex, queue);
+			this.hashCode = System.identityHashCode(mutex);
+		}
+
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof MutexKey)) {
+				return false;
+			}
+			Object mutex = get();
+			return (mutex != null && mutex == ((MutexKey) other).get());
+		}
+
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  * 
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.binding.convert.ConversionException;
 import org.springframework.binding.convert.ConversionExecutor;
@@ -60,6 +61,12 @@ public class GenericConversionService implements ConversionService {
 	 */
 	private final Map<String, Class<?>> aliasMap = new HashMap<>();
 
+	/**
+	 * Conversion executors resolved against the delegate, indexed by source and target class. Executors delegate to the
+	 * Spring ConversionService on execution, so they remain valid as long as no converters are added.
+	 */
+	private final Map<Class<?>, Map<Class<?>, ConversionExecutor>> conversionExecutorCache = new ConcurrentHashMap<>();
+
 	/**
 	 * An optional parent conversion service.
 	 */
@@ -121,6 +128,7 @@ public class GenericConversionService implements ConversionService {
 			((ConverterRegistry) delegate).addConverter(new SpringBindingConverterAdapter(new ReverseConverter(
 					twoWayConverter)));
 		}
+		conversionExecutorCache.clear();
 	}
 
 	/**
@@ -150,12 +158,17 @@ public class GenericConversionService implements ConversionService {
 		Assert.notNull(targetClass, "The target class to convert to is required");
 		sourceClass = convertToWrapperClassIfNecessary(sourceClass);
 		targetClass = convertToWrapperClassIfNecessary(targetClass);
-		if (targetClass.isAssignableFrom(sourceClass)) {
-			return new StaticConversionExecutor(sourceClass, targetClass, new NoOpConverter(sourceClass, targetClass));
+		Map<Class<?>, ConversionExecutor> executors = conversionExecutorCache.computeIfAbsent(sourceClass,
+				key -> new ConcurrentHashMap<>());
+		ConversionExecutor executor = executors.get(targetClass);
+		if (executor == null) {
+			executor = createConversionExecutor(sourceClass, targetClass);
+			if (executor != null) {
+				executors.put(targetClass, executor);
+			}
 		}
-		if (delegate.canConvert(sourceClass, targetClass)) {
-			return new StaticConversionExecutor(sourceClass, targetClass, new SpringConvertingConverterAdapter(
-					sourceClass, targetClass, delegate));
+		if (executor != null) {
+			return executor;
 		} else if (parent != null) {
 			return parent.getConversionExecutor(sourceClass, targetClass);
 		} else {
@@ -370,6 +383,22 @@ public class GenericConversionService implements ConversionService {
 
 	// internal helpers
 
+	/**
+	 * Create the conversion executor for the given source and target class, if this service can convert between them
+	 * without delegating to its parent.
+	 * @return the conversion executor, or <code>null</code> if the delegate cannot perform the conversion
+	 */
+	private ConversionExecutor createConversionExecutor(Class<?> sourceClass, Class<?> targetClass) {
+		if (targetClass.isAssignableFrom(sourceClass)) {
+			return new StaticConversionExecutor(sourceClass, targetClass, new NoOpConverter(sourceClass, targetClass));
+		}
+		if (delegate.canConvert(sourceClass, targetClass)) {
+			return new StaticConversionExecutor(sourceClass, targetClass, new SpringConvertingConverterAdapter(
+					sourceClass, targetClass, delegate));
+		}
+		return null;
+	}
+
 	private Class<?> convertToWrapperClassIfNecessary(Class<?> targetType) {
 		if (targetType.isPrimitive()) {
 			if (targetType.equals(int.class)) {
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.convert.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.binding.convert.ConversionExecutionException;
+import org.springframework.binding.convert.ConversionExecutor;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * A dispatch table of specialized conversion executors converting strings to common target types: strings, numbers,
+ * booleans, characters and enums. The conversions performed are equivalent to those of the default Spring converters
+ * registered with the delegate of a {@link DefaultConversionService} created with its default constructor, but they
+ * are invoked directly instead of through the generic Spring conversion service, and lookups never allocate.
+ * <p>
+ * Only use these executors where the string conversion rules of a default {@link DefaultConversionService} apply, that
+ * is where no custom converters for the supported target types can have been registered.
+ *
+ * @since 4.0.2
+ */
+public final class StringConversionExecutors {
+
+	private static final ClassValue<ConversionExecutor> EXECUTORS = new ClassValue<ConversionExecutor>() {
+		protected ConversionExecutor computeValue(Class<?> type) {
+			return createConversionExecutor(ClassUtils.resolvePrimitiveIfNecessary(type));
+		}
+	};
+
+	private StringConversionExecutors() {
+	}
+
+	/**
+	 * Returns the conversion executor converting strings to the given target type, if the target type is supported.
+	 * @param targetClass the target type, may be a primitive type
+	 * @return the conversion executor, or <code>null</code> if the target type is not supported
+	 */
+	public static ConversionExecutor getConversionExecutor(Class<?> targetClass) {
+		return EXECUTORS.get(targetClass);
+	}
+
+	private static ConversionExecutor createConversionExecutor(Class<?> targetClass) {
+		if (targetClass == String.class) {
+			return new StringConversionExecutor(String.class, string -> string);
+		} else if (targetClass == Integer.class) {
+			return new StringConversionExecutor(Integer.class, string -> isPlainNumber(string) ? Integer
+					.valueOf(string) : NumberUtils.parseNumber(string, Integer.class));
+		} else if (targetClass == Long.class) {
+			return new StringConversionExecutor(Long.class, string -> isPlainNumber(string) ? Long.valueOf(string)
+					: NumberUtils.parseNumber(string, Long.class));
+		} else if (targetClass == Short.class || targetClass == Byte.class || targetClass == Float.class
+				|| targetClass == Double.class || targetClass == BigInteger.class || targetClass == BigDecimal.class) {
+			return new NumberConversionExecutor(targetClass.asSubclass(Number.class));
+		} else if (targetClass == Boolean.class) {
+			return new StringConversionExecutor(Boolean.class, StringConversionExecutors::toBoolean);
+		} else if (targetClass == Character.class) {
+			return new StringConversionExecutor(Character.class, StringConversionExecutors::toCharacter);
+		} else if (targetClass.isEnum()) {
+			return new EnumConversionExecutor(targetClass);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Whether the string can be parsed as a decimal number without the whitespace trimming and hex decoding applied by
+	 * {@link NumberUtils#parseNumber(String, Class)}.
+	 */
+	private static boolean isPlainNumber(String string) {
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if ((c < '0' || c > '9') && c != '-' && c != '+') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Boolean toBoolean(String string) {
+		switch (string) {
+		case "true":
+		case "on":
+		case "yes":
+		case "1":
+			return Boolean.TRUE;
+		case "false":
+		case "off":
+		case "no":
+		case "0":
+			return Boolean.FALSE;
+		default:
+			String value = string.trim().toLowerCase(Locale.ROOT);
+			if (value.isEmpty()) {
+				return null;
+			} else if (value.equals("true") || value.equals("on") || value.equals("yes") || value.equals("1")) {
+				return Boolean.TRUE;
+			} else if (value.equals("false") || value.equals("off") || value.equals("no") || value.equals("0")) {
+				return Boolean.FALSE;
+			} else {
+				throw new IllegalArgumentException("Invalid boolean value '" + string + "'");
+			}
+		}
+	}
+
+	private static Character toCharacter(String string) {
+		if (string.length() > 1) {
+			throw new IllegalArgumentException("Can only convert a [String] with length of 1 to a [Character]; "
+					+ "string value '" + string + "'  has length of " + string.length());
+		}
+		return string.charAt(0);
+	}
+
+	/**
+	 * Base conversion executor: empty strings convert to <code>null</code>, and conversion failures are reported the
+	 * same way as by a {@link StaticConversionExecutor} delegating to the Spring conversion service.
+	 */
+	private static class StringConversionExecutor implements ConversionExecutor {
+
+		private final Class<?> targetClass;
+
+		private final Function<String, Object> parser;
+
+		StringConversionExecutor(Class<?> targetClass, Function<String, Object> parser) {
+			this.targetClass = targetClass;
+			this.parser = parser;
+		}
+
+		public Class<?> getSourceClass() {
+			return String.class;
+		}
+
+		public Class<?> getTargetClass() {
+			return targetClass;
+		}
+
+		public Object execute(Object source) throws ConversionExecutionException {
+			if (source == null || (source instanceof String && ((String) source).isEmpty()
+					&& targetClass != String.class)) {
+				return null;
+			}
+			if (!(source instanceof String)) {
+				throw new ConversionExecutionException(source, String.class, targetClass, "Source object " + source
+						+ " to convert is expected to be an instance of [" + String.class.getName() + "]");
+			}
+			try {
+				return parser.apply((String) source);
+			} catch (RuntimeException e) {
+				ConversionFailedException failure = new ConversionFailedException(TypeDescriptor.valueOf(String.class),
+						TypeDescriptor.valueOf(targetClass), source, e);
+				throw new ConversionExecutionException(source, String.class, targetClass, failure);
+			}
+		}
+
+		public String toString() {
+			return "[StringConversionExecutor to " + targetClass.getName() + "]";
+		}
+	}
+
+	private static class NumberConversionExecutor extends StringConversionExecutor {
+
+		NumberConversionExecutor(Class<? extends Number> targetClass) {
+			super(targetClass, string -> NumberUtils.parseNumber(string, targetClass));
+		}
+	}
+
+	private static class EnumConversionExecutor extends StringConversionExecutor {
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		EnumConversionExecutor(Class<?> enumType) {
+			super(enumType, string -> Enum.valueOf((Class) enumType, string.trim()));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,15 @@ package org.springframework.binding.format;
 import java.text.NumberFormat;
 import java.util.Locale;
 
+import org.springframework.binding.collection.ConcurrentCache;
 import org.springframework.context.i18n.LocaleContextHolder;
 
 /**
  * Base class suitable for subclassing by most {@link NumberFormatFactory} implementations.
+ * <p>
+ * The NumberFormat created for a locale is cached and used as a prototype: each call to {@link #getNumberFormat()}
+ * returns a clone of the cached instance, which avoids the cost of locale data lookup and pattern parsing on every
+ * call while still handing each caller its own, not thread safe, NumberFormat.
  * 
  * @author Keith Donald
  */
@@ -29,6 +34,8 @@ public abstract class AbstractNumberFormatFactory implements NumberFormatFactory
 
 	private Locale locale;
 
+	private final ConcurrentCache<Locale, NumberFormat> numberFormats = new ConcurrentCache<>(this::getNumberFormat);
+
 	/**
 	 * The locale to use in formatting number values. If null, the locale associated with the current thread is used.
 	 * @see LocaleContextHolder#getLocale()
@@ -48,16 +55,25 @@ public abstract class AbstractNumberFormatFactory implements NumberFormatFactory
 
 	public final NumberFormat getNumberFormat() {
 		Locale locale = determineLocale(this.locale);
-		return getNumberFormat(locale);
+		return (NumberFormat) numberFormats.get(locale).clone();
 	}
 
 	/**
-	 * Subclasses should override to create the new NumberFormat instance.
+	 * Subclasses should override to create the new NumberFormat instance. Called once per locale; the returned instance
+	 * is cached as the prototype of the NumberFormats returned for that locale.
 	 * @param locale the locale to use
 	 * @return the number format
 	 */
 	protected abstract NumberFormat getNumberFormat(Locale locale);
 
+	/**
+	 * Discards the cached NumberFormat prototypes. Subclasses should call this when a change to their configuration
+	 * affects the NumberFormats they create.
+	 */
+	protected void clearCachedNumberFormats() {
+		numberFormats.clear();
+	}
+
 	// internal helpers
 
 	private Locale determineLocale(Locale locale) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,7 @@ public class DefaultNumberFormatFactory extends AbstractNumberFormatFactory {
 	 */
 	public void setPattern(String pattern) {
 		this.pattern = pattern;
+		clearCachedNumberFormats();
 	}
 
 	protected NumberFormat getNumberFormat(Locale locale) {
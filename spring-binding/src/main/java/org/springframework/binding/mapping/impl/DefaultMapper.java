@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  * 
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,8 @@ public class DefaultMapper implements Mapper {
 
 	private List<DefaultMapping> mappings = new ArrayList<>();
 
+	private boolean errorResultsOnly;
+
 	/**
 	 * Add a mapping to this mapper.
 	 * @param mapping the mapping to add (required)
@@ -55,19 +57,37 @@ public class DefaultMapper implements Mapper {
 		return mappings.toArray(new Mapping[mappings.size()]);
 	}
 
+	/**
+	 * Returns whether the results of this mapper only contain error results.
+	 */
+	public boolean isErrorResultsOnly() {
+		return errorResultsOnly;
+	}
+
+	/**
+	 * Sets whether the results of this mapper should only contain error results. When <code>true</code>, no result
+	 * object is created for successful mappings, which saves allocations for callers that only check
+	 * {@link MappingResults#hasErrorResults()}. Default is false.
+	 * @param errorResultsOnly whether to only record error results
+	 * @since 4.0.2
+	 */
+	public void setErrorResultsOnly(boolean errorResultsOnly) {
+		this.errorResultsOnly = errorResultsOnly;
+	}
+
 	public MappingResults map(Object source, Object target) {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Beginning mapping between source [" + source.getClass().getName() + "] and target ["
 					+ target.getClass().getName() + "]");
 		}
-		DefaultMappingContext context = new DefaultMappingContext(source, target);
+		DefaultMappingContext context = new DefaultMappingContext(source, target, errorResultsOnly);
 		for (DefaultMapping mapping : mappings) {
 			mapping.map(context);
 		}
 		MappingResults results = context.getMappingResults();
 		if (logger.isDebugEnabled()) {
 			logger.debug("Completing mapping between source [" + source.getClass().getName() + "] and target ["
-					+ target.getClass().getName() + "]; total mappings = " + results.getAllResults().size()
+					+ target.getClass().getName() + "]; total mappings = " + mappings.size()
 					+ "; total errors = " + results.getErrorResults().size());
 		}
 		return results;
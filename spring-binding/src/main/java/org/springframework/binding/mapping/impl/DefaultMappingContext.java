@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.springframework.binding.mapping.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.commons.logging.Log;
@@ -31,7 +32,8 @@ import org.springframework.binding.mapping.results.TargetAccessError;
 import org.springframework.binding.mapping.results.TypeConversionError;
 
 /**
- * Default mapping context implementation.
+ * Default mapping context implementation. May be configured to record error results only, in which case the
+ * {@link MappingResults} returned at the end of a mapping transaction contain no {@link Success} results.
  * @author Keith Donald
  * @author Scott Andrews
  */
@@ -45,12 +47,27 @@ public class DefaultMappingContext {
 
 	private Mapping currentMapping;
 
+	private final boolean errorResultsOnly;
+
 	private List<MappingResult> mappingResults;
 
 	public DefaultMappingContext(Object source, Object target) {
+		this(source, target, false);
+	}
+
+	/**
+	 * Creates a new mapping context.
+	 * @param source the object being mapped from
+	 * @param target the object being mapped to
+	 * @param errorResultsOnly whether to only record error results, skipping the creation of a result object for each
+	 * successful mapping
+	 * @since 4.0.2
+	 */
+	public DefaultMappingContext(Object source, Object target, boolean errorResultsOnly) {
 		this.source = source;
 		this.target = target;
-		this.mappingResults = new ArrayList<>();
+		this.errorResultsOnly = errorResultsOnly;
+		this.mappingResults = (errorResultsOnly ? null : new ArrayList<>());
 	}
 
 	/**
@@ -94,6 +111,10 @@ public class DefaultMappingContext {
 	 * was performed
 	 */
 	public void setSuccessResult(Object originalValue, Object mappedValue) {
+		if (errorResultsOnly) {
+			currentMapping = null;
+			return;
+		}
 		add(new Success(currentMapping, mappedValue, originalValue));
 	}
 
@@ -137,7 +158,8 @@ public class DefaultMappingContext {
 	 * @return the mapping results
 	 */
 	public MappingResults getMappingResults() {
-		return new DefaultMappingResults(source, target, mappingResults);
+		List<MappingResult> results = (mappingResults != null ? mappingResults : Collections.emptyList());
+		return new DefaultMappingResults(source, target, results);
 	}
 
 	// internal helpers
@@ -146,6 +168,9 @@ public class DefaultMappingContext {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Adding mapping result " + result);
 		}
+		if (mappingResults == null) {
+			mappingResults = new ArrayList<>(2);
+		}
 		mappingResults.add(result);
 		currentMapping = null;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,14 @@
  */
 package org.springframework.binding.message;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -25,7 +30,6 @@ import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.binding.collection.AbstractCachingMapDecorator;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.AbstractMessageSource;
@@ -34,6 +38,9 @@ import org.springframework.core.style.ToStringCreator;
 /**
  * The default message context implementation. Uses a {@link MessageSource} to resolve messages that are added by
  * callers.
+ * <p>
+ * No message storage is allocated until the first message is added, and the memento of a context without messages is
+ * the shared {@link #EMPTY_MESSAGES_MEMENTO}.
  *
  * @author Keith Donald
  */
@@ -41,16 +48,20 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 
 	private static final Log logger = LogFactory.getLog(DefaultMessageContext.class);
 
-	private MessageSource messageSource;
+	private static final Message[] EMPTY_MESSAGES = new Message[0];
+
+	/**
+	 * The memento created by a message context that does not contain any messages. Restoring it clears all messages.
+	 */
+	public static final Serializable EMPTY_MESSAGES_MEMENTO = new MessagesMemento(EMPTY_MESSAGES);
 
-	@SuppressWarnings("serial")
-	private Map<Object, List<Message>> sourceMessages =
-			new AbstractCachingMapDecorator<Object, List<Message>>(new LinkedHashMap<>()) {
+	private MessageSource messageSource;
 
-				protected List<Message> create(Object source) {
-					return new ArrayList<>();
-				}
-			};
+	/**
+	 * Messages indexed by source, in the order sources were first added; <code>null</code> until the first message is
+	 * added.
+	 */
+	private Map<Object, List<Message>> sourceMessages;
 
 	/**
 	 * Creates a new default message context. Defaults to a message source that simply resolves default text and cannot
@@ -69,12 +80,18 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 	}
 
 	public MessageSource getMessageSource() {
+		if (messageSource == null) {
+			messageSource = new DefaultTextFallbackMessageSource();
+		}
 		return messageSource;
 	}
 
 	// implementing message context
 
 	public Message[] getAllMessages() {
+		if (sourceMessages == null) {
+			return EMPTY_MESSAGES;
+		}
 		List<Message> messages = new ArrayList<>();
 		for (List<Message> list : sourceMessages.values()) {
 			messages.addAll(list);
@@ -83,11 +100,14 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 	}
 
 	public Message[] getMessagesBySource(Object source) {
-		List<Message> messages = sourceMessages.get(source);
-		return messages.toArray(new Message[messages.size()]);
+		List<Message> messages = (sourceMessages != null ? sourceMessages.get(source) : null);
+		return messages != null ? messages.toArray(new Message[messages.size()]) : EMPTY_MESSAGES;
 	}
 
 	public Message[] getMessagesByCriteria(MessageCriteria criteria) {
+		if (sourceMessages == null) {
+			return EMPTY_MESSAGES;
+		}
 		List<Message> messages = new ArrayList<>();
 		for (List<Message> sourceMessages : this.sourceMessages.values()) {
 			for (Message message : sourceMessages) {
@@ -100,6 +120,9 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 	}
 
 	public boolean hasErrorMessages() {
+		if (sourceMessages == null) {
+			return false;
+		}
 		for (List<Message> sourceMessages : this.sourceMessages.values()) {
 			for (Message message : sourceMessages) {
 				if (message.getSeverity() == Severity.ERROR) {
@@ -115,33 +138,43 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 		if (logger.isDebugEnabled()) {
 			logger.debug("Resolving message using " + messageResolver);
 		}
-		Message message = messageResolver.resolveMessage(messageSource, currentLocale);
-		List<Message> messages = sourceMessages.get(message.getSource());
+		Message message = messageResolver.resolveMessage(getMessageSource(), currentLocale);
 		if (logger.isDebugEnabled()) {
 			logger.debug("Adding resolved message " + message);
 		}
-		messages.add(message);
+		addMessage(message);
 	}
 
 	public void clearMessages() {
-		sourceMessages.clear();
+		sourceMessages = null;
 	}
 
 	// implementing state manageable message context
 
 	public Serializable createMessagesMemento() {
-		return new LinkedHashMap<>(sourceMessages);
+		Message[] messages = getAllMessages();
+		return messages.length > 0 ? new MessagesMemento(messages) : EMPTY_MESSAGES_MEMENTO;
 	}
 
 	@SuppressWarnings("unchecked")
 	public void restoreMessages(Serializable messagesMemento) {
-		sourceMessages.putAll((Map<Object, List<Message>>) messagesMemento);
+		if (messagesMemento instanceof MessagesMemento) {
+			clearMessages();
+			for (Message message : ((MessagesMemento) messagesMemento).messages) {
+				addMessage(message);
+			}
+		} else {
+			// memento created by a previous version
+			for (Map.Entry<Object, List<Message>> entry : ((Map<Object, List<Message>>) messagesMemento).entrySet()) {
+				if (!entry.getValue().isEmpty()) {
+					getSourceMessages(entry.getKey()).addAll(entry.getValue());
+				}
+			}
+		}
 	}
 
 	public void setMessageSource(MessageSource messageSource) {
-		if (messageSource == null) {
-			messageSource = new DefaultTextFallbackMessageSource();
-		}
+		// a null message source is replaced by the default text fallback message source on first use
 		this.messageSource = messageSource;
 	}
 
@@ -149,12 +182,72 @@ public class DefaultMessageContext implements StateManageableMessageContext {
 
 	private void init(MessageSource messageSource) {
 		setMessageSource(messageSource);
-		// create the 'null' source message list eagerly to ensure global messages are indexed first
-		this.sourceMessages.get(null);
+	}
+
+	private void addMessage(Message message) {
+		getSourceMessages(message.getSource()).add(message);
+	}
+
+	private List<Message> getSourceMessages(Object source) {
+		if (sourceMessages == null) {
+			sourceMessages = new LinkedHashMap<>();
+			// create the 'null' source message list first to ensure global messages are indexed first
+			sourceMessages.put(null, new ArrayList<>());
+		}
+		return sourceMessages.computeIfAbsent(source, key -> new ArrayList<>());
 	}
 
 	public String toString() {
-		return new ToStringCreator(this).append("sourceMessages", sourceMessages).toString();
+		return new ToStringCreator(this).append("sourceMessages",
+				sourceMessages != null ? sourceMessages : Collections.emptyMap()).toString();
+	}
+
+	/**
+	 * The memento of a message context: its messages in order. Messages carry their source, so the index by source is
+	 * rebuilt on restore rather than serialized, and each plain {@link Message} is written as its source, text and
+	 * severity.
+	 */
+	private static class MessagesMemento implements Externalizable {
+
+		private Message[] messages;
+
+		public MessagesMemento() {
+			// for deserialization
+		}
+
+		MessagesMemento(Message[] messages) {
+			this.messages = messages;
+		}
+
+		public void writeExternal(ObjectOutput out) throws IOException {
+			out.writeInt(messages.length);
+			for (Message message : messages) {
+				if (message.getClass() == Message.class) {
+					out.writeBoolean(true);
+					out.writeObject(message.getSource());
+					out.writeObject(message.getText());
+					out.writeObject(message.getSeverity());
+				} else {
+					out.writeBoolean(false);
+					out.writeObject(message);
+				}
+			}
+		}
+
+		public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+			messages = new Message[in.readInt()];
+			for (int i = 0; i < messages.length; i++) {
+				if (in.readBoolean()) {
+					messages[i] = new Message(in.readObject(), (String) in.readObject(), (Severity) in.readObject());
+				} else {
+					messages[i] = (Message) in.readObject();
+				}
+			}
+		}
+
+		private Object readResolve() {
+			return messages.length > 0 ? this : EMPTY_MESSAGES_MEMENTO;
+		}
 	}
 
 	private static class DefaultTextFallbackMessageSource extends AbstractMessageSource {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,7 +20,7 @@ import java.lang.reflect.Method;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.springframework.binding.collection.AbstractCachingMapDecorator;
+import org.springframework.binding.collection.ConcurrentCache;
 import org.springframework.binding.convert.ConversionService;
 import org.springframework.binding.convert.service.DefaultConversionService;
 import org.springframework.core.style.StylerUtils;
@@ -44,12 +44,7 @@ public class MethodInvoker {
 	/**
 	 * A cache of invoked bean methods, keyed weakly.
 	 */
-	@SuppressWarnings("serial")
-	private AbstractCachingMapDecorator<MethodKey, Method> methodCache = new AbstractCachingMapDecorator<MethodKey, Method>(true) {
-		public Method create(MethodKey key) {
-			return key.getMethod();
-		}
-	};
+	private final ConcurrentCache<MethodKey, Method> methodCache = new ConcurrentCache<>(MethodKey::getMethod, 0, true);
 
 	/**
 	 * Sets the conversion service to convert argument values as needed.
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link org.springframework.binding.collection.ConcurrentCache}.
+ */
+public class ConcurrentCacheTests {
+
+	private AtomicInteger creations = new AtomicInteger();
+
+	@Test
+	public void testGetCreatesOnce() {
+		ConcurrentCache<String, String> cache = new ConcurrentCache<>(this::create);
+		String value = cache.get("foo");
+		assertEquals("FOO", value);
+		assertSame(value, cache.get("foo"));
+		assertEquals(1, creations.get());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testNullValue() {
+		ConcurrentCache<String, String> cache = new ConcurrentCache<>(key -> {
+			creations.incrementAndGet();
+			return null;
+		});
+		assertNull(cache.get("foo"));
+		assertNull(cache.get("foo"));
+		assertEquals(1, creations.get());
+	}
+
+	@Test
+	public void testPutGetIfPresentRemove() {
+		ConcurrentCache<String, String> cache = new ConcurrentCache<>(this::create);
+		assertNull(cache.getIfPresent("foo"));
+		cache.put("foo", "bar");
+		assertEquals("bar", cache.getIfPresent("foo"));
+		assertEquals("bar", cache.get("foo"));
+		cache.remove("foo");
+		assertNull(cache.getIfPresent("foo"));
+		assertEquals(0, creations.get());
+	}
+
+	@Test
+	public void testBoundedEviction() {
+		ConcurrentCache<String, String> cache = new ConcurrentCache<>(this::create, 2, false);
+		cache.get("a");
+		cache.get("b");
+		cache.get("c");
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.getIfPresent("a"));
+		assertEquals("C", cache.getIfPresent("c"));
+	}
+
+	@Test
+	public void testWeakKeys() {
+		ConcurrentCache<String, String> cache = new ConcurrentCache<>(this::create, 0, true);
+		String key = new String("foo");
+		assertEquals("FOO", cache.get(key));
+		assertEquals("FOO", cache.get(new String("foo")));
+		assertEquals(1, creations.get());
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+
+	private String create(String key) {
+		creations.incrementAndGet();
+		return key.toUpperCase();
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.collection;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link org.springframework.binding.collection.MutexLocks}.
+ */
+public class MutexLocksTests {
+
+	@Test
+	public void testSameLockAfterMutexModified() {
+		SharedMapDecorator<String, Object> session = new SharedMapDecorator<>(new HashMap<>());
+		Lock lock = MutexLocks.getLock(session.getMutex());
+		session.put("foo", "bar");
+		assertSame(lock, MutexLocks.getLock(session.getMutex()));
+	}
+
+	@Test
+	public void testDistinctLocksForEqualMutexes() {
+		SharedMapDecorator<String, Object> session = new SharedMapDecorator<>(new HashMap<>());
+		SharedMapDecorator<String, Object> otherSession = new SharedMapDecorator<>(new HashMap<>());
+		assertNotSame(MutexLocks.getLock(session.getMutex()), MutexLocks.getLock(otherSession.getMutex()));
+	}
+
+}
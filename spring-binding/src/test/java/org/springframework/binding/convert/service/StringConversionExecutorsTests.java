@@ -0,0 +1,113 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.convert.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.binding.convert.ConversionExecutionException;
+import org.springframework.binding.convert.ConversionExecutor;
+
+/**
+ * Unit tests for {@link StringConversionExecutors}, verifying conversions are equivalent to those of a default
+ * {@link DefaultConversionService}.
+ */
+public class StringConversionExecutorsTests {
+
+	private DefaultConversionService conversionService = new DefaultConversionService();
+
+	@Test
+	public void testNumbers() {
+		assertEquivalent(Integer.class, "123", "-45", "+6", " 7 ", "0x1F", "#1f", "", "  ", "abc", "99999999999");
+		assertEquivalent(int.class, "123", "bogus");
+		assertEquivalent(Long.class, "123", "-9223372036854775808", "0x10", "1.5");
+		assertEquivalent(Short.class, "12", "70000");
+		assertEquivalent(Byte.class, "12", "300");
+		assertEquivalent(Double.class, "1.5", "1e3", "x");
+		assertEquivalent(Float.class, "1.5", "x");
+		assertEquivalent(BigInteger.class, "12345678901234567890", "0x10", "x");
+		assertEquivalent(BigDecimal.class, "123.45", " 1 ", "x");
+	}
+
+	@Test
+	public void testBoolean() {
+		assertEquivalent(Boolean.class, "true", "on", "yes", "1", "false", "off", "no", "0", "TRUE", " Yes ", "",
+				"  ", "maybe");
+		assertEquivalent(boolean.class, "true", "maybe");
+	}
+
+	@Test
+	public void testCharacterStringAndEnum() {
+		assertEquivalent(Character.class, "a", "", "ab");
+		assertEquivalent(String.class, "a", "");
+		assertEquivalent(Color.class, "RED", " GREEN ", "", "PURPLE");
+	}
+
+	@Test
+	public void testUnsupportedTargetType() {
+		assertNull(StringConversionExecutors.getConversionExecutor(LocalDate.class));
+		assertNull(StringConversionExecutors.getConversionExecutor(Object.class));
+	}
+
+	@Test
+	public void testSameExecutorReturned() {
+		assertSame(StringConversionExecutors.getConversionExecutor(Integer.class),
+				StringConversionExecutors.getConversionExecutor(Integer.class));
+		assertSame(conversionService.getConversionExecutor(String.class, LocalDate.class),
+				conversionService.getConversionExecutor(String.class, LocalDate.class));
+	}
+
+	@Test
+	public void testNullSource() {
+		assertNull(StringConversionExecutors.getConversionExecutor(Integer.class).execute(null));
+	}
+
+	private void assertEquivalent(Class<?> targetClass, String... values) {
+		ConversionExecutor fast = StringConversionExecutors.getConversionExecutor(targetClass);
+		ConversionExecutor generic = conversionService.getConversionExecutor(String.class, targetClass);
+		assertEquals(generic.getTargetClass(), fast.getTargetClass());
+		for (String value : values) {
+			Object expected;
+			try {
+				expected = generic.execute(value);
+			} catch (ConversionExecutionException e) {
+				try {
+					fast.execute(value);
+				} catch (ConversionExecutionException actual) {
+					assertEquals(e.getCause().getClass(), actual.getCause().getClass());
+					assertEquals(e.getCause().getCause().getClass(), actual.getCause().getCause().getClass());
+					continue;
+				}
+				throw new AssertionError("Expected conversion of '" + value + "' to " + targetClass + " to fail");
+			}
+			Object actual = fast.execute(value);
+			assertEquals(expected, actual, "Converting '" + value + "' to " + targetClass);
+			assertTrue(expected == null || expected.getClass() == actual.getClass());
+		}
+	}
+
+	public enum Color {
+		RED, GREEN
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.binding.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * Unit tests for {@link DefaultNumberFormatFactory}.
+ */
+public class DefaultNumberFormatFactoryTests {
+
+	private DefaultNumberFormatFactory factory = new DefaultNumberFormatFactory();
+
+	@AfterEach
+	public void tearDown() {
+		LocaleContextHolder.setLocale(null);
+	}
+
+	@Test
+	public void testNewInstancePerCall() {
+		factory.setLocale(Locale.US);
+		NumberFormat format = factory.getNumberFormat();
+		assertNotSame(format, factory.getNumberFormat());
+		format.setMaximumFractionDigits(0);
+		assertEquals("1.5", factory.getNumberFormat().format(1.5));
+	}
+
+	@Test
+	public void testPatternChange() {
+		factory.setLocale(Locale.US);
+		factory.setPattern("#,##0.00");
+		assertEquals("1,234.50", factory.getNumberFormat().format(1234.5));
+		factory.setPattern("0.0");
+		assertEquals("1234.5", factory.getNumberFormat().format(1234.5));
+	}
+
+	@Test
+	public void testCurrentLocale() {
+		LocaleContextHolder.setLocale(Locale.US);
+		assertEquals("1,234.5", factory.getNumberFormat().format(1234.5));
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+		assertEquals("1.234,5", factory.getNumberFormat().format(1234.5));
+	}
+
+}
@@ -72,6 +72,20 @@ public class DefaultMapperTests {
 		assertEquals("typeMismatch", results.getErrorResults().get(0).getCode());
 	}
 
+	@Test
+	public void testErrorResultsOnly() {
+		mapper.setErrorResultsOnly(true);
+		mapper.addMapping(new DefaultMapping(parser.parseExpression("foo", null), parser.parseExpression("bar", null)));
+		mapper.addMapping(new DefaultMapping(parser.parseExpression("foo", null), parser.parseExpression("boop", null)));
+		TestBean bean1 = new TestBean();
+		bean1.foo = "a";
+		TestBean2 bean2 = new TestBean2();
+		MappingResults results = mapper.map(bean1, bean2);
+		assertEquals("a", bean2.bar);
+		assertEquals(1, results.getAllResults().size());
+		assertEquals("typeMismatch", results.getErrorResults().get(0).getCode());
+	}
+
 	public static class TestBean {
 		private String foo;
 
@@ -1,9 +1,19 @@
 package org.springframework.binding.message;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -99,4 +109,50 @@ public class DefaultMessageContextTests {
 		assertEquals("Error", messages[1].getText());
 		assertEquals("Hello world resolved!", messages[2].getText());
 	}
+
+	@Test
+	public void testEmptyMessagesMemento() throws Exception {
+		assertSame(DefaultMessageContext.EMPTY_MESSAGES_MEMENTO, context.createMessagesMemento());
+		assertSame(DefaultMessageContext.EMPTY_MESSAGES_MEMENTO, serializeAndDeserialize(context
+				.createMessagesMemento()));
+		assertEquals(0, context.getMessagesBySource("foo").length);
+		context.addMessage(new MessageBuilder().source("foo").defaultText("Foo").build());
+		context.clearMessages();
+		assertSame(DefaultMessageContext.EMPTY_MESSAGES_MEMENTO, context.createMessagesMemento());
+	}
+
+	@Test
+	public void testSerializeRestoreMessages() throws Exception {
+		context.addMessage(new MessageBuilder().source("foo").defaultText("Foo").build());
+		context.addMessage(new MessageBuilder().error().defaultText("Error").build());
+		Serializable messages = serializeAndDeserialize(context.createMessagesMemento());
+		context = new DefaultMessageContext(context.getMessageSource());
+		context.restoreMessages(messages);
+		Message[] allMessages = context.getAllMessages();
+		assertEquals(2, allMessages.length);
+		assertEquals("Error", allMessages[0].getText());
+		assertEquals("Foo", context.getMessagesBySource("foo")[0].getText());
+		context.restoreMessages(DefaultMessageContext.EMPTY_MESSAGES_MEMENTO);
+		assertEquals(0, context.getAllMessages().length);
+	}
+
+	@Test
+	public void testRestoreMapMessagesMemento() {
+		Map<Object, List<Message>> memento = new LinkedHashMap<>();
+		memento.put(null, new ArrayList<>());
+		memento.put("foo", Collections.singletonList(new Message("foo", "Foo", Severity.INFO)));
+		context.restoreMessages((Serializable) memento);
+		assertEquals(1, context.getAllMessages().length);
+		assertEquals("Foo", context.getMessagesBySource("foo")[0].getText());
+	}
+
+	private Serializable serializeAndDeserialize(Serializable memento) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(memento);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (Serializable) in.readObject();
+		}
+	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.faces.model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the rows displayed by a {@link PagedDataModel}, typically by querying a database one page at a time.
+ * <p>
+ * A loader stored along with its data model in flow state should be {@link java.io.Serializable} and keep no
+ * reference to the rows it loads. Loaders that are not serializable are not stored, and must be set again on the data
+ * model once it is restored.
+ *
+ * @param <T> the type of rows loaded
+ *
+ * @since 4.0.2
+ */
+public interface PagedDataLoader<T> {
+
+	/**
+	 * Load a page of rows.
+	 * @param first the index of the first row to load, among all rows matching the filters
+	 * @param maxResults the maximum number of rows to load
+	 * @param sortProperty the property to sort rows by, or <code>null</code> if rows are not sorted
+	 * @param ascending whether rows are sorted in ascending order
+	 * @param filters the criteria rows must match, indexed by name; never <code>null</code>
+	 * @return the rows loaded
+	 */
+	List<T> load(int first, int maxResults, String sortProperty, boolean ascending, Map<String, Object> filters);
+
+	/**
+	 * Count the rows matching the filters.
+	 * @param filters the criteria rows must match, indexed by name; never <code>null</code>
+	 * @return the number of rows
+	 */
+	int count(Map<String, Object> filters);
+
+	/**
+	 * Returns the key uniquely identifying a row, such as the identifier of a persistent entity. Row keys are what
+	 * the data model keeps in flow state to track selected rows, and should therefore be small and serializable.
+	 * @param row the row
+	 * @return the row key
+	 */
+	Object getRowKey(T row);
+
+	/**
+	 * Load the rows with the given keys, to resolve selected rows that are not part of the current page.
+	 * @param rowKeys the row keys
+	 * @return the rows found
+	 */
+	List<T> loadByKeys(Collection<Object> rowKeys);
+
+}
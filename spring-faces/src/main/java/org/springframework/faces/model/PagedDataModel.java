@@ -0,0 +1,496 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.faces.model;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.faces.model.DataModel;
+import jakarta.faces.model.DataModelEvent;
+import jakarta.faces.model.DataModelListener;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link DataModel} implementation that displays a large list of rows one page at a time, loading the rows of the
+ * current page on demand through a {@link PagedDataLoader}.
+ * <p>
+ * Unlike {@link SerializableListDataModel}, this data model does not keep its rows when stored in flow state: only the
+ * page window, the sort and filter criteria and the keys of the selected rows are serialized. The rows of the current
+ * page are loaded when first accessed, typically while rendering the view, and loaded again after the model was
+ * restored, or after the page or the criteria changed. Flow execution snapshots thus stay small regardless of the
+ * number of rows.
+ * <p>
+ * The rows of the data model are the rows of the current page. Selected rows are tracked by key, and remain selected
+ * while paging; by default, only one row can be selected at a time.
+ *
+ * @param <T> the type of rows
+ *
+ * @since 4.0.2
+ */
+public class PagedDataModel<T> extends DataModel<T> implements SelectionAware<T>, Serializable {
+
+	private transient PagedDataLoader<T> loader;
+
+	private int pageSize;
+
+	private int pageIndex;
+
+	private String sortProperty;
+
+	private boolean sortAscending = true;
+
+	private Map<String, Object> filters = new LinkedHashMap<>();
+
+	private Set<Object> selectedRowKeys = new LinkedHashSet<>();
+
+	private boolean multipleSelection;
+
+	private transient List<T> page;
+
+	private transient int rowCount = -1;
+
+	private transient int rowIndex = -1;
+
+	/**
+	 * Create a data model loading rows with the given loader.
+	 * @param loader the loader of rows
+	 * @param pageSize the number of rows per page
+	 */
+	public PagedDataModel(PagedDataLoader<T> loader, int pageSize) {
+		Assert.notNull(loader, "The PagedDataLoader is required");
+		Assert.isTrue(pageSize > 0, "The page size must be greater than 0");
+		this.loader = loader;
+		this.pageSize = pageSize;
+	}
+
+	/**
+	 * Returns the loader of rows, or <code>null</code> if a non-serializable loader was not set again after this model
+	 * was restored.
+	 */
+	public PagedDataLoader<T> getLoader() {
+		return this.loader;
+	}
+
+	/**
+	 * Sets the loader of rows. Needed after this model is restored from flow state if the loader is not serializable.
+	 * @param loader the loader of rows
+	 */
+	public void setLoader(PagedDataLoader<T> loader) {
+		this.loader = loader;
+		refresh();
+	}
+
+	// paging
+
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	/**
+	 * Sets the number of rows per page, going back to the first page.
+	 * @param pageSize the number of rows per page
+	 */
+	public void setPageSize(int pageSize) {
+		Assert.isTrue(pageSize > 0, "The page size must be greater than 0");
+		this.pageSize = pageSize;
+		this.pageIndex = 0;
+		invalidatePage();
+	}
+
+	/**
+	 * Returns the index of the current page, starting at 0.
+	 */
+	public int getPageIndex() {
+		return this.pageIndex;
+	}
+
+	/**
+	 * Sets the index of the current page, starting at 0.
+	 * @param pageIndex the page index
+	 */
+	public void setPageIndex(int pageIndex) {
+		Assert.isTrue(pageIndex >= 0, "The page index must not be negative");
+		if (pageIndex != this.pageIndex) {
+			this.pageIndex = pageIndex;
+			invalidatePage();
+		}
+	}
+
+	/**
+	 * Returns the number of pages, based on the total number of rows.
+	 */
+	public int getPageCount() {
+		return (getTotalRowCount() + this.pageSize - 1) / this.pageSize;
+	}
+
+	/**
+	 * Returns the index of the first row of the current page, among all rows.
+	 */
+	public int getFirstRow() {
+		return this.pageIndex * this.pageSize;
+	}
+
+	public boolean getNextPageAvailable() {
+		return getFirstRow() + this.pageSize < getTotalRowCount();
+	}
+
+	public boolean getPreviousPageAvailable() {
+		return this.pageIndex > 0;
+	}
+
+	/**
+	 * Moves to the next page, if any.
+	 */
+	public void nextPage() {
+		if (getNextPageAvailable()) {
+			setPageIndex(this.pageIndex + 1);
+		}
+	}
+
+	/**
+	 * Moves to the previous page, if any.
+	 */
+	public void previousPage() {
+		if (getPreviousPageAvailable()) {
+			setPageIndex(this.pageIndex - 1);
+		}
+	}
+
+	/**
+	 * Returns the total number of rows matching the filters, counted by the loader when first needed.
+	 */
+	public int getTotalRowCount() {
+		if (this.rowCount == -1) {
+			this.rowCount = getRequiredLoader().count(Collections.unmodifiableMap(this.filters));
+		}
+		return this.rowCount;
+	}
+
+	/**
+	 * Discards the loaded rows and row count, so that they are loaded again when next accessed.
+	 */
+	public void refresh() {
+		this.rowCount = -1;
+		invalidatePage();
+	}
+
+	// sorting and filtering
+
+	public String getSortProperty() {
+		return this.sortProperty;
+	}
+
+	public boolean getSortAscending() {
+		return this.sortAscending;
+	}
+
+	/**
+	 * Sorts rows by the given property, going back to the first page.
+	 * @param sortProperty the property to sort by, or <code>null</code> to not sort rows
+	 * @param ascending whether to sort in ascending order
+	 */
+	public void setSort(String sortProperty, boolean ascending) {
+		this.sortProperty = sortProperty;
+		this.sortAscending = ascending;
+		this.pageIndex = 0;
+		invalidatePage();
+	}
+
+	/**
+	 * Sorts rows by the given property, going back to the first page. Sorting again by the same property toggles the
+	 * sort order.
+	 * @param sortProperty the property to sort by
+	 */
+	public void sortBy(String sortProperty) {
+		boolean ascending = !ObjectUtils.nullSafeEquals(sortProperty, this.sortProperty) || !this.sortAscending;
+		setSort(sortProperty, ascending);
+	}
+
+	/**
+	 * Returns the criteria rows must match, indexed by name.
+	 */
+	public Map<String, Object> getFilters() {
+		return Collections.unmodifiableMap(this.filters);
+	}
+
+	/**
+	 * Sets a criterion rows must match, going back to the first page. Filter values are kept in flow state and should
+	 * be serializable.
+	 * @param name the criterion name
+	 * @param value the criterion value, or <code>null</code> to remove the criterion
+	 */
+	public void setFilter(String name, Object value) {
+		if (value != null) {
+			this.filters.put(name, value);
+		}
+		else {
+			this.filters.remove(name);
+		}
+		this.pageIndex = 0;
+		refresh();
+	}
+
+	/**
+	 * Removes all criteria, going back to the first page.
+	 */
+	public void clearFilters() {
+		this.filters.clear();
+		this.pageIndex = 0;
+		refresh();
+	}
+
+	// selection
+
+	/**
+	 * Returns whether several rows can be selected at the same time.
+	 */
+	public boolean getMultipleSelection() {
+		return this.multipleSelection;
+	}
+
+	/**
+	 * Sets whether several rows can be selected at the same time. Defaults to <code>false</code>.
+	 * @param multipleSelection whether several rows can be selected
+	 */
+	public void setMultipleSelection(boolean multipleSelection) {
+		this.multipleSelection = multipleSelection;
+	}
+
+	/**
+	 * Returns the keys of the selected rows.
+	 */
+	public Set<Object> getSelectedRowKeys() {
+		return Collections.unmodifiableSet(this.selectedRowKeys);
+	}
+
+	/**
+	 * Returns the selected rows. Rows that are not part of the current page are loaded by key. The returned list is
+	 * not backed by this model.
+	 */
+	public List<T> getSelections() {
+		if (this.selectedRowKeys.isEmpty()) {
+			return new ArrayList<>();
+		}
+		PagedDataLoader<T> loader = getRequiredLoader();
+		Map<Object, T> rows = new LinkedHashMap<>();
+		for (T row : getPage()) {
+			Object key = loader.getRowKey(row);
+			if (this.selectedRowKeys.contains(key)) {
+				rows.put(key, row);
+			}
+		}
+		if (rows.size() < this.selectedRowKeys.size()) {
+			List<Object> missingKeys = new ArrayList<>(this.selectedRowKeys);
+			missingKeys.removeAll(rows.keySet());
+			for (T row : loader.loadByKeys(missingKeys)) {
+				rows.put(loader.getRowKey(row), row);
+			}
+		}
+		List<T> selections = new ArrayList<>(rows.size());
+		for (Object key : this.selectedRowKeys) {
+			T row = rows.get(key);
+			if (row != null) {
+				selections.add(row);
+			}
+		}
+		return selections;
+	}
+
+	public void setSelections(List<T> selections) {
+		Assert.isTrue(this.multipleSelection || selections.size() <= 1, "This DataModel only allows one selection.");
+		this.selectedRowKeys.clear();
+		for (T row : selections) {
+			this.selectedRowKeys.add(getRequiredLoader().getRowKey(row));
+		}
+	}
+
+	/**
+	 * Returns the selected row, or <code>null</code> if no row or several rows are selected.
+	 */
+	public Object getSelectedRow() {
+		List<T> selections = getSelections();
+		return (selections.size() == 1 ? selections.get(0) : null);
+	}
+
+	public boolean isCurrentRowSelected() {
+		return isRowAvailable() && this.selectedRowKeys.contains(getRequiredLoader().getRowKey(getRowData()));
+	}
+
+	public void setCurrentRowSelected(boolean rowSelected) {
+		if (!isRowAvailable()) {
+			return;
+		}
+		Object key = getRequiredLoader().getRowKey(getRowData());
+		if (!rowSelected) {
+			this.selectedRowKeys.remove(key);
+		}
+		else if (!this.selectedRowKeys.contains(key)) {
+			if (!this.multipleSelection) {
+				this.selectedRowKeys.clear();
+			}
+			this.selectedRowKeys.add(key);
+		}
+	}
+
+	/**
+	 * Selects all rows of the current page.
+	 */
+	public void selectAll() {
+		PagedDataLoader<T> loader = getRequiredLoader();
+		List<T> page = getPage();
+		if (!this.multipleSelection && page.size() > 1) {
+			throw new UnsupportedOperationException("This DataModel only allows one selection.");
+		}
+		if (!this.multipleSelection) {
+			this.selectedRowKeys.clear();
+		}
+		for (T row : page) {
+			this.selectedRowKeys.add(loader.getRowKey(row));
+		}
+	}
+
+	/**
+	 * Selects the given row, which does not need to be part of the current page.
+	 */
+	public void select(T rowData) {
+		Object key = getRequiredLoader().getRowKey(rowData);
+		if (!this.multipleSelection) {
+			this.selectedRowKeys.clear();
+		}
+		this.selectedRowKeys.add(key);
+	}
+
+	/**
+	 * Clears the selection.
+	 */
+	public void clearSelections() {
+		this.selectedRowKeys.clear();
+	}
+
+	// DataModel
+
+	/**
+	 * Returns the number of rows of the current page.
+	 */
+	public int getRowCount() {
+		return getPage().size();
+	}
+
+	public boolean isRowAvailable() {
+		return this.rowIndex >= 0 && this.rowIndex < getPage().size();
+	}
+
+	public T getRowData() {
+		if (!isRowAvailable()) {
+			throw new IllegalArgumentException("No row available at index " + this.rowIndex);
+		}
+		return getPage().get(this.rowIndex);
+	}
+
+	/**
+	 * Returns the index of the current row within the current page.
+	 */
+	public int getRowIndex() {
+		return this.rowIndex;
+	}
+
+	public void setRowIndex(int rowIndex) {
+		if (rowIndex < -1) {
+			throw new IllegalArgumentException("Illegal row index " + rowIndex);
+		}
+		int oldRowIndex = this.rowIndex;
+		this.rowIndex = rowIndex;
+		DataModelListener[] listeners = getDataModelListeners();
+		if (oldRowIndex != rowIndex && listeners != null && listeners.length > 0) {
+			T rowData = (isRowAvailable() ? getRowData() : null);
+			DataModelEvent event = new DataModelEvent(this, rowIndex, rowData);
+			for (DataModelListener listener : listeners) {
+				if (listener != null) {
+					listener.rowSelected(event);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the rows of the current page, loading them if needed.
+	 */
+	public List<T> getWrappedData() {
+		return getPage();
+	}
+
+	/**
+	 * Sets the rows of the current page, as already loaded by the caller.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setWrappedData(Object data) {
+		if (data == null) {
+			invalidatePage();
+			return;
+		}
+		Assert.isInstanceOf(List.class, data, "The data object for " + getClass() + " must be a List");
+		this.page = (List<T>) data;
+	}
+
+	private List<T> getPage() {
+		if (this.page == null) {
+			this.page = getRequiredLoader().load(getFirstRow(), this.pageSize, this.sortProperty, this.sortAscending,
+					Collections.unmodifiableMap(this.filters));
+		}
+		return this.page;
+	}
+
+	private void invalidatePage() {
+		this.page = null;
+		this.rowIndex = -1;
+	}
+
+	private PagedDataLoader<T> getRequiredLoader() {
+		Assert.state(this.loader != null,
+				"No PagedDataLoader set: a loader that is not serializable must be set again once the model is restored");
+		return this.loader;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		oos.defaultWriteObject();
+		oos.writeObject(this.loader instanceof Serializable ? this.loader : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
+		ois.defaultReadObject();
+		this.loader = (PagedDataLoader<T>) ois.readObject();
+		this.rowCount = -1;
+		this.rowIndex = -1;
+	}
+
+	public String toString() {
+		return "PagedDataModel[pageIndex=" + this.pageIndex + ", pageSize=" + this.pageSize + ", sortProperty="
+				+ this.sortProperty + ", filters=" + this.filters + ", selectedRowKeys=" + this.selectedRowKeys + "]";
+	}
+
+}
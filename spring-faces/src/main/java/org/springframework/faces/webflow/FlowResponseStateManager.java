@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2023 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.io.IOException;
 import java.io.Writer;
 
 import jakarta.faces.FacesWrapper;
+import jakarta.faces.context.ExternalContext;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.context.ResponseWriter;
 import jakarta.faces.render.RenderKitFactory;
@@ -26,12 +27,16 @@ import jakarta.faces.render.ResponseStateManager;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.util.StringUtils;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.execution.RequestContextHolder;
 
 /**
  * A custom ResponseStateManager that writes JSF state to a Web Flow managed view-scoped variable. This class is plugged
  * in via {@link FlowRenderKit}.
+ * <p>
+ * The JSF state is stored as is, unless a {@link FlowViewStateCodec} is configured, either directly or with the
+ * {@link #VIEW_STATE_STORAGE_PARAM} context parameter.
  *
  * @author Rossen Stoyanchev
  * @author Phillip Webb
@@ -41,6 +46,21 @@ import org.springframework.webflow.execution.RequestContextHolder;
 public class FlowResponseStateManager extends ResponseStateManager
 		implements FacesWrapper<ResponseStateManager>  {
 
+	/**
+	 * Name of the context parameter selecting how JSF state is stored in flow executions: <code>server</code> to keep
+	 * component state server-side, outside flow execution snapshots, with a {@link FlowViewStateCodec}. By default the
+	 * JSF state is stored as is.
+	 * @since 4.0.2
+	 */
+	public static final String VIEW_STATE_STORAGE_PARAM = "org.springframework.faces.webflow.VIEW_STATE_STORAGE";
+
+	/**
+	 * Name of the context parameter setting the maximum number of component states kept server-side per user session,
+	 * when the <code>server</code> {@link #VIEW_STATE_STORAGE_PARAM view state storage} is used.
+	 * @since 4.0.2
+	 */
+	public static final String VIEW_STATE_STORE_SIZE_PARAM = "org.springframework.faces.webflow.VIEW_STATE_STORE_SIZE";
+
 	private static final Log logger = LogFactory.getLog(FlowResponseStateManager.class);
 
 	static final String FACES_VIEW_STATE = "facesViewState";
@@ -53,10 +73,24 @@ public class FlowResponseStateManager extends ResponseStateManager
 
 	private final ResponseStateManager wrapped;
 
+	private volatile FlowViewStateCodec viewStateCodec;
+
+	private volatile boolean viewStateCodecResolved;
+
 	public FlowResponseStateManager(ResponseStateManager wrapped) {
 		this.wrapped = wrapped;
 	}
 
+	/**
+	 * Set the codec to encode the JSF state stored in view scope with, overriding the {@link #VIEW_STATE_STORAGE_PARAM}
+	 * context parameter. A <code>null</code> codec stores the state as is.
+	 * @since 4.0.2
+	 */
+	public void setViewStateCodec(FlowViewStateCodec viewStateCodec) {
+		this.viewStateCodec = viewStateCodec;
+		this.viewStateCodecResolved = true;
+	}
+
 	@Override
 	public ResponseStateManager getWrapped() {
 		return this.wrapped;
@@ -72,7 +106,7 @@ public class FlowResponseStateManager extends ResponseStateManager
 		if (!JsfUtils.isFlowRequest()) {
 			super.writeState(facesContext, state);
 		} else {
-			saveState(state);
+			saveState(facesContext, state);
 			ResponseWriter writer = facesContext.getResponseWriter();
 			writeViewStateField(facesContext, writer);
 			writeRenderKitIdField(facesContext, writer);
@@ -86,6 +120,10 @@ public class FlowResponseStateManager extends ResponseStateManager
 		}
 		RequestContext requestContext = RequestContextHolder.getRequestContext();
 		Object state = requestContext.getViewScope().get(FACES_VIEW_STATE);
+		FlowViewStateCodec codec = getViewStateCodec(facesContext);
+		if (codec != null) {
+			state = codec.decode(state, requestContext);
+		}
 		if (state == null) {
 			logger.debug("No matching view in view scope");
 		}
@@ -103,15 +141,43 @@ public class FlowResponseStateManager extends ResponseStateManager
 		if (!JsfUtils.isFlowRequest()) {
 			return super.getViewState(facesContext, state);
 		}
-		saveState(state);
+		saveState(facesContext, state);
 		return getFlowExecutionKey();
 	}
 
-	private void saveState(Object state) {
+	private void saveState(FacesContext facesContext, Object state) {
 		RequestContext requestContext = RequestContextHolder.getRequestContext();
+		FlowViewStateCodec codec = getViewStateCodec(facesContext);
+		if (codec != null) {
+			state = codec.encode(state, requestContext.getViewScope().get(FACES_VIEW_STATE), requestContext);
+		}
 		requestContext.getViewScope().put(FACES_VIEW_STATE, state);
 	}
 
+	private FlowViewStateCodec getViewStateCodec(FacesContext facesContext) {
+		if (!this.viewStateCodecResolved) {
+			this.viewStateCodec = createViewStateCodec(facesContext.getExternalContext());
+			this.viewStateCodecResolved = true;
+		}
+		return this.viewStateCodec;
+	}
+
+	private FlowViewStateCodec createViewStateCodec(ExternalContext externalContext) {
+		String storage = externalContext.getInitParameter(VIEW_STATE_STORAGE_PARAM);
+		if (!StringUtils.hasText(storage)) {
+			return null;
+		}
+		else if ("server".equals(storage.trim())) {
+			String storeSize = externalContext.getInitParameter(VIEW_STATE_STORE_SIZE_PARAM);
+			return new FlowViewStateCodec(StringUtils.hasText(storeSize) ? Integer.parseInt(storeSize.trim())
+					: FlowViewStateCodec.DEFAULT_MAX_STORED_STATES);
+		}
+		else {
+			throw new IllegalStateException("Unknown value '" + storage + "' of the " + VIEW_STATE_STORAGE_PARAM
+					+ " context parameter, expected 'server'");
+		}
+	}
+
 	private String getFlowExecutionKey() {
 		RequestContext requestContext = RequestContextHolder.getRequestContext();
 		return requestContext.getFlowExecutionContext().getKey().toString();
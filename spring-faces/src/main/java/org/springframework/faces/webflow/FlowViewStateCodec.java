@@ -0,0 +1,350 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.faces.webflow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.faces.FacesException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.binding.collection.MutexLocks;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.webflow.core.collection.SharedAttributeMap;
+import org.springframework.webflow.execution.RequestContext;
+
+/**
+ * Encodes the JSF state that {@link FlowResponseStateManager} stores in view scope, reducing the size of the flow
+ * execution snapshots it is part of.
+ * <p>
+ * The state saved by each component is moved out of the snapshot into a store kept in the user session, and referenced
+ * from the snapshot by a digest of its content. Component state that did not change between consecutive snapshots is
+ * thus stored only once. When the state did not change since the previous request of the same view, the encoded state
+ * already stored in view scope is kept rather than replaced with an equal copy.
+ * <p>
+ * The store keeps a bounded number of component states, evicting the least recently used ones; a view whose state was
+ * evicted can no longer be restored, and is reported as expired by JSF. The component states of the view being
+ * encoded are never evicted by that encoding, so the store may temporarily exceed its bound for a view with more
+ * stateful components than the bound.
+ *
+ * @since 4.0.2
+ */
+public class FlowViewStateCodec {
+
+	/**
+	 * The default maximum number of component states kept server-side per user session.
+	 */
+	public static final int DEFAULT_MAX_STORED_STATES = 2000;
+
+	private static final Log logger = LogFactory.getLog(FlowViewStateCodec.class);
+
+	private static final String STORE_ATTRIBUTE = FlowViewStateCodec.class.getName() + ".store";
+
+	private final int maxStoredStates;
+
+	/**
+	 * Create a codec keeping up to {@link #DEFAULT_MAX_STORED_STATES} component states server-side per user session.
+	 */
+	public FlowViewStateCodec() {
+		this(DEFAULT_MAX_STORED_STATES);
+	}
+
+	/**
+	 * Create a codec.
+	 * @param maxStoredStates the maximum number of component states kept server-side per user session
+	 */
+	public FlowViewStateCodec(int maxStoredStates) {
+		Assert.isTrue(maxStoredStates > 0, "The maximum number of stored states must be greater than 0");
+		this.maxStoredStates = maxStoredStates;
+	}
+
+	/**
+	 * Returns the maximum number of component states kept server-side per user session.
+	 */
+	public int getMaxStoredStates() {
+		return this.maxStoredStates;
+	}
+
+	/**
+	 * Encode the JSF state to store in view scope.
+	 * @param state the state to encode
+	 * @param previousState the encoded state currently stored in view scope, if any
+	 * @param context the current flow request
+	 * @return the encoded state
+	 */
+	public Object encode(Object state, Object previousState, RequestContext context) {
+		if (state == null) {
+			return null;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+		Map<String, byte[]> componentStates = new LinkedHashMap<>();
+		try (StateOutputStream out = new StateOutputStream(bytes, getComponentStates(state), componentStates)) {
+			out.writeObject(state);
+		}
+		catch (IOException e) {
+			throw new FacesException("Failed to encode JSF view state", e);
+		}
+		if (!componentStates.isEmpty()) {
+			getStore(context, true).putAll(componentStates);
+		}
+		byte[] encoded = bytes.toByteArray();
+		if (previousState instanceof EncodedViewState previous && Arrays.equals(previous.state, encoded)) {
+			return previous;
+		}
+		return new EncodedViewState(encoded);
+	}
+
+	/**
+	 * Decode JSF state stored in view scope. State not encoded by this codec is returned as is.
+	 * @param state the stored state
+	 * @param context the current flow request
+	 * @return the decoded state, or <code>null</code> if component state kept server-side is no longer available
+	 */
+	public Object decode(Object state, RequestContext context) {
+		if (!(state instanceof EncodedViewState encoded)) {
+			return state;
+		}
+		try (StateInputStream in = new StateInputStream(new ByteArrayInputStream(encoded.state), context)) {
+			return in.readObject();
+		}
+		catch (MissingComponentStateException e) {
+			logger.debug("Component state no longer available in the server-side store");
+			return null;
+		}
+		catch (IOException | ClassNotFoundException e) {
+			throw new FacesException("Failed to decode JSF view state", e);
+		}
+	}
+
+	/**
+	 * Returns the states saved by components: the values of the maps in the state array, which is how JSF
+	 * implementations save partial state.
+	 */
+	private Set<Object> getComponentStates(Object state) {
+		if (!(state instanceof Object[] parts)) {
+			return Collections.emptySet();
+		}
+		Set<Object> componentStates = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Object part : parts) {
+			if (part instanceof Map<?, ?> map) {
+				for (Object componentState : map.values()) {
+					if (componentState != null && !(componentState instanceof String)
+							&& !ClassUtils.isPrimitiveOrWrapper(componentState.getClass())) {
+						componentStates.add(componentState);
+					}
+				}
+			}
+		}
+		return componentStates;
+	}
+
+	private ComponentStateStore getStore(RequestContext context, boolean create) {
+		SharedAttributeMap<Object> sessionMap = context.getExternalContext().getSessionMap();
+		Lock lock = MutexLocks.getLock(sessionMap.getMutex());
+		lock.lock();
+		try {
+			ComponentStateStore store = (ComponentStateStore) sessionMap.get(STORE_ATTRIBUTE);
+			if (store == null && create) {
+				store = new ComponentStateStore(this.maxStoredStates);
+				sessionMap.put(STORE_ATTRIBUTE, store);
+			}
+			return store;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+
+	/**
+	 * JSF state encoded in compact form.
+	 */
+	private static class EncodedViewState implements Serializable {
+
+		private final byte[] state;
+
+		public EncodedViewState(byte[] state) {
+			this.state = state;
+		}
+	}
+
+
+	/**
+	 * A reference to a component state kept server-side.
+	 */
+	private static class ComponentStateReference implements Serializable {
+
+		private final String key;
+
+		public ComponentStateReference(String key) {
+			this.key = key;
+		}
+	}
+
+
+	/**
+	 * The component states of a user session, indexed by the digest of their serialized form.
+	 */
+	private static class ComponentStateStore implements Serializable {
+
+		private final Map<String, byte[]> states = new LinkedHashMap<>(16, 0.75f, true);
+
+		private final Lock lock = new ReentrantLock();
+
+		private final int maxSize;
+
+		public ComponentStateStore(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public byte[] get(String key) {
+			this.lock.lock();
+			try {
+				return this.states.get(key);
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Add the component states of a view, evicting the least recently used states of other views if the store
+		 * exceeds its bound.
+		 */
+		public void putAll(Map<String, byte[]> viewStates) {
+			this.lock.lock();
+			try {
+				for (Map.Entry<String, byte[]> entry : viewStates.entrySet()) {
+					// also marks states already stored as recently used
+					this.states.putIfAbsent(entry.getKey(), entry.getValue());
+				}
+				Iterator<String> keys = this.states.keySet().iterator();
+				while (this.states.size() > this.maxSize && keys.hasNext()) {
+					if (!viewStates.containsKey(keys.next())) {
+						keys.remove();
+					}
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+
+	/**
+	 * Serializes JSF state, replacing component states with references and collecting their serialized form.
+	 */
+	private static class StateOutputStream extends ObjectOutputStream {
+
+		private final Set<Object> componentStates;
+
+		private final Map<String, byte[]> serializedStates;
+
+		public StateOutputStream(OutputStream out, Set<Object> componentStates, Map<String, byte[]> serializedStates)
+				throws IOException {
+			super(out);
+			this.componentStates = componentStates;
+			this.serializedStates = serializedStates;
+			enableReplaceObject(!componentStates.isEmpty());
+		}
+
+		protected Object replaceObject(Object obj) throws IOException {
+			if (!this.componentStates.contains(obj)) {
+				return obj;
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(obj);
+			}
+			byte[] state = bytes.toByteArray();
+			String key = digest(state);
+			this.serializedStates.put(key, state);
+			return new ComponentStateReference(key);
+		}
+
+		private static String digest(byte[] state) {
+			try {
+				return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(state));
+			}
+			catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException("SHA-256 digests are not supported", e);
+			}
+		}
+	}
+
+
+	/**
+	 * Deserializes JSF state, resolving component states kept in the server-side store.
+	 */
+	private class StateInputStream extends ConfigurableObjectInputStream {
+
+		private final RequestContext context;
+
+		private ComponentStateStore store;
+
+		public StateInputStream(InputStream in, RequestContext context) throws IOException {
+			super(in, ClassUtils.getDefaultClassLoader());
+			this.context = context;
+			enableResolveObject(true);
+		}
+
+		protected Object resolveObject(Object obj) throws IOException {
+			if (!(obj instanceof ComponentStateReference reference)) {
+				return obj;
+			}
+			if (this.store == null) {
+				this.store = getStore(this.context, false);
+			}
+			byte[] state = (this.store != null ? this.store.get(reference.key) : null);
+			if (state == null) {
+				throw new MissingComponentStateException();
+			}
+			try (ConfigurableObjectInputStream in = new ConfigurableObjectInputStream(new ByteArrayInputStream(state),
+					ClassUtils.getDefaultClassLoader())) {
+				return in.readObject();
+			}
+			catch (ClassNotFoundException e) {
+				throw new IOException("Failed to resolve component state", e);
+			}
+		}
+	}
+
+
+	/**
+	 * Thrown when a component state is no longer available in the server-side store.
+	 */
+	private static class MissingComponentStateException extends IOException {
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2023 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,10 @@
  */
 package org.springframework.faces.webflow;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
 
 import com.sun.faces.component.CompositeComponentStackManager;
 import jakarta.el.ValueExpression;
@@ -28,9 +30,11 @@ import jakarta.faces.component.visit.VisitContext;
 import jakarta.faces.component.visit.VisitHint;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.event.AbortProcessingException;
+import jakarta.faces.event.ComponentSystemEvent;
 import jakarta.faces.event.ExceptionQueuedEvent;
 import jakarta.faces.event.ExceptionQueuedEventContext;
 import jakarta.faces.event.PhaseId;
+import jakarta.faces.event.PostRestoreStateEvent;
 import jakarta.faces.lifecycle.Lifecycle;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -55,6 +59,27 @@ public class JsfViewFactory implements ViewFactory {
 
 	private static final Log logger = LogFactory.getLog(JsfViewFactory.class);
 
+	/**
+	 * Name of the FacesContext attribute holding the components of a restored view that must receive the
+	 * PostRestoreStateEvent, collected while walking the component tree.
+	 */
+	private static final String POST_RESTORE_STATE_EVENT_TARGETS = JsfViewFactory.class.getName()
+			+ ".postRestoreStateEventTargets";
+
+	/**
+	 * Whether components of a given type override {@link UIComponent#processEvent(ComponentSystemEvent)}.
+	 */
+	private static final ClassValue<Boolean> PROCESS_EVENT_OVERRIDDEN = new ClassValue<Boolean>() {
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("processEvent", ComponentSystemEvent.class).getDeclaringClass() != UIComponent.class;
+			}
+			catch (NoSuchMethodException e) {
+				return true;
+			}
+		}
+	};
+
 	private final Expression viewIdExpression;
 
 	private final Lifecycle lifecycle;
@@ -121,7 +146,7 @@ public class JsfViewFactory implements ViewFactory {
 		}
 		UIViewRoot viewRoot = facesContext.getViewRoot();
 		viewRoot.setLocale(context.getExternalContext().getLocale());
-		processTree(facesContext, viewRoot);
+		processRestoredTree(facesContext, viewRoot);
 		return viewRoot;
 	}
 
@@ -133,7 +158,7 @@ public class JsfViewFactory implements ViewFactory {
 			if (logger.isDebugEnabled()) {
 				logger.debug("UIViewRoot restored for '" + viewName + "'");
 			}
-			processTree(facesContext, viewRoot);
+			processRestoredTree(facesContext, viewRoot);
 		}
 		else {
 			if (logger.isDebugEnabled()) {
@@ -154,11 +179,19 @@ public class JsfViewFactory implements ViewFactory {
 		return viewRoot;
 	}
 
+	private void processRestoredTree(FacesContext context, UIViewRoot viewRoot) {
+		List<UIComponent> postRestoreStateEventTargets = new ArrayList<>();
+		processTree(context, viewRoot, postRestoreStateEventTargets);
+		context.getAttributes().put(POST_RESTORE_STATE_EVENT_TARGETS, postRestoreStateEventTargets);
+	}
+
 	/**
-	 * Walk the component tree to perform any required per-component operations.
+	 * Walk the component tree to perform any required per-component operations, and collect the components that must
+	 * receive the PostRestoreStateEvent.
 	 */
 	@SuppressWarnings("CastCanBeRemovedNarrowingVariableType")
-	private void processTree(FacesContext context, UIComponent component) {
+	private void processTree(FacesContext context, UIComponent component,
+			List<UIComponent> postRestoreStateEventTargets) {
 
 		Object mojarraTreeHandler = null;
 		if (isMojarraPresent() && !JsfRuntimeInformation.isMyFacesInUse()) {
@@ -176,9 +209,14 @@ public class JsfViewFactory implements ViewFactory {
 			binding.setValue(context.getELContext(), component);
 		}
 
+		if (binding != null || PROCESS_EVENT_OVERRIDDEN.get(component.getClass())
+				|| UIComponent.isCompositeComponent(component)) {
+			postRestoreStateEventTargets.add(component);
+		}
+
 		Iterator<UIComponent> it = component.getFacetsAndChildren();
 		while (it.hasNext()) {
-			processTree(context, it.next());
+			processTree(context, it.next(), postRestoreStateEventTargets);
 		}
 
 		if (mojarraTreeHandler != null) {
@@ -186,7 +224,34 @@ public class JsfViewFactory implements ViewFactory {
 		}
 	}
 
+	/**
+	 * Deliver the PostRestoreStateEvent to the components of the view. For a restored view, only the components that
+	 * may react to the event are notified: the components with a binding, as well as composite components and
+	 * components overriding {@link UIComponent#processEvent(ComponentSystemEvent)}. Other components would handle the
+	 * event as a no-op, so the full visit of the component tree is avoided.
+	 */
+	@SuppressWarnings("unchecked")
 	private void publishPostRestoreStateEvent(FacesContext facesContext) {
+		List<UIComponent> targets = (List<UIComponent>) facesContext.getAttributes().remove(
+				POST_RESTORE_STATE_EVENT_TARGETS);
+		if (targets != null) {
+			try {
+				PostRestoreStateEvent event = null;
+				for (UIComponent target : targets) {
+					if (event == null) {
+						event = new PostRestoreStateEvent(target);
+					}
+					else {
+						event.setComponent(target);
+					}
+					processEvent(facesContext, target, event);
+				}
+			}
+			catch (AbortProcessingException e) {
+				publishExceptionQueuedEvent(facesContext, e);
+			}
+			return;
+		}
 		VisitHint visitHint = null;
 		try {
 			visitHint = Enum.valueOf(VisitHint.class, "SKIP_ITERATION");
@@ -203,15 +268,40 @@ public class JsfViewFactory implements ViewFactory {
 			facesContext.getViewRoot().visitTree(visitContext, new PostRestoreStateEventVisitCallback());
 		}
 		catch (AbortProcessingException e) {
-			PhaseId phaseId = facesContext.getCurrentPhaseId();
-			Object eventContext = new ExceptionQueuedEventContext(facesContext, e, null, phaseId);
-			facesContext.getApplication().publishEvent(facesContext, ExceptionQueuedEvent.class, eventContext);
+			publishExceptionQueuedEvent(facesContext, e);
 		}
 		finally {
 			facesContext.getAttributes().remove(name);
 		}
 	}
 
+	/**
+	 * Let a component process an event, with the component, and the composite component it belongs to if any, made
+	 * available to EL expressions as during a tree visit.
+	 */
+	private void processEvent(FacesContext facesContext, UIComponent target, PostRestoreStateEvent event) {
+		UIComponent compositeParent = UIComponent.getCompositeComponentParent(target);
+		if (compositeParent != null) {
+			compositeParent.pushComponentToEL(facesContext, compositeParent);
+		}
+		target.pushComponentToEL(facesContext, target);
+		try {
+			target.processEvent(event);
+		}
+		finally {
+			target.popComponentFromEL(facesContext);
+			if (compositeParent != null) {
+				compositeParent.popComponentFromEL(facesContext);
+			}
+		}
+	}
+
+	private void publishExceptionQueuedEvent(FacesContext facesContext, AbortProcessingException e) {
+		PhaseId phaseId = facesContext.getCurrentPhaseId();
+		Object eventContext = new ExceptionQueuedEventContext(facesContext, e, null, phaseId);
+		facesContext.getApplication().publishEvent(facesContext, ExceptionQueuedEvent.class, eventContext);
+	}
+
 	private static class MojarraProcessTreeHandler {
 
 		private CompositeComponentStackManager stackManager;
@@ -0,0 +1,221 @@
+package org.springframework.faces.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PagedDataModelTests {
+
+	private TestLoader loader;
+
+	private PagedDataModel<Integer> dataModel;
+
+	@BeforeEach
+	public void setUp() {
+		this.loader = new TestLoader(95);
+		this.dataModel = new PagedDataModel<>(this.loader, 10);
+	}
+
+	@Test
+	public void testPageLoadedOnDemand() {
+		assertEquals(0, this.loader.loads);
+		assertEquals(10, this.dataModel.getRowCount());
+		this.dataModel.setRowIndex(3);
+		assertEquals(3, this.dataModel.getRowData());
+		assertEquals(1, this.loader.loads);
+		assertEquals(95, this.dataModel.getTotalRowCount());
+		assertEquals(10, this.dataModel.getPageCount());
+	}
+
+	@Test
+	public void testPaging() {
+		this.dataModel.setRowIndex(0);
+		this.dataModel.nextPage();
+		assertEquals(-1, this.dataModel.getRowIndex());
+		this.dataModel.setRowIndex(0);
+		assertEquals(10, this.dataModel.getRowData());
+		assertTrue(this.dataModel.getPreviousPageAvailable());
+		this.dataModel.setPageIndex(9);
+		assertFalse(this.dataModel.getNextPageAvailable());
+		assertEquals(5, this.dataModel.getRowCount());
+		this.dataModel.nextPage();
+		assertEquals(9, this.dataModel.getPageIndex());
+		assertEquals(2, this.loader.loads);
+	}
+
+	@Test
+	public void testSortAndFilterResetPage() {
+		this.dataModel.setPageIndex(2);
+		this.dataModel.sortBy("value");
+		assertEquals(0, this.dataModel.getPageIndex());
+		this.dataModel.setRowIndex(0);
+		assertEquals(0, this.dataModel.getRowData());
+		this.dataModel.sortBy("value");
+		assertFalse(this.dataModel.getSortAscending());
+		this.dataModel.setRowIndex(0);
+		assertEquals(94, this.dataModel.getRowData());
+
+		this.dataModel.setPageIndex(1);
+		this.dataModel.setFilter("max", 15);
+		assertEquals(0, this.dataModel.getPageIndex());
+		assertEquals(15, this.dataModel.getTotalRowCount());
+		this.dataModel.setFilter("max", null);
+		assertEquals(95, this.dataModel.getTotalRowCount());
+	}
+
+	@Test
+	public void testSelectionTrackedAcrossPages() {
+		this.dataModel.setMultipleSelection(true);
+		this.dataModel.setRowIndex(2);
+		this.dataModel.setCurrentRowSelected(true);
+		this.dataModel.nextPage();
+		this.dataModel.setRowIndex(5);
+		this.dataModel.setCurrentRowSelected(true);
+		assertTrue(this.dataModel.isCurrentRowSelected());
+		assertEquals(List.of(2, 15), this.dataModel.getSelections());
+		this.dataModel.previousPage();
+		this.dataModel.setRowIndex(2);
+		assertTrue(this.dataModel.isCurrentRowSelected());
+		this.dataModel.setCurrentRowSelected(false);
+		assertEquals(List.of(15), this.dataModel.getSelections());
+	}
+
+	@Test
+	public void testOneSelection() {
+		this.dataModel.select(42);
+		this.dataModel.setRowIndex(1);
+		this.dataModel.setCurrentRowSelected(true);
+		assertEquals(1, this.dataModel.getSelectedRow());
+		assertThrows(IllegalArgumentException.class, () -> this.dataModel.setSelections(List.of(1, 2)));
+		assertThrows(UnsupportedOperationException.class, () -> this.dataModel.selectAll());
+	}
+
+	@Test
+	public void testSerializedWithoutRows() throws Exception {
+		this.dataModel.setMultipleSelection(true);
+		this.dataModel.setPageIndex(3);
+		this.dataModel.setSort("value", false);
+		this.dataModel.setPageIndex(3);
+		this.dataModel.selectAll();
+		assertEquals(10, this.dataModel.getRowCount());
+
+		PagedDataModel<Integer> restored = serializeAndDeserialize(this.dataModel);
+		TestLoader restoredLoader = (TestLoader) restored.getLoader();
+		assertEquals(0, restoredLoader.loads);
+		assertEquals(3, restored.getPageIndex());
+		assertEquals(10, restored.getSelectedRowKeys().size());
+		restored.setRowIndex(0);
+		assertEquals(64, restored.getRowData());
+		assertTrue(restored.isCurrentRowSelected());
+		assertEquals(1, restoredLoader.loads);
+	}
+
+	@Test
+	public void testNonSerializableLoaderSetAgain() throws Exception {
+		PagedDataModel<Integer> dataModel = new PagedDataModel<>(new NonSerializableLoader(20), 5);
+		dataModel.select(7);
+		PagedDataModel<Integer> restored = serializeAndDeserialize(dataModel);
+		assertNull(restored.getLoader());
+		assertThrows(IllegalStateException.class, restored::getRowCount);
+		assertThrows(IllegalStateException.class, restored::getSelections);
+		restored.setLoader(new NonSerializableLoader(20));
+		assertEquals(5, restored.getRowCount());
+		assertEquals(List.of(7), restored.getSelections());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PagedDataModel<Integer> serializeAndDeserialize(PagedDataModel<Integer> dataModel)
+			throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(dataModel);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (PagedDataModel<Integer>) in.readObject();
+		}
+	}
+
+
+	private static class TestLoader implements PagedDataLoader<Integer>, Serializable {
+
+		private final int size;
+
+		private transient int loads;
+
+		public TestLoader(int size) {
+			this.size = size;
+		}
+
+		public List<Integer> load(int first, int maxResults, String sortProperty, boolean ascending,
+				Map<String, Object> filters) {
+			this.loads++;
+			Comparator<Integer> order = (ascending ? Comparator.naturalOrder() : Comparator.reverseOrder());
+			return rows(filters).stream().sorted(order).skip(first).limit(maxResults).collect(Collectors.toList());
+		}
+
+		public int count(Map<String, Object> filters) {
+			return rows(filters).size();
+		}
+
+		public Object getRowKey(Integer row) {
+			return row;
+		}
+
+		public List<Integer> loadByKeys(Collection<Object> rowKeys) {
+			List<Integer> rows = new ArrayList<>();
+			rowKeys.forEach(key -> rows.add((Integer) key));
+			return rows;
+		}
+
+		private List<Integer> rows(Map<String, Object> filters) {
+			int max = (Integer) filters.getOrDefault("max", this.size);
+			return IntStream.range(0, Math.min(max, this.size)).boxed().collect(Collectors.toList());
+		}
+	}
+
+
+	private static class NonSerializableLoader implements PagedDataLoader<Integer> {
+
+		private final TestLoader delegate;
+
+		public NonSerializableLoader(int size) {
+			this.delegate = new TestLoader(size);
+		}
+
+		public List<Integer> load(int first, int maxResults, String sortProperty, boolean ascending,
+				Map<String, Object> filters) {
+			return this.delegate.load(first, maxResults, sortProperty, ascending, filters);
+		}
+
+		public int count(Map<String, Object> filters) {
+			return this.delegate.count(filters);
+		}
+
+		public Object getRowKey(Integer row) {
+			return row;
+		}
+
+		public List<Integer> loadByKeys(Collection<Object> rowKeys) {
+			return this.delegate.loadByKeys(rowKeys);
+		}
+	}
+
+}
@@ -1,9 +1,13 @@
 package org.springframework.faces.webflow;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.easymock.EasyMock;
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +18,7 @@ import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.execution.FlowExecutionContext;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.execution.RequestContextHolder;
+import org.springframework.webflow.test.MockExternalContext;
 import org.springframework.webflow.test.MockFlowExecutionKey;
 
 public class FlowResponseStateManagerTests {
@@ -80,4 +85,26 @@ public class FlowResponseStateManagerTests {
 		assertSame(state, actual);
 		EasyMock.verify(this.requestContext);
 	}
+
+	@Test
+	public void testWriteAndGetServerSideState() throws IOException {
+		this.jsfMock.servletContext().addInitParameter(FlowResponseStateManager.VIEW_STATE_STORAGE_PARAM, "server");
+		EasyMock.expect(this.flowExecutionContext.getKey()).andReturn(new MockFlowExecutionKey("e1s1"));
+		LocalAttributeMap<Object> viewMap = new LocalAttributeMap<>();
+		EasyMock.expect(this.requestContext.getViewScope()).andStubReturn(viewMap);
+		EasyMock.expect(this.requestContext.getExternalContext()).andStubReturn(new MockExternalContext());
+		EasyMock.expect(this.requestContext.getFlowExecutionContext()).andReturn(this.flowExecutionContext);
+		EasyMock.replay(this.requestContext, this.flowExecutionContext);
+
+		Map<String, Object> componentStates = new HashMap<>();
+		componentStates.put("form:input", new Object[] { "value", Boolean.TRUE });
+		Object[] state = new Object[] { null, componentStates };
+		this.responseStateManager.writeState(this.jsfMock.facesContext(), state);
+
+		assertNotSame(state, viewMap.get(FlowResponseStateManager.FACES_VIEW_STATE));
+		Object actual = this.responseStateManager.getState(this.jsfMock.facesContext(), "viewId");
+		assertArrayEquals((Object[]) ((Map<?, ?>) state[1]).get("form:input"),
+				(Object[]) ((Map<?, ?>) ((Object[]) actual)[1]).get("form:input"));
+		EasyMock.verify(this.flowExecutionContext, this.requestContext);
+	}
 }
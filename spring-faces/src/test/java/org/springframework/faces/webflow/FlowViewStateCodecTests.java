@@ -0,0 +1,122 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.faces.webflow;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.SerializationUtils;
+import org.springframework.webflow.test.MockRequestContext;
+
+/**
+ * Unit tests for {@link FlowViewStateCodec}.
+ */
+public class FlowViewStateCodecTests {
+
+	private final MockRequestContext requestContext = new MockRequestContext();
+
+	@Test
+	public void testEncodeDecode() {
+		FlowViewStateCodec codec = new FlowViewStateCodec();
+		Object[] state = createState("value");
+		Object encoded = codec.encode(state, null, this.requestContext);
+		assertNotSame(state, encoded);
+		assertState("value", codec.decode(encoded, this.requestContext));
+	}
+
+	@Test
+	public void testEncodeDecodeChangedState() {
+		FlowViewStateCodec codec = new FlowViewStateCodec();
+		Object first = codec.encode(createState("value"), null, this.requestContext);
+		Object second = codec.encode(createState("other"), first, this.requestContext);
+		assertState("value", codec.decode(first, this.requestContext));
+		assertState("other", codec.decode(second, this.requestContext));
+	}
+
+	@Test
+	public void testEncodeUnchangedState() {
+		FlowViewStateCodec codec = new FlowViewStateCodec();
+		Object encoded = codec.encode(createState("value"), null, this.requestContext);
+		assertSame(encoded, codec.encode(createState("value"), encoded, this.requestContext));
+		assertNotSame(encoded, codec.encode(createState("other"), encoded, this.requestContext));
+	}
+
+	@Test
+	public void testDecodeStateNotEncoded() {
+		Object[] state = createState("value");
+		assertSame(state, new FlowViewStateCodec().decode(state, this.requestContext));
+		assertNull(new FlowViewStateCodec().decode(null, this.requestContext));
+	}
+
+	@Test
+	public void testEncodeSmallerThanState() {
+		Object[] state = createState("value".repeat(100));
+		Object encoded = new FlowViewStateCodec().encode(state, null, this.requestContext);
+		assertTrue(serializedSize(encoded) < serializedSize(state));
+	}
+
+	@Test
+	public void testDecodeEvictedState() {
+		FlowViewStateCodec codec = new FlowViewStateCodec(3);
+		Object first = codec.encode(createState("value"), null, this.requestContext);
+		Object second = codec.encode(createState("other"), first, this.requestContext);
+		assertNull(codec.decode(first, this.requestContext));
+		assertState("other", codec.decode(second, this.requestContext));
+	}
+
+	@Test
+	public void testEncodeDecodeStateLargerThanStore() {
+		FlowViewStateCodec codec = new FlowViewStateCodec(2);
+		Object encoded = codec.encode(createState("value"), null, this.requestContext);
+		assertState("value", codec.decode(encoded, this.requestContext));
+	}
+
+	@Test
+	public void testDecodeStateWithoutStore() {
+		Object encoded = new FlowViewStateCodec().encode(createState("value"), null, this.requestContext);
+		assertNull(new FlowViewStateCodec().decode(encoded, new MockRequestContext()));
+	}
+
+	private Object[] createState(String inputValue) {
+		Map<String, Object> componentStates = new LinkedHashMap<>();
+		componentStates.put("form", new Object[] { "form", null });
+		componentStates.put("form:input", new Object[] { inputValue, Boolean.TRUE });
+		componentStates.put("form:label", new Object[] { "Label text", 3 });
+		return new Object[] { null, componentStates };
+	}
+
+	private void assertState(String inputValue, Object state) {
+		Map<?, ?> expected = (Map<?, ?>) createState(inputValue)[1];
+		Map<?, ?> actual = (Map<?, ?>) ((Object[]) state)[1];
+		assertEquals(expected.keySet(), actual.keySet());
+		for (Object key : expected.keySet()) {
+			assertArrayEquals((Object[]) expected.get(key), (Object[]) actual.get(key));
+		}
+	}
+
+	private int serializedSize(Object object) {
+		return SerializationUtils.serialize(object).length;
+	}
+
+}
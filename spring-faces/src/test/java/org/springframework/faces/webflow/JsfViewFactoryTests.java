@@ -6,6 +6,7 @@ import java.util.List;
 
 import jakarta.faces.FacesException;
 import jakarta.faces.application.ViewHandler;
+import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.UIInput;
 import jakarta.faces.component.UIOutput;
 import jakarta.faces.component.UIPanel;
@@ -168,6 +169,39 @@ public class JsfViewFactoryTests {
 		assertTrue(existingRoot.isPostRestoreStateEventSeen(), "The PostRestoreViewEvent was not seen");
 	}
 
+	/**
+	 * View already exists in view/flash scope and must be restored, components handling the PostRestoreStateEvent
+	 * receive it
+	 */
+	@Test
+	public final void testGetView_RestorePostRestoreStateEventDelivered() {
+
+		this.lifecycle = new NoExecutionLifecycle(this.jsfMock.lifecycle());
+		this.factory = new JsfViewFactory(this.parser.parseExpression(VIEW_ID,
+				new FluentParserContext().template().evaluate(RequestContext.class).expectResult(String.class)),
+				this.lifecycle);
+
+		MockUIViewRoot existingRoot = new MockUIViewRoot();
+		existingRoot.setViewId(VIEW_ID);
+		UIPanel panel = new UIPanel();
+		existingRoot.getChildren().add(panel);
+		PostRestoreStateAwareOutput output = new PostRestoreStateAwareOutput();
+		panel.getChildren().add(new UIOutput());
+		panel.getFacets().put("header", output);
+		((MockViewHandler) this.viewHandler).setRestoreView(existingRoot);
+
+		this.context.inViewState();
+		EasyMock.expectLastCall().andReturn(true);
+
+		EasyMock.replay(this.context);
+
+		this.factory.getView(this.context);
+
+		assertTrue(existingRoot.isPostRestoreStateEventSeen(), "The PostRestoreViewEvent was not seen");
+		assertTrue(output.postRestoreStateEventSeen, "The PostRestoreViewEvent was not seen by the output");
+		assertSame(output, output.currentComponent, "The output was not the current component");
+	}
+
 	/**
 	 * View already exists in view/flash scope and must be restored and the lifecycle executed, no flow event signaled
 	 */
@@ -391,6 +425,21 @@ public class JsfViewFactoryTests {
 		}
 	}
 
+	private static class PostRestoreStateAwareOutput extends UIOutput {
+
+		private boolean postRestoreStateEventSeen;
+
+		private UIComponent currentComponent;
+
+		public void processEvent(ComponentSystemEvent event) throws AbortProcessingException {
+			if (event instanceof PostRestoreStateEvent) {
+				assertSame(this, event.getComponent(), "Component did not match");
+				this.postRestoreStateEventSeen = true;
+				this.currentComponent = UIComponent.getCurrentComponent(FacesContext.getCurrentInstance());
+			}
+		}
+	}
+
 	private static class MockUIViewRoot extends UIViewRoot {
 
 		private boolean postRestoreStateEventSeen;
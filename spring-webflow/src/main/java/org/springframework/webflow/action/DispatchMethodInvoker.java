@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2024 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,8 @@ package org.springframework.webflow.action;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Map;
 
-import org.springframework.binding.collection.AbstractCachingMapDecorator;
+import org.springframework.binding.collection.ConcurrentCache;
 import org.springframework.binding.method.InvalidMethodKeyException;
 import org.springframework.binding.method.MethodKey;
 import org.springframework.util.Assert;
@@ -46,20 +45,7 @@ class DispatchMethodInvoker {
 	/**
 	 * The resolved method cache.
 	 */
-	@SuppressWarnings("serial")
-	private Map<String, Method> methodCache = new AbstractCachingMapDecorator<String, Method>() {
-		@Override
-		public Method create(String key) {
-			String methodName = key;
-			try {
-				return new MethodKey(target.getClass(), methodName, parameterTypes).getMethod();
-			} catch (InvalidMethodKeyException e) {
-				throw new MethodLookupException("Unable to resolve dispatch method '" + e.getMethodKey()
-						+ "'; make sure the method name is correct and such a method is defined on targetClass "
-						+ target.getClass().getName(), e);
-			}
-		}
-	};
+	private final ConcurrentCache<String, Method> methodCache = new ConcurrentCache<>(this::resolveMethod);
 
 	/**
 	 * Creates a dispatch method invoker.
@@ -120,6 +106,22 @@ class DispatchMethodInvoker {
 		return methodCache.get(methodName);
 	}
 
+	/**
+	 * Resolve the method of the specified name on the target object, called once per method name.
+	 * @param methodName the method name
+	 * @return the method
+	 * @throws MethodLookupException when the method cannot be resolved
+	 */
+	private Method resolveMethod(String methodName) throws MethodLookupException {
+		try {
+			return new MethodKey(target.getClass(), methodName, parameterTypes).getMethod();
+		} catch (InvalidMethodKeyException e) {
+			throw new MethodLookupException("Unable to resolve dispatch method '" + e.getMethodKey()
+					+ "'; make sure the method name is correct and such a method is defined on targetClass "
+					+ target.getClass().getName(), e);
+		}
+	}
+
 	/**
 	 * Thrown when a dispatch method could not be resolved.
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import org.springframework.core.style.ToStringCreator;
 import org.springframework.util.Assert;
 import org.springframework.webflow.execution.Action;
 import org.springframework.webflow.execution.ActionExecutor;
+import org.springframework.webflow.execution.AsyncAction;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
 
@@ -28,6 +29,11 @@ import org.springframework.webflow.execution.RequestContext;
  * <p>
  * Delegates to a {@link ResultEventFactory} to determine how to map the evaluation result to an action outcome
  * {@link Event}.
+ * <p>
+ * If the evaluation result is a {@link java.util.concurrent.CompletionStage CompletionStage} or a
+ * {@link java.util.concurrent.Future Future}, for example because the expression invokes an asynchronous service
+ * method, this action waits for it to complete, up to the configured {@link #setTimeout(long) timeout}, and then
+ * exposes and maps the completed value instead.
  * 
  * @see Expression
  * @see ResultEventFactory
@@ -35,7 +41,7 @@ import org.springframework.webflow.execution.RequestContext;
  * @author Keith Donald
  * @author Jeremy Grelle
  */
-public class EvaluateAction extends AbstractAction {
+public class EvaluateAction extends AbstractAction implements AsyncAction {
 
 	/**
 	 * The expression to evaluate when this action is invoked. Required.
@@ -52,6 +58,11 @@ public class EvaluateAction extends AbstractAction {
 	 */
 	private ResultEventFactory resultEventFactory;
 
+	/**
+	 * How long to wait for an asynchronous evaluation result to complete, in milliseconds.
+	 */
+	private long timeout;
+
 	/**
 	 * Create a new evaluate action.
 	 * @param expression the expression to evaluate (required)
@@ -71,8 +82,41 @@ public class EvaluateAction extends AbstractAction {
 		init(expression, resultExpression, resultEventFactory);
 	}
 
+	/**
+	 * Returns how long this action waits for an asynchronous evaluation result to complete, in milliseconds. 0 or less
+	 * means no timeout.
+	 * @since 4.0.2
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Sets how long this action waits for an asynchronous evaluation result to complete, in milliseconds. Defaults to
+	 * 0, meaning no timeout.
+	 * @since 4.0.2
+	 */
+	public void setTimeout(long timeout) {
+		this.timeout = timeout;
+	}
+
 	protected Event doExecute(RequestContext context) throws Exception {
-		Object result = expression.getValue(context);
+		Object result = start(context);
+		if (ActionExecutor.isPending(result)) {
+			result = ActionExecutor.await(result, timeout);
+		}
+		return complete(result, context);
+	}
+
+	/**
+	 * Evaluates the expression of this action. The pre and post execution hooks of this action are not invoked when
+	 * it is executed in two steps.
+	 */
+	public Object start(RequestContext context) throws Exception {
+		return expression.getValue(context);
+	}
+
+	public Event complete(Object result, RequestContext context) throws Exception {
 		if (result instanceof Action) {
 			return ActionExecutor.execute((Action) result, context);
 		} else {
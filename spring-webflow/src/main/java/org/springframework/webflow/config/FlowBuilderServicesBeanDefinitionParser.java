@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,6 +47,7 @@ class FlowBuilderServicesBeanDefinitionParser extends AbstractSingleBeanDefiniti
 	private static final String VIEW_FACTORY_CREATOR_ATTR = "view-factory-creator";
 	private static final String VALIDATOR_ATTR = "validator";
 	private static final String VALIDATION_HINT_RESOLVER_ATTR = "validation-hint-resolver";
+	private static final String PARALLEL_ACTION_EXECUTOR_ATTR = "parallel-action-executor";
 
 	// --------------------------- Bean Configuration Properties --------------------- //
 	private static final String CONVERSION_SERVICE_PROPERTY = "conversionService";
@@ -55,6 +56,7 @@ class FlowBuilderServicesBeanDefinitionParser extends AbstractSingleBeanDefiniti
 	private static final String VIEW_FACTORY_CREATOR_PROPERTY = "viewFactoryCreator";
 	private static final String VALIDATOR_PROPERTY = "validator";
 	private static final String VALIDATION_HINT_RESOLVER_PROPERTY = "validationHintResolver";
+	private static final String PARALLEL_ACTION_EXECUTOR_PROPERTY = "parallelActionExecutor";
 
 	protected String getBeanClassName(Element element) {
 		return FLOW_BUILDER_SERVICES_CLASS_NAME;
@@ -71,6 +73,7 @@ class FlowBuilderServicesBeanDefinitionParser extends AbstractSingleBeanDefiniti
 		parseViewFactoryCreator(element, parserContext, builder);
 		parseValidator(element, parserContext, builder);
 		parseValidationHintResolver(element, parserContext, builder);
+		parseParallelActionExecutor(element, builder);
 		parseDevelopment(element, builder);
 
 		parserContext.popAndRegisterContainingComponent();
@@ -125,6 +128,13 @@ class FlowBuilderServicesBeanDefinitionParser extends AbstractSingleBeanDefiniti
 		}
 	}
 
+	private void parseParallelActionExecutor(Element element, BeanDefinitionBuilder definitionBuilder) {
+		String executor = element.getAttribute(PARALLEL_ACTION_EXECUTOR_ATTR);
+		if (StringUtils.hasText(executor)) {
+			definitionBuilder.addPropertyReference(PARALLEL_ACTION_EXECUTOR_PROPERTY, executor);
+		}
+	}
+
 	private void parseDevelopment(Element element, BeanDefinitionBuilder definitionBuilder) {
 		String development = element.getAttribute(DEVELOPMENT_ATTR);
 		if (StringUtils.hasText(development)) {
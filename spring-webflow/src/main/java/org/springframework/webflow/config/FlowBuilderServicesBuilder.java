@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2014 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.config;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.binding.convert.ConversionService;
 import org.springframework.binding.convert.service.DefaultConversionService;
 import org.springframework.binding.expression.ExpressionParser;
@@ -51,6 +53,8 @@ public class FlowBuilderServicesBuilder {
 
 	private boolean enableDevelopmentMode;
 
+	private Executor parallelActionExecutor;
+
 
 	public FlowBuilderServicesBuilder() {
 		this.viewFactoryCreator = new MvcViewFactoryCreator();
@@ -128,6 +132,18 @@ public class FlowBuilderServicesBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the {@link Executor} starting the actions of on-entry and on-render blocks declared as
+	 * {@code parallel} on separate threads. By default no executor is set and such actions
+	 * are started by the request thread, only waiting for their asynchronous results concurrently.
+	 * @param parallelActionExecutor the executor to use
+	 * @since 4.0.2
+	 */
+	public FlowBuilderServicesBuilder setParallelActionExecutor(Executor parallelActionExecutor) {
+		this.parallelActionExecutor = parallelActionExecutor;
+		return this;
+	}
+
 	/**
 	 * Create and return a {@link FlowBuilderServices} instance.
 	 */
@@ -139,6 +155,7 @@ public class FlowBuilderServicesBuilder {
 		flowBuilderServices.setValidator(this.validator);
 		flowBuilderServices.setValidationHintResolver(this.validationHintResolver);
 		flowBuilderServices.setDevelopment(this.enableDevelopmentMode);
+		flowBuilderServices.setParallelActionExecutor(this.parallelActionExecutor);
 		return flowBuilderServices;
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2014 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.config;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.context.ApplicationContext;
 import org.springframework.util.Assert;
 import org.springframework.webflow.conversation.ConversationManager;
@@ -32,6 +34,11 @@ import org.springframework.webflow.execution.repository.snapshot.SerializedFlowE
 import org.springframework.webflow.execution.repository.snapshot.SimpleFlowExecutionSnapshotFactory;
 import org.springframework.webflow.executor.FlowExecutor;
 import org.springframework.webflow.executor.FlowExecutorImpl;
+import org.springframework.webflow.metrics.FlowExecutionTraceRecorder;
+import org.springframework.webflow.metrics.FlowMetrics;
+import org.springframework.webflow.metrics.MeterRegistry;
+import org.springframework.webflow.metrics.MetricsFlowExecutionListener;
+import org.springframework.webflow.metrics.SimpleMeterRegistry;
 
 /**
  * A builder for {@link FlowExecutor} instances designed for programmatic use in
@@ -57,6 +64,12 @@ public class FlowExecutorBuilder {
 
 	private ConversationManager conversationManager;
 
+	private Executor asyncExecutor;
+
+	private MeterRegistry meterRegistry;
+
+	private FlowExecutionTraceRecorder traceRecorder;
+
 
 	public FlowExecutorBuilder(FlowDefinitionLocator flowRegistry) {
 		Assert.notNull(flowRegistry, "FlowDefinitionLocator is required");
@@ -161,6 +174,48 @@ public class FlowExecutorBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the executor running flow executions launched or resumed asynchronously
+	 * through the {@link org.springframework.webflow.executor.AsyncFlowExecutor}
+	 * interface of the built flow executor.
+	 * @param asyncExecutor the executor, for example one starting a virtual thread per task
+	 * @since 4.0.2
+	 */
+	public FlowExecutorBuilder setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+		return this;
+	}
+
+	/**
+	 * Set the registry to record flow execution measurements with, as described by
+	 * {@link FlowMetrics}. This registers a {@link MetricsFlowExecutionListener}
+	 * observing all flow executions, and instruments the flow executor, its flow
+	 * execution repository and snapshot factory.
+	 * @param meterRegistry the meter registry, for example a {@link SimpleMeterRegistry}
+	 * or an adapter to a metrics library
+	 * @since 4.0.2
+	 */
+	public FlowExecutorBuilder setMeterRegistry(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "MeterRegistry is required");
+		Assert.state(this.meterRegistry == null, "A MeterRegistry is already set");
+		this.meterRegistry = meterRegistry;
+		return addFlowExecutionListener(new MetricsFlowExecutionListener(meterRegistry));
+	}
+
+	/**
+	 * Set the recorder tracing the requests processed by flow executions. This
+	 * registers the recorder as a listener observing all flow executions, and
+	 * lets it trace the snapshots taken by the snapshot factory.
+	 * @param traceRecorder the trace recorder
+	 * @since 4.0.2
+	 */
+	public FlowExecutorBuilder setTraceRecorder(FlowExecutionTraceRecorder traceRecorder) {
+		Assert.notNull(traceRecorder, "FlowExecutionTraceRecorder is required");
+		Assert.state(this.traceRecorder == null, "A FlowExecutionTraceRecorder is already set");
+		this.traceRecorder = traceRecorder;
+		return addFlowExecutionListener(traceRecorder);
+	}
+
 	/**
 	 * Create and return a {@link FlowExecutor} instance.
 	 */
@@ -168,7 +223,10 @@ public class FlowExecutorBuilder {
 		FlowExecutionImplFactory executionFactory = getExecutionFactory();
 		DefaultFlowExecutionRepository executionRepository = getFlowExecutionRepository(executionFactory);
 		executionFactory.setExecutionKeyFactory(executionRepository);
-		return new FlowExecutorImpl(this.flowRegistry, executionFactory, executionRepository);
+		FlowExecutorImpl flowExecutor = new FlowExecutorImpl(this.flowRegistry, executionFactory, executionRepository);
+		flowExecutor.setAsyncExecutor(this.asyncExecutor);
+		flowExecutor.setMeterRegistry(this.meterRegistry);
+		return flowExecutor;
 	}
 
 
@@ -185,6 +243,7 @@ public class FlowExecutorBuilder {
 		ConversationManager manager = getConversationManager();
 		FlowExecutionSnapshotFactory snapshotFactory = getSnapshotFactory(executionFactory);
 		DefaultFlowExecutionRepository repository = new DefaultFlowExecutionRepository(manager, snapshotFactory);
+		repository.setMeterRegistry(this.meterRegistry);
 		if (this.maxFlowExecutionSnapshots != null) {
 			repository.setMaxSnapshots((this.maxFlowExecutionSnapshots == 0) ? 1 : this.maxFlowExecutionSnapshots);
 		}
@@ -208,7 +267,11 @@ public class FlowExecutorBuilder {
 			factory = new SimpleFlowExecutionSnapshotFactory(executionFactory, this.flowRegistry);
 		}
 		else {
-			factory = new SerializedFlowExecutionSnapshotFactory(executionFactory, this.flowRegistry);
+			SerializedFlowExecutionSnapshotFactory serializedFactory =
+					new SerializedFlowExecutionSnapshotFactory(executionFactory, this.flowRegistry);
+			serializedFactory.setMeterRegistry(this.meterRegistry);
+			serializedFactory.setTraceRecorder(this.traceRecorder);
+			factory = serializedFactory;
 		}
 		return factory;
 	}
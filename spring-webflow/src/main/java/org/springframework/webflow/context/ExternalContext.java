@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -91,6 +91,31 @@ public interface ExternalContext {
 	 */
 	boolean isAjaxRequest();
 
+	/**
+	 * Returns true if a view rendered when the flow execution pauses should be rendered directly in the response to the
+	 * current request, instead of in the response to a flow execution redirect. Typically true for form submissions in
+	 * a "render on post" mode, where the client updates its location to the flow execution URL once the response has
+	 * been received. Defaults to false.
+	 * @return true if paused views should be rendered in the response to the current request
+	 * @since 4.0.2
+	 */
+	default boolean isInlineRenderRequest() {
+		return false;
+	}
+
+	/**
+	 * Check whether the response the client has cached for the current request is still valid, given the supplied
+	 * entity tag identifying the current version of the response. If so, prepares a "not modified" response, which
+	 * completes the handling of the request. Otherwise, the tag is returned with the response so the client can
+	 * supply it with subsequent requests. Defaults to false, meaning conditional requests are not supported.
+	 * @param etag the entity tag of the current version of the response
+	 * @return true if the response cached by the client is still valid, and no response should be rendered
+	 * @since 4.0.2
+	 */
+	default boolean checkNotModified(String etag) {
+		return false;
+	}
+
 	/**
 	 * Get a flow execution URL for the execution with the provided key. Typically used by response writers that write
 	 * out references to the flow execution to support postback on a subsequent request. The URL returned is encoded.
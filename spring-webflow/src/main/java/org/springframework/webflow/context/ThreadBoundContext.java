@@ -0,0 +1,140 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.context;
+
+import java.util.function.Supplier;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * The request state that Spring and Spring Security bind to the current thread, captured to run flow execution code
+ * on another thread: the {@link LocaleContext}, the {@link RequestAttributes} backing request and session scoped
+ * beans, and the Spring Security context if Spring Security is present.
+ * <p>
+ * Resources bound through Spring's transaction synchronization, such as the persistence context of a flow managed by
+ * the <code>JpaFlowExecutionListener</code>, are not captured, as they are not meant to be used by several threads.
+ * Neither are the Web Flow {@link ExternalContextHolder} and request context holder, which are set by the code
+ * executing the flow.
+ *
+ * @since 4.0.2
+ */
+public final class ThreadBoundContext {
+
+	private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+			"org.springframework.security.core.context.SecurityContextHolder",
+			ThreadBoundContext.class.getClassLoader());
+
+	private final LocaleContext localeContext;
+
+	private final RequestAttributes requestAttributes;
+
+	private final Object securityContext;
+
+	private final boolean detached;
+
+	private ThreadBoundContext(boolean detached) {
+		this.localeContext = LocaleContextHolder.getLocaleContext();
+		this.requestAttributes = RequestContextHolder.getRequestAttributes();
+		this.securityContext = (SECURITY_PRESENT ? SecurityContextAccessor.getContext() : null);
+		this.detached = detached;
+	}
+
+	/**
+	 * Capture the state bound to the current thread, to run code on other threads while the current thread waits for
+	 * that code to complete. The request attributes of the current thread are shared with those threads.
+	 * @return the captured state
+	 */
+	public static ThreadBoundContext capture() {
+		return new ThreadBoundContext(false);
+	}
+
+	/**
+	 * Capture the state bound to the current thread, to run code on another thread after the current thread has
+	 * returned, as with asynchronous request processing. As the request attributes of the current thread are completed
+	 * once it returns, the code is given request attributes of its own for the same servlet request, completed when
+	 * the code ends.
+	 * @return the captured state
+	 */
+	public static ThreadBoundContext detach() {
+		return new ThreadBoundContext(true);
+	}
+
+	/**
+	 * Run the given code with the captured state bound to the current thread, restoring the state previously bound to
+	 * it afterwards.
+	 * @param task the code to run
+	 * @return the result of the code
+	 */
+	public <T> T execute(Supplier<T> task) {
+		LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+		RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+		Object previousSecurityContext = (SECURITY_PRESENT ? SecurityContextAccessor.getContext() : null);
+		ServletRequestAttributes detachedAttributes = createDetachedAttributes();
+		LocaleContextHolder.setLocaleContext(this.localeContext);
+		RequestContextHolder.setRequestAttributes(
+				detachedAttributes != null ? detachedAttributes : this.requestAttributes);
+		if (SECURITY_PRESENT) {
+			SecurityContextAccessor.setContext(this.securityContext);
+		}
+		try {
+			return task.get();
+		} finally {
+			if (detachedAttributes != null) {
+				detachedAttributes.requestCompleted();
+			}
+			LocaleContextHolder.setLocaleContext(previousLocaleContext);
+			RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+			if (SECURITY_PRESENT) {
+				SecurityContextAccessor.setContext(previousSecurityContext);
+			}
+		}
+	}
+
+	private ServletRequestAttributes createDetachedAttributes() {
+		if (this.detached && this.requestAttributes instanceof ServletRequestAttributes attributes) {
+			return new ServletRequestAttributes(attributes.getRequest(), attributes.getResponse());
+		}
+		return null;
+	}
+
+
+	/**
+	 * Accesses the Spring Security context, isolated to only be loaded when Spring Security is present.
+	 */
+	private static class SecurityContextAccessor {
+
+		static Object getContext() {
+			SecurityContext context = SecurityContextHolder.getContext();
+			return (context.getAuthentication() != null ? context : null);
+		}
+
+		static void setContext(Object context) {
+			if (context != null) {
+				SecurityContextHolder.setContext((SecurityContext) context);
+			} else {
+				SecurityContextHolder.clearContext();
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@ import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.binding.collection.ConcurrentCache;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.util.WebUtils;
 import org.springframework.webflow.core.collection.AttributeMap;
@@ -56,6 +58,10 @@ import org.springframework.webflow.core.collection.AttributeMap;
  * 
  * As an example, the URL http://localhost/springtravel/app/hotels/booking?execution=e1s1 would attempt to resume
  * execution "e1s1" of the "hotels/booking" flow.
+ * <p>
+ * As URLs are created for every paused flow execution response and for every form action rendered, this handler avoids
+ * needless work: the path of flow definition URLs is cached per flow id, and parameters are only passed to
+ * {@link URLEncoder} when they contain characters that need encoding.
  * 
  * @author Keith Donald
  * @author Jeremy Grelle
@@ -64,8 +70,13 @@ public class DefaultFlowUrlHandler implements FlowUrlHandler {
 
 	private static final String FLOW_EXECUTION_KEY_PARAMETER = "execution";
 
+	private static final int MAX_CACHED_FLOW_DEFINITION_URLS = 512;
+
 	private String encodingScheme;
 
+	private final ConcurrentCache<String, FlowDefinitionUrl> flowDefinitionUrls = new ConcurrentCache<>(
+			flowId -> null, MAX_CACHED_FLOW_DEFINITION_URLS, false);
+
 	/**
 	 * Set the character encoding scheme for flow urls. Default is the request's encoding scheme (which is ISO-8859-1 if
 	 * not specified otherwise).
@@ -103,11 +114,15 @@ public class DefaultFlowUrlHandler implements FlowUrlHandler {
 	}
 
 	public String createFlowExecutionUrl(String flowId, String flowExecutionKey, HttpServletRequest request) {
-		StringBuilder url = new StringBuilder();
-		url.append(request.getRequestURI());
-		url.append('?');
-		appendQueryParameter(url, FLOW_EXECUTION_KEY_PARAMETER, flowExecutionKey, getEncodingScheme(request));
-		return url.toString();
+		String encodedKey;
+		if (flowExecutionKey == null) {
+			encodedKey = "";
+		} else if (!needsEncoding(flowExecutionKey)) {
+			encodedKey = flowExecutionKey;
+		} else {
+			encodedKey = urlEncode(flowExecutionKey, getEncodingScheme(request));
+		}
+		return request.getRequestURI() + '?' + FLOW_EXECUTION_KEY_PARAMETER + '=' + encodedKey;
 	}
 
 	/**
@@ -128,31 +143,14 @@ public class DefaultFlowUrlHandler implements FlowUrlHandler {
 	 * </pre>
 	 */
 	public String createFlowDefinitionUrl(String flowId, AttributeMap<?> input, HttpServletRequest request) {
-		StringBuilder url = new StringBuilder();
-		if (request.getPathInfo() != null) {
-			url.append(request.getContextPath());
-			url.append(request.getServletPath());
-			url.append('/');
-			url.append(flowId);
-		} else {
-			String servletPath = request.getServletPath();
-			if (StringUtils.hasText(servletPath)) {
-				url.append(request.getContextPath());
-				url.append('/');
-				url.append(flowId);
-				int dotIndex = servletPath.lastIndexOf('.');
-				if (dotIndex != -1) {
-					url.append(servletPath.substring(dotIndex));
-				}
-			} else {
-				url.append('/');
-				url.append(flowId);
-			}
-		}
-		if (input != null && !input.isEmpty()) {
-			url.append('?');
-			appendQueryParameters(url, input.asMap(), getEncodingScheme(request));
+		String path = getFlowDefinitionPath(flowId, request);
+		if (input == null || input.isEmpty()) {
+			return path;
 		}
+		StringBuilder url = new StringBuilder(path.length() + 16 * input.size());
+		url.append(path);
+		url.append('?');
+		appendQueryParameters(url, input.asMap(), getEncodingScheme(request));
 		return url.toString();
 	}
 
@@ -181,14 +179,67 @@ public class DefaultFlowUrlHandler implements FlowUrlHandler {
 
 	// internal helpers
 
+	private String getFlowDefinitionPath(String flowId, HttpServletRequest request) {
+		String contextPath = request.getContextPath();
+		String servletPath = request.getServletPath();
+		boolean hasPathInfo = request.getPathInfo() != null;
+		FlowDefinitionUrl cachedUrl = flowId != null ? flowDefinitionUrls.getIfPresent(flowId) : null;
+		if (cachedUrl != null && cachedUrl.matches(contextPath, servletPath, hasPathInfo)) {
+			return cachedUrl.path;
+		}
+		StringBuilder url = new StringBuilder();
+		if (hasPathInfo) {
+			url.append(contextPath);
+			url.append(servletPath);
+			url.append('/');
+			url.append(flowId);
+		} else {
+			if (StringUtils.hasText(servletPath)) {
+				url.append(contextPath);
+				url.append('/');
+				url.append(flowId);
+				int dotIndex = servletPath.lastIndexOf('.');
+				if (dotIndex != -1) {
+					url.append(servletPath, dotIndex, servletPath.length());
+				}
+			} else {
+				url.append('/');
+				url.append(flowId);
+			}
+		}
+		String path = url.toString();
+		if (flowId != null) {
+			flowDefinitionUrls.put(flowId, new FlowDefinitionUrl(contextPath, servletPath, hasPathInfo, path));
+		}
+		return path;
+	}
+
 	private void appendQueryParameter(StringBuilder url, Object key, Object value, String encodingScheme) {
-		String encodedKey = encode(key, encodingScheme);
-		String encodedValue = encode(value, encodingScheme);
-		url.append(encodedKey).append('=').append(encodedValue);
+		appendEncoded(url, key, encodingScheme);
+		url.append('=');
+		appendEncoded(url, value, encodingScheme);
 	}
 
-	private String encode(Object value, String encodingScheme) {
-		return value != null ? urlEncode(value.toString(), encodingScheme) : "";
+	private void appendEncoded(StringBuilder url, Object value, String encodingScheme) {
+		if (value != null) {
+			String string = value.toString();
+			url.append(needsEncoding(string) ? urlEncode(string, encodingScheme) : string);
+		}
+	}
+
+	/**
+	 * Returns whether the given string contains characters that {@link URLEncoder} would encode. Letters, digits and
+	 * the characters <code>.-*_</code> are never encoded, whatever the encoding scheme.
+	 */
+	private static boolean needsEncoding(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-'
+					|| c == '*' || c == '_')) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private String urlEncode(String value, String encodingScheme) {
@@ -199,4 +250,30 @@ public class DefaultFlowUrlHandler implements FlowUrlHandler {
 		}
 	}
 
+	/**
+	 * The flow definition URL path of a flow id, valid for requests with the same context and servlet paths.
+	 */
+	private static class FlowDefinitionUrl {
+
+		private final String contextPath;
+
+		private final String servletPath;
+
+		private final boolean hasPathInfo;
+
+		private final String path;
+
+		public FlowDefinitionUrl(String contextPath, String servletPath, boolean hasPathInfo, String path) {
+			this.contextPath = contextPath;
+			this.servletPath = servletPath;
+			this.hasPathInfo = hasPathInfo;
+			this.path = path;
+		}
+
+		public boolean matches(String contextPath, String servletPath, boolean hasPathInfo) {
+			return this.hasPathInfo == hasPathInfo && ObjectUtils.nullSafeEquals(this.contextPath, contextPath)
+					&& ObjectUtils.nullSafeEquals(this.servletPath, servletPath);
+		}
+	}
+
 }
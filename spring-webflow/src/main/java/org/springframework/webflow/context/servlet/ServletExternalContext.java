@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.webflow.context.ExternalContext;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.LocalParameterMap;
@@ -114,6 +115,11 @@ public class ServletExternalContext implements ExternalContext {
 	 */
 	private boolean ajaxRequest;
 
+	/**
+	 * Whether views rendered when the flow execution pauses should be rendered in the response to this request.
+	 */
+	private boolean inlineRenderRequest;
+
 	/**
 	 * In the case where a redirect response is requested, this flag indicates if the redirect should be issued from a
 	 * popup dialog.
@@ -151,6 +157,16 @@ public class ServletExternalContext implements ExternalContext {
 		this.ajaxRequest = ajaxRequest;
 	}
 
+	/**
+	 * Indicates if views rendered when the flow execution pauses should be rendered directly in the response to this
+	 * request, skipping the flow execution redirect otherwise issued after a form submission.
+	 * @param inlineRenderRequest the inline render request flag
+	 * @since 4.0.2
+	 */
+	public void setInlineRenderRequest(boolean inlineRenderRequest) {
+		this.inlineRenderRequest = inlineRenderRequest;
+	}
+
 	// implementing external context
 
 	public String getContextPath() {
@@ -201,6 +217,14 @@ public class ServletExternalContext implements ExternalContext {
 		return ajaxRequest;
 	}
 
+	public boolean isInlineRenderRequest() {
+		return inlineRenderRequest;
+	}
+
+	public boolean checkNotModified(String etag) {
+		return new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+
 	public String getFlowExecutionUrl(String flowId, String flowExecutionKey) {
 		return response.encodeURL(flowUrlHandler.createFlowExecutionUrl(flowId, flowExecutionKey, request));
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,11 @@ package org.springframework.webflow.conversation.impl;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.binding.collection.MutexLocks;
 import org.springframework.webflow.context.ExternalContextHolder;
 import org.springframework.webflow.conversation.Conversation;
 import org.springframework.webflow.conversation.ConversationId;
@@ -113,8 +115,12 @@ public class ContainedConversation implements Conversation, Serializable {
 		// we do this after releasing the lock since we're no longer
 		// manipulating the contents of the conversation
 		SharedAttributeMap<Object> sessionMap = ExternalContextHolder.getExternalContext().getSessionMap();
-		synchronized (sessionMap.getMutex()) {
+		Lock sessionLock = MutexLocks.getLock(sessionMap.getMutex());
+		sessionLock.lock();
+		try {
 			sessionMap.put(this.container.getSessionKey(), this.container);
+		} finally {
+			sessionLock.unlock();
 		}
 	}
 
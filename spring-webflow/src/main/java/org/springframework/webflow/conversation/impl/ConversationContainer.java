@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,9 +15,13 @@
  */
 package org.springframework.webflow.conversation.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -54,6 +58,9 @@ public class ConversationContainer implements Serializable {
 	/** The sequence for unique conversation identifiers within this container. */
 	private int conversationIdSequence;
 
+	/** Guards changes to the contained conversations; not a monitor so that waiting does not pin virtual threads. */
+	private transient Lock lock = new ReentrantLock();
+
 
 	/**
 	 * Create a new conversation container.
@@ -88,21 +95,26 @@ public class ConversationContainer implements Serializable {
 	 * @param lock the conversation lock
 	 * @return the created conversation
 	 */
-	public synchronized Conversation createConversation(ConversationParameters parameters, ConversationLock lock) {
-		ContainedConversation conversation = createContainedConversation(nextId(), lock);
-		conversation.putAttribute("name", parameters.getName());
-		conversation.putAttribute("caption", parameters.getCaption());
-		conversation.putAttribute("description", parameters.getDescription());
-		conversations.add(conversation);
-		if (maxExceeded()) {
-			if (logger.isDebugEnabled()) {
-				logger.debug("The max number of flow executions has been exceeded for the current user. " +
-						"Removing the oldest conversation with id: " + conversations.get(0).getId());
+	public Conversation createConversation(ConversationParameters parameters, ConversationLock lock) {
+		this.lock.lock();
+		try {
+			ContainedConversation conversation = createContainedConversation(nextId(), lock);
+			conversation.putAttribute("name", parameters.getName());
+			conversation.putAttribute("caption", parameters.getCaption());
+			conversation.putAttribute("description", parameters.getDescription());
+			conversations.add(conversation);
+			if (maxExceeded()) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("The max number of flow executions has been exceeded for the current user. " +
+							"Removing the oldest conversation with id: " + conversations.get(0).getId());
+				}
+				// end oldest conversation
+				conversations.get(0).end();
 			}
-			// end oldest conversation
-			conversations.get(0).end();
+			return conversation;
+		} finally {
+			this.lock.unlock();
 		}
-		return conversation;
 	}
 
 	protected ConversationId nextId() {
@@ -115,7 +127,8 @@ public class ConversationContainer implements Serializable {
 	 * @return the conversation
 	 * @throws NoSuchConversationException if the conversation cannot be found
 	 */
-	public synchronized Conversation getConversation(ConversationId id) throws NoSuchConversationException {
+	public Conversation getConversation(ConversationId id) throws NoSuchConversationException {
+		// iterates over a snapshot of the copy-on-write list
 		for (ContainedConversation conversation : conversations) {
 			if (conversation.getId().equals(id)) {
 				return conversation;
@@ -131,12 +144,17 @@ public class ConversationContainer implements Serializable {
 	/**
 	 * Remove identified conversation from this container.
 	 */
-	public synchronized void removeConversation(ConversationId id) {
-		for (ContainedConversation conversation : conversations) {
-			if (conversation.getId().equals(id)) {
-				conversations.remove(conversation);
-				break;
+	public void removeConversation(ConversationId id) {
+		lock.lock();
+		try {
+			for (ContainedConversation conversation : conversations) {
+				if (conversation.getId().equals(id)) {
+					conversations.remove(conversation);
+					break;
+				}
 			}
+		} finally {
+			lock.unlock();
 		}
 	}
 
@@ -147,6 +165,11 @@ public class ConversationContainer implements Serializable {
 		return maxConversations > 0 && conversations.size() > maxConversations;
 	}
 
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		lock = new ReentrantLock();
+	}
+
 	// Hook methods
 
 	protected ContainedConversation createContainedConversation(ConversationId id, ConversationLock lock) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package org.springframework.webflow.conversation.impl;
 
+import java.util.concurrent.locks.Lock;
+
+import org.springframework.binding.collection.MutexLocks;
 import org.springframework.webflow.context.ExternalContextHolder;
 import org.springframework.webflow.conversation.Conversation;
 import org.springframework.webflow.conversation.ConversationException;
@@ -137,13 +140,17 @@ public class SessionBindingConversationManager implements ConversationManager {
 	 */
 	protected final ConversationContainer getConversationContainer() {
 		SharedAttributeMap<Object> sessionMap = ExternalContextHolder.getExternalContext().getSessionMap();
-		synchronized (sessionMap.getMutex()) {
+		Lock lock = MutexLocks.getLock(sessionMap.getMutex());
+		lock.lock();
+		try {
 			ConversationContainer container = (ConversationContainer) sessionMap.get(sessionKey);
 			if (container == null) {
 				container = createConversationContainer();
 				sessionMap.put(sessionKey, container);
 			}
 			return container;
+		} finally {
+			lock.unlock();
 		}
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.core.collection;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Map;
+
+/**
+ * A mutable attribute map optimized for holding few attributes, as is typical for flow execution scopes such as
+ * conversation, flash, flow and view scope. Attributes are stored in a compact inline array rather than a hash table
+ * while the map is small, and the map is written with a compact {@link Externalizable} form consisting of its
+ * attribute count followed by the attribute names and values.
+ * <p>
+ * {@link #copy()} returns a copy-on-write copy: the copy shares storage with this map until either map is modified.
+ *
+ * @since 4.0.2
+ */
+public class CompactAttributeMap<V> extends LocalAttributeMap<V> implements Externalizable {
+
+	/**
+	 * Creates a new attribute map, initially empty.
+	 */
+	public CompactAttributeMap() {
+		super();
+	}
+
+	/**
+	 * Creates a new attribute map, initially empty.
+	 * @param size the expected number of attributes
+	 */
+	public CompactAttributeMap(int size) {
+		super(size, 1);
+	}
+
+	/**
+	 * Creates a new attribute map with a single entry.
+	 */
+	public CompactAttributeMap(String attributeName, V attributeValue) {
+		super(attributeName, attributeValue);
+	}
+
+	private CompactAttributeMap(CompactMap<V> map) {
+		super(map);
+	}
+
+	/**
+	 * Returns a copy of this attribute map. The copy shares its storage with this map until either map is modified,
+	 * so taking a copy is cheap regardless of the number of attributes.
+	 * @return the copy
+	 */
+	public CompactAttributeMap<V> copy() {
+		return new CompactAttributeMap<>(getCompactMap().copy());
+	}
+
+	public AttributeMap<V> union(AttributeMap<? extends V> attributes) {
+		CompactMap<V> map = getCompactMap().copy();
+		if (attributes != null) {
+			map.putAll(attributes.asMap());
+		}
+		return new CompactAttributeMap<>(map);
+	}
+
+	protected Map<String, V> createTargetMap() {
+		return new CompactMap<>();
+	}
+
+	protected Map<String, V> createTargetMap(int size, int loadFactor) {
+		return new CompactMap<>(size);
+	}
+
+	private CompactMap<V> getCompactMap() {
+		Map<String, V> map = getMapInternal();
+		if (map instanceof CompactMap) {
+			return (CompactMap<V>) map;
+		}
+		CompactMap<V> compactMap = new CompactMap<>(map.size());
+		compactMap.putAll(map);
+		return compactMap;
+	}
+
+	// implementing Externalizable
+
+	public void writeExternal(ObjectOutput out) throws IOException {
+		Map<String, V> map = getMapInternal();
+		out.writeInt(map.size());
+		for (Map.Entry<String, V> entry : map.entrySet()) {
+			out.writeObject(entry.getKey());
+			out.writeObject(entry.getValue());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		int size = in.readInt();
+		Map<String, V> map = createTargetMap(size, 1);
+		for (int i = 0; i < size; i++) {
+			map.put((String) in.readObject(), (V) in.readObject());
+		}
+		initAttributes(map);
+	}
+
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.core.collection;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A map with string keys optimized for the few entries typically held by a flow execution scope. Up to
+ * {@link #INLINE_THRESHOLD} entries are kept in a single inline array of alternating keys and values that is searched
+ * linearly, avoiding the per-entry node objects and the table of a {@link java.util.HashMap}. Larger maps are inflated
+ * into a {@link LinkedHashMap}. Iteration follows insertion order in both cases.
+ * <p>
+ * {@link #copy()} returns a copy sharing the storage of this map until either map is modified, making snapshot copies
+ * cheap. Like {@link java.util.HashMap}, this class is not thread safe.
+ *
+ * @since 4.0.2
+ */
+@SuppressWarnings("serial")
+class CompactMap<V> extends AbstractMap<String, V> implements Serializable {
+
+	/**
+	 * The maximum number of entries stored inline before inflating to a hash map.
+	 */
+	static final int INLINE_THRESHOLD = 8;
+
+	private static final Object[] EMPTY_TABLE = {};
+
+	/**
+	 * Alternating keys and values, used while this map holds no more than {@link #INLINE_THRESHOLD} entries.
+	 */
+	private transient Object[] table;
+
+	private transient int size;
+
+	/**
+	 * The map holding the entries once the inline threshold has been exceeded.
+	 */
+	private transient LinkedHashMap<String, V> inflated;
+
+	/**
+	 * Whether the storage of this map is shared with a copy and must be duplicated before the next modification.
+	 */
+	private transient boolean shared;
+
+	private transient int modCount;
+
+	/**
+	 * Creates an empty map.
+	 */
+	CompactMap() {
+		this.table = EMPTY_TABLE;
+	}
+
+	/**
+	 * Creates an empty map sized for the given number of entries.
+	 * @param expectedSize the expected number of entries
+	 */
+	CompactMap(int expectedSize) {
+		if (expectedSize > INLINE_THRESHOLD) {
+			this.table = EMPTY_TABLE;
+			this.inflated = new LinkedHashMap<>(expectedSize * 4 / 3 + 1);
+		}
+		else {
+			this.table = (expectedSize > 0 ? new Object[expectedSize * 2] : EMPTY_TABLE);
+		}
+	}
+
+	private CompactMap(CompactMap<V> map) {
+		this.table = map.table;
+		this.size = map.size;
+		this.inflated = map.inflated;
+		this.shared = true;
+	}
+
+	/**
+	 * Returns a copy of this map. The copy shares the storage of this map until one of them is modified.
+	 */
+	CompactMap<V> copy() {
+		this.shared = true;
+		return new CompactMap<>(this);
+	}
+
+	public int size() {
+		return (inflated != null ? inflated.size() : size);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean containsKey(Object key) {
+		return (inflated != null ? inflated.containsKey(key) : indexOf(key) >= 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (inflated != null) {
+			return inflated.get(key);
+		}
+		int index = indexOf(key);
+		return (index >= 0 ? (V) table[index + 1] : null);
+	}
+
+	@SuppressWarnings("unchecked")
+	public V put(String key, V value) {
+		unshare();
+		if (inflated != null) {
+			return inflated.put(key, value);
+		}
+		int index = indexOf(key);
+		if (index >= 0) {
+			V oldValue = (V) table[index + 1];
+			table[index + 1] = value;
+			return oldValue;
+		}
+		modCount++;
+		if (size == INLINE_THRESHOLD) {
+			inflate();
+			inflated.put(key, value);
+			return null;
+		}
+		if (size * 2 == table.length) {
+			table = Arrays.copyOf(table, Math.max(4, Math.min(table.length * 2, INLINE_THRESHOLD * 2)));
+		}
+		table[size * 2] = key;
+		table[size * 2 + 1] = value;
+		size++;
+		return null;
+	}
+
+	public V remove(Object key) {
+		if (inflated != null) {
+			if (!inflated.containsKey(key)) {
+				return null;
+			}
+			unshare();
+			return inflated.remove(key);
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		unshare();
+		return removeAt(index);
+	}
+
+	public void clear() {
+		if (size() == 0) {
+			return;
+		}
+		modCount++;
+		table = EMPTY_TABLE;
+		size = 0;
+		inflated = null;
+		shared = false;
+	}
+
+	public Set<Map.Entry<String, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	// internal helpers
+
+	private int indexOf(Object key) {
+		Object[] table = this.table;
+		for (int i = 0, end = size * 2; i < end; i += 2) {
+			Object candidate = table[i];
+			if (candidate == key || (key != null && key.equals(candidate))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private V removeAt(int index) {
+		modCount++;
+		V oldValue = (V) table[index + 1];
+		int last = (size - 1) * 2;
+		System.arraycopy(table, index + 2, table, index, last - index);
+		table[last] = null;
+		table[last + 1] = null;
+		size--;
+		return oldValue;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void inflate() {
+		LinkedHashMap<String, V> map = new LinkedHashMap<>(INLINE_THRESHOLD * 4);
+		for (int i = 0; i < size * 2; i += 2) {
+			map.put((String) table[i], (V) table[i + 1]);
+		}
+		inflated = map;
+		table = EMPTY_TABLE;
+		size = 0;
+	}
+
+	private void unshare() {
+		if (shared) {
+			if (inflated != null) {
+				inflated = new LinkedHashMap<>(inflated);
+			}
+			else if (table.length > 0) {
+				table = table.clone();
+			}
+			shared = false;
+		}
+	}
+
+	// custom serialization writing entries only, so that copies never share storage once deserialized
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(size());
+		if (inflated != null) {
+			for (Map.Entry<String, V> entry : inflated.entrySet()) {
+				out.writeObject(entry.getKey());
+				out.writeObject(entry.getValue());
+			}
+		}
+		else {
+			for (int i = 0; i < size * 2; i++) {
+				out.writeObject(table[i]);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		int entries = in.readInt();
+		this.table = (entries > 0 && entries <= INLINE_THRESHOLD ? new Object[entries * 2] : EMPTY_TABLE);
+		for (int i = 0; i < entries; i++) {
+			put((String) in.readObject(), (V) in.readObject());
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Map.Entry<String, V>> {
+
+		public Iterator<Map.Entry<String, V>> iterator() {
+			if (inflated != null) {
+				if (shared) {
+					unshare();
+				}
+				return inflated.entrySet().iterator();
+			}
+			return new InlineIterator();
+		}
+
+		public int size() {
+			return CompactMap.this.size();
+		}
+
+		public void clear() {
+			CompactMap.this.clear();
+		}
+	}
+
+	private class InlineIterator implements Iterator<Map.Entry<String, V>> {
+
+		private int next;
+
+		private int current = -1;
+
+		private int expectedModCount = modCount;
+
+		public boolean hasNext() {
+			return next < size * 2;
+		}
+
+		@SuppressWarnings("unchecked")
+		public Map.Entry<String, V> next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next += 2;
+			return new InlineEntry((String) table[current]);
+		}
+
+		public void remove() {
+			if (current < 0) {
+				throw new IllegalStateException();
+			}
+			checkForComodification();
+			unshare();
+			removeAt(current);
+			next = current;
+			current = -1;
+			expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	private class InlineEntry implements Map.Entry<String, V> {
+
+		private final String key;
+
+		InlineEntry(String key) {
+			this.key = key;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public V getValue() {
+			return get(key);
+		}
+
+		public V setValue(V value) {
+			return put(key, value);
+		}
+
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+			return ObjectUtils.nullSafeEquals(key, other.getKey())
+					&& ObjectUtils.nullSafeEquals(getValue(), other.getValue());
+		}
+
+		public int hashCode() {
+			return ObjectUtils.nullSafeHashCode(key) ^ ObjectUtils.nullSafeHashCode(getValue());
+		}
+
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+
+}
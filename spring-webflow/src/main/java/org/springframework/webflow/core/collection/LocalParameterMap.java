@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.springframework.binding.convert.ConversionExecutionException;
 import org.springframework.binding.convert.ConversionExecutor;
 import org.springframework.binding.convert.ConversionService;
 import org.springframework.binding.convert.service.DefaultConversionService;
+import org.springframework.binding.convert.service.StringConversionExecutors;
 import org.springframework.core.style.StylerUtils;
 import org.springframework.util.Assert;
 import org.springframework.web.multipart.MultipartFile;
@@ -280,7 +281,7 @@ public class LocalParameterMap implements ParameterMap, Serializable {
 	 */
 	@SuppressWarnings("unchecked")
 	private <T> T convert(String parameter, Class<T> targetType) throws ConversionExecutionException {
-		return (T) conversionService.getConversionExecutor(String.class, targetType).execute(parameter);
+		return (T) getConversionExecutor(targetType).execute(parameter);
 	}
 
 	/**
@@ -290,13 +291,27 @@ public class LocalParameterMap implements ParameterMap, Serializable {
 	private <T> T[] convert(String[] parameters, Class<? extends T> targetElementType)
 			throws ConversionExecutionException {
 		List<T> list = new ArrayList<>(parameters.length);
-		ConversionExecutor converter = conversionService.getConversionExecutor(String.class, targetElementType);
+		ConversionExecutor converter = getConversionExecutor(targetElementType);
 		for (String parameter : parameters) {
 			list.add((T) converter.execute(parameter));
 		}
 		return list.toArray((T[]) Array.newInstance(targetElementType, parameters.length));
 	}
 
+	/**
+	 * Returns the executor converting String parameters to the specified target type. Common target types are
+	 * converted by specialized executors when the default conversion service is in use.
+	 */
+	private ConversionExecutor getConversionExecutor(Class<?> targetType) {
+		if (conversionService == DEFAULT_CONVERSION_SERVICE) {
+			ConversionExecutor executor = StringConversionExecutors.getConversionExecutor(targetType);
+			if (executor != null) {
+				return executor;
+			}
+		}
+		return conversionService.getConversionExecutor(String.class, targetType);
+	}
+
 	/**
 	 * Make sure clazz is assignable from requiredType.
 	 */
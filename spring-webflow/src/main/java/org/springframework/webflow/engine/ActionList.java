@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,10 +15,17 @@
  */
 package org.springframework.webflow.engine;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
 
 import org.springframework.core.style.StylerUtils;
 import org.springframework.webflow.execution.Action;
@@ -45,6 +52,16 @@ public class ActionList implements Iterable<Action> {
 	 */
 	private List<Action> actions = new LinkedList<>();
 
+	/**
+	 * Whether the asynchronous work of the actions runs concurrently.
+	 */
+	private boolean concurrent;
+
+	/**
+	 * The executor starting asynchronous actions in parallel, if any.
+	 */
+	private Executor executor;
+
 	/**
 	 * Add an action to this list.
 	 * @param action the action to add
@@ -145,17 +162,162 @@ public class ActionList implements Iterable<Action> {
 	}
 
 	/**
-	 * Executes the actions contained within this action list. Simply iterates over each action and calls execute.
-	 * Action result events are ignored.
+	 * Returns whether the asynchronous work of the actions in this list runs concurrently.
+	 * @since 4.0.2
+	 */
+	public boolean getConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Sets whether the asynchronous work of the actions in this list runs concurrently. When <code>true</code>, all
+	 * actions are {@link ActionExecutor#start(Action, RequestContext) started} in order before any is
+	 * {@link ActionExecutor#complete(Action, Object, RequestContext) completed}, so the asynchronous work started by
+	 * {@link org.springframework.webflow.execution.AsyncAction asynchronous actions} overlaps. This requires the
+	 * actions to be independent: an action cannot use the result exposed by another action of this list. Defaults to
+	 * <code>false</code>.
+	 * @since 4.0.2
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Returns the executor starting the asynchronous actions of this list in parallel, if any.
+	 * @since 4.0.2
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Sets the executor starting the asynchronous actions of this list in parallel when this list is
+	 * {@link #setConcurrent(boolean) concurrent}. Asynchronous actions, such as evaluate actions invoking blocking
+	 * service methods, are then all started on threads of this executor at once. Once they are all started, the
+	 * actions are completed in order by the calling thread, so their results are exposed deterministically; the other
+	 * actions of this list are executed by the calling thread in order at that point. Optional: without executor,
+	 * actions are started by the calling thread.
+	 * @see ActionExecutor#start(Action, RequestContext, Executor)
+	 * @since 4.0.2
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Executes the actions contained within this action list. Simply iterates over each action and calls execute,
+	 * unless this list is {@link #setConcurrent(boolean) concurrent}. Action result events are ignored.
 	 * @param context the action execution request context
 	 */
 	public void execute(RequestContext context) {
-		for (Action action : actions) {
-			ActionExecutor.execute(action, context);
+		if (concurrent && actions.size() > 1) {
+			execute(toArray(), context);
+		} else {
+			for (Action action : actions) {
+				ActionExecutor.execute(action, context);
+			}
+		}
+	}
+
+	/**
+	 * Executes the actions contained within this list that match the given filter, as {@link #execute(RequestContext)}
+	 * does. Actions that do not match are skipped.
+	 * @param context the action execution request context
+	 * @param filter the filter actions must match to be executed
+	 * @since 4.0.2
+	 */
+	public void execute(RequestContext context, Predicate<Action> filter) {
+		if (concurrent && actions.size() > 1) {
+			execute(actions.stream().filter(filter).toArray(Action[]::new), context);
+		} else {
+			for (Action action : actions) {
+				if (filter.test(action)) {
+					ActionExecutor.execute(action, context);
+				}
+			}
 		}
 	}
 
 	public String toString() {
 		return StylerUtils.style(actions);
 	}
+
+	// internal helpers
+
+	private void execute(Action[] actions, RequestContext context) {
+		if (executor != null) {
+			executeInParallel(actions, context);
+		} else {
+			executeConcurrently(actions, context);
+		}
+	}
+
+	private void executeConcurrently(Action[] startedActions, RequestContext context) {
+		Object[] pendingResults = new Object[startedActions.length];
+		int started = 0;
+		try {
+			for (; started < startedActions.length; started++) {
+				pendingResults[started] = ActionExecutor.start(startedActions[started], context);
+			}
+		} finally {
+			if (started < startedActions.length) {
+				cancelPendingResults(pendingResults, started);
+			}
+		}
+		for (int i = 0; i < startedActions.length; i++) {
+			try {
+				ActionExecutor.complete(startedActions[i], pendingResults[i], context);
+			} catch (RuntimeException e) {
+				cancelPendingResults(pendingResults, startedActions.length);
+				throw e;
+			}
+		}
+	}
+
+	private void executeInParallel(Action[] startedActions, RequestContext context) {
+		List<CompletableFuture<Object>> starts = new ArrayList<>(startedActions.length);
+		for (Action action : startedActions) {
+			starts.add(ActionExecutor.isAsync(action) ? ActionExecutor.start(action, context, executor) : null);
+		}
+		// wait for all actions to be started, the request context must not be used concurrently afterwards
+		Object[] pendingResults = new Object[startedActions.length];
+		RuntimeException failure = null;
+		for (int i = 0; i < startedActions.length; i++) {
+			if (starts.get(i) != null) {
+				try {
+					pendingResults[i] = starts.get(i).join();
+				} catch (CompletionException e) {
+					if (failure == null) {
+						failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+					}
+				}
+			}
+		}
+		if (failure != null) {
+			cancelPendingResults(pendingResults, startedActions.length);
+			throw failure;
+		}
+		for (int i = 0; i < startedActions.length; i++) {
+			try {
+				if (starts.get(i) != null) {
+					ActionExecutor.complete(startedActions[i], pendingResults[i], context);
+				} else {
+					ActionExecutor.execute(startedActions[i], context);
+				}
+			} catch (RuntimeException e) {
+				cancelPendingResults(pendingResults, startedActions.length);
+				throw e;
+			}
+		}
+	}
+
+	private void cancelPendingResults(Object[] pendingResults, int count) {
+		for (int i = 0; i < count; i++) {
+			if (pendingResults[i] instanceof Future) {
+				((Future<?>) pendingResults[i]).cancel(true);
+			} else if (pendingResults[i] instanceof CompletionStage) {
+				((CompletionStage<?>) pendingResults[i]).toCompletableFuture().cancel(true);
+			}
+		}
+	}
 }
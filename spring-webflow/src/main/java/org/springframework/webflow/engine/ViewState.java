@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,14 @@ package org.springframework.webflow.engine;
 import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.core.style.ToStringCreator;
 import org.springframework.util.Assert;
 import org.springframework.webflow.context.ExternalContext;
 import org.springframework.webflow.definition.TransitionDefinition;
+import org.springframework.webflow.execution.Action;
+import org.springframework.webflow.execution.AnnotatedAction;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.FlowExecutionException;
 import org.springframework.webflow.execution.RequestContext;
@@ -40,6 +43,12 @@ import org.springframework.webflow.execution.ViewFactory;
  */
 public class ViewState extends TransitionableState {
 
+	/**
+	 * The view scope attribute holding the version of the view used to answer conditional refresh requests. A new
+	 * version is assigned whenever the view is rendered in response to a user event or Ajax request.
+	 */
+	private static final String VERSION_ATTRIBUTE = ViewState.class.getName() + ".version";
+
 	/**
 	 * The list of actions to be executed before the view is rendered.
 	 */
@@ -65,6 +74,11 @@ public class ViewState extends TransitionableState {
 	 */
 	private boolean popup;
 
+	/**
+	 * Whether or not refresh requests should be answered as not modified when the view has not changed.
+	 */
+	private boolean conditionalRefresh;
+
 	/**
 	 * Create a new view state.
 	 * @param flow the owning flow
@@ -147,6 +161,29 @@ public class ViewState extends TransitionableState {
 		this.popup = popup;
 	}
 
+	/**
+	 * Returns whether refresh requests of this view state are answered as not modified when the view has not changed.
+	 * @since 4.0.2
+	 */
+	public boolean getConditionalRefresh() {
+		return conditionalRefresh;
+	}
+
+	/**
+	 * Sets whether refresh requests of this view state, such as browser reloads and back navigation, should be
+	 * answered as not modified when the view has not changed since it was last rendered. The view is then neither
+	 * rendered nor are render actions executed. A view is considered changed when it handled a user event or an Ajax
+	 * request, or has flash scope attributes or messages to display.
+	 * <p>
+	 * Only enable this for views whose content depends on the state of the flow execution alone; render actions
+	 * loading data from other sources are not executed for requests answered as not modified.
+	 * @param conditionalRefresh the conditional refresh flag
+	 * @since 4.0.2
+	 */
+	public void setConditionalRefresh(boolean conditionalRefresh) {
+		this.conditionalRefresh = conditionalRefresh;
+	}
+
 	/**
 	 * Returns the view factory.
 	 */
@@ -192,6 +229,9 @@ public class ViewState extends TransitionableState {
 		View view = viewFactory.getView(context);
 		context.setCurrentView(view);
 		if (view.userEventQueued()) {
+			if (conditionalRefresh) {
+				updateVersion(context);
+			}
 			boolean stateExited = handleEvent(view, context);
 			if (!stateExited) {
 				ExternalContext externalContext = context.getExternalContext();
@@ -238,11 +278,38 @@ public class ViewState extends TransitionableState {
 		ExternalContext externalContext = context.getExternalContext();
 		if (externalContext.isResponseComplete()) {
 			clearFlash(context);
+		} else if (conditionalRefresh && checkNotModified(context)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Not rendering " + view + " as it was not modified");
+			}
+			externalContext.recordResponseComplete();
 		} else {
 			render(context, view);
 		}
 	}
 
+	private boolean checkNotModified(RequestContext context) {
+		if (context.getExternalContext().isAjaxRequest()) {
+			// only the rendered fragments are sent back, so the response cannot be used to answer full page requests
+			updateVersion(context);
+			return false;
+		}
+		if (context.getMessageContext().getAllMessages().length > 0 || !context.getFlashScope().isEmpty()) {
+			return false;
+		}
+		String version = context.getViewScope().getString(VERSION_ATTRIBUTE);
+		if (version == null) {
+			version = updateVersion(context);
+		}
+		return context.getExternalContext().checkNotModified(context.getFlowExecutionContext().getKey() + "-" + version);
+	}
+
+	private String updateVersion(RequestContext context) {
+		String version = Long.toHexString(ThreadLocalRandom.current().nextLong());
+		context.getViewScope().put(VERSION_ATTRIBUTE, version);
+		return version;
+	}
+
 	public void exit(RequestControlContext context) {
 		super.exit(context);
 		updateHistory(context);
@@ -288,7 +355,12 @@ public class ViewState extends TransitionableState {
 			logger.debug("  Messages = " + context.getMessageContext());
 		}
 		context.viewRendering(view);
-		renderActionList.execute(context);
+		if (context.getExternalContext().isAjaxRequest()
+				&& context.getFlashScope().contains(View.RENDER_FRAGMENTS_ATTRIBUTE)) {
+			renderActionList.execute(context, ViewState::isFragmentRelevant);
+		} else {
+			renderActionList.execute(context);
+		}
 		try {
 			view.render();
 		} catch (IOException e) {
@@ -299,6 +371,10 @@ public class ViewState extends TransitionableState {
 		context.viewRendered(view);
 	}
 
+	private static boolean isFragmentRelevant(Action action) {
+		return !(action instanceof AnnotatedAction) || ((AnnotatedAction) action).isFragmentRelevant();
+	}
+
 	private void clearFlash(RequestContext context) {
 		context.getFlashScope().clear();
 		context.getMessageContext().clearMessages();
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package org.springframework.webflow.engine.builder;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.core.style.ToStringCreator;
@@ -44,7 +47,7 @@ public class DefaultFlowHolder implements FlowDefinitionHolder {
 	/**
 	 * The flow definition assembled by this assembler, initially null.
 	 */
-	private FlowDefinition flowDefinition;
+	private volatile FlowDefinition flowDefinition;
 
 	/**
 	 * The flow assembler.
@@ -56,6 +59,12 @@ public class DefaultFlowHolder implements FlowDefinitionHolder {
 	 */
 	private boolean assembling;
 
+	/**
+	 * The lock guarding assembly, used instead of synchronization so that threads waiting for assembly to complete do
+	 * not pin virtual thread carriers.
+	 */
+	private final Lock lock = new ReentrantLock();
+
 	/**
 	 * Creates a new refreshable flow definition holder that uses the configured assembler (GOF director) to drive flow
 	 * assembly, on initial use and on any resource change or refresh.
@@ -74,25 +83,40 @@ public class DefaultFlowHolder implements FlowDefinitionHolder {
 		return assembler.getFlowBuilder().getFlowResourceString();
 	}
 
-	public synchronized FlowDefinition getFlowDefinition() throws FlowDefinitionConstructionException {
-		if (assembling) {
-			// must return early assembly result for when a flow calls itself recursively
-			return getFlowBuilder().getFlow();
+	public FlowDefinition getFlowDefinition() throws FlowDefinitionConstructionException {
+		FlowDefinition flowDefinition = this.flowDefinition;
+		if (flowDefinition != null && !flowDefinition.inDevelopment()) {
+			// assembled and not subject to change
+			return flowDefinition;
 		}
-		if (flowDefinition == null) {
-			logger.debug("Assembling the flow for the first time");
-			assembleFlow();
-		} else {
-			if (flowDefinition.inDevelopment() && getFlowBuilder().hasFlowChanged()) {
-				logger.debug("The flow under development has changed; reassembling...");
+		lock.lock();
+		try {
+			if (assembling) {
+				// must return early assembly result for when a flow calls itself recursively
+				return getFlowBuilder().getFlow();
+			}
+			if (this.flowDefinition == null) {
+				logger.debug("Assembling the flow for the first time");
 				assembleFlow();
+			} else {
+				if (this.flowDefinition.inDevelopment() && getFlowBuilder().hasFlowChanged()) {
+					logger.debug("The flow under development has changed; reassembling...");
+					assembleFlow();
+				}
 			}
+			return this.flowDefinition;
+		} finally {
+			lock.unlock();
 		}
-		return flowDefinition;
 	}
 
-	public synchronized void refresh() throws FlowDefinitionConstructionException {
-		assembleFlow();
+	public void refresh() throws FlowDefinitionConstructionException {
+		lock.lock();
+		try {
+			assembleFlow();
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	public void destroy() {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.engine.builder;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.binding.convert.ConversionService;
 import org.springframework.binding.expression.ExpressionParser;
 import org.springframework.context.ApplicationContext;
@@ -83,6 +85,16 @@ public interface FlowBuilderContext {
 	 */
 	ValidationHintResolver getValidationHintResolver();
 
+	/**
+	 * Returns the executor starting the actions of action lists declared to execute in parallel, if any. The default
+	 * implementation returns <code>null</code>, in which case such actions are started by the thread executing the
+	 * flow.
+	 * @since 4.0.2
+	 */
+	default Executor getParallelActionExecutor() {
+		return null;
+	}
+
 	/**
 	 * Returns the application context hosting the flow system.
 	 * @return the application context
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.engine.builder.model;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.binding.expression.EvaluationException;
+import org.springframework.binding.expression.Expression;
+import org.springframework.webflow.core.collection.AttributeMap;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.ScopeType;
+
+/**
+ * An input or output mapping expression compiled into direct attribute access: an attribute name evaluated against an
+ * attribute map, such as the input of a flow, or an attribute of a scope evaluated against a request context, such as
+ * <code>flowScope.hotel</code>. These are read and written with {@link AttributeMap#get(String)} and
+ * {@link MutableAttributeMap#put(String, Object)}, as the expression language would, without evaluating the
+ * expression. Any other context is evaluated by the parsed expression.
+ */
+class AttributeExpression implements Expression {
+
+	private static final Pattern SCOPE_ATTRIBUTE = Pattern
+			.compile("(?:(request|flash|view|flow|conversation)Scope\\.)?([a-zA-Z_][a-zA-Z0-9_]*)");
+
+	/**
+	 * Identifiers with a meaning of their own in Unified EL or Spring EL.
+	 */
+	private static final Set<String> RESERVED_WORDS = Set.of("and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge",
+			"div", "mod", "empty", "instanceof", "between", "matches", "true", "false", "null", "new", "T");
+
+	private final Expression expression;
+
+	private final ScopeType scope;
+
+	private final String attributeName;
+
+	private AttributeExpression(Expression expression, ScopeType scope, String attributeName) {
+		this.expression = expression;
+		this.scope = scope;
+		this.attributeName = attributeName;
+	}
+
+	/**
+	 * Compile the given expression into direct attribute access if it is an attribute name and evaluated against an
+	 * attribute map, or an attribute of a scope and evaluated against a request context.
+	 * @param expression the parsed expression
+	 * @param contextType the type of context the expression is evaluated against
+	 * @return the compiled expression, or the given expression if it cannot be compiled
+	 */
+	public static Expression compile(Expression expression, Class<?> contextType) {
+		String expressionString = expression.getExpressionString();
+		if (expressionString == null) {
+			return expression;
+		}
+		Matcher matcher = SCOPE_ATTRIBUTE.matcher(expressionString);
+		if (!matcher.matches() || RESERVED_WORDS.contains(matcher.group(2))) {
+			return expression;
+		}
+		if (matcher.group(1) == null && AttributeMap.class.isAssignableFrom(contextType)) {
+			return new AttributeExpression(expression, null, matcher.group(2));
+		} else if (matcher.group(1) != null && RequestContext.class.isAssignableFrom(contextType)) {
+			ScopeType scope = ScopeType.valueOf(matcher.group(1).toUpperCase());
+			return new AttributeExpression(expression, scope, matcher.group(2));
+		} else {
+			return expression;
+		}
+	}
+
+	public Object getValue(Object context) throws EvaluationException {
+		AttributeMap<?> attributes = getAttributes(context);
+		if (attributes != null) {
+			return attributes.get(attributeName);
+		} else {
+			return expression.getValue(context);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public void setValue(Object context, Object value) throws EvaluationException {
+		AttributeMap<?> attributes = getAttributes(context);
+		if (attributes instanceof MutableAttributeMap) {
+			((MutableAttributeMap<Object>) attributes).put(attributeName, value);
+		} else {
+			expression.setValue(context, value);
+		}
+	}
+
+	public Class<?> getValueType(Object context) throws EvaluationException {
+		return expression.getValueType(context);
+	}
+
+	public String getExpressionString() {
+		return expression.getExpressionString();
+	}
+
+	private AttributeMap<?> getAttributes(Object context) {
+		if (scope == null) {
+			return (context instanceof AttributeMap ? (AttributeMap<?>) context : null);
+		} else {
+			return (context instanceof RequestContext ? scope.getScope((RequestContext) context) : null);
+		}
+	}
+
+	public boolean equals(Object o) {
+		if (!(o instanceof AttributeExpression)) {
+			return false;
+		}
+		AttributeExpression other = (AttributeExpression) o;
+		return expression.equals(other.expression);
+	}
+
+	public int hashCode() {
+		return expression.hashCode();
+	}
+
+	public String toString() {
+		return expression.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2022 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,15 +55,18 @@ import org.springframework.webflow.action.ViewFactoryActionAdapter;
 import org.springframework.webflow.core.collection.AttributeMap;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.engine.ActionList;
 import org.springframework.webflow.engine.Flow;
 import org.springframework.webflow.engine.FlowExecutionExceptionHandler;
 import org.springframework.webflow.engine.FlowVariable;
 import org.springframework.webflow.engine.History;
+import org.springframework.webflow.engine.State;
 import org.springframework.webflow.engine.SubflowAttributeMapper;
 import org.springframework.webflow.engine.TargetStateResolver;
 import org.springframework.webflow.engine.Transition;
 import org.springframework.webflow.engine.TransitionCriteria;
 import org.springframework.webflow.engine.VariableValueFactory;
+import org.springframework.webflow.engine.ViewState;
 import org.springframework.webflow.engine.ViewVariable;
 import org.springframework.webflow.engine.builder.BinderConfiguration;
 import org.springframework.webflow.engine.builder.BinderConfiguration.Binding;
@@ -429,6 +432,7 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	private Mapper parseFlowInputMapper(List<InputModel> inputs) {
 		if (inputs != null && !inputs.isEmpty()) {
 			DefaultMapper inputMapper = new DefaultMapper();
+			inputMapper.setErrorResultsOnly(true);
 			for (InputModel inputModel : inputs) {
 				inputMapper.addMapping(parseFlowInputMapping(inputModel));
 			}
@@ -439,7 +443,6 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	}
 
 	private DefaultMapping parseFlowInputMapping(InputModel input) {
-		ExpressionParser parser = getLocalContext().getExpressionParser();
 		String name = input.getName();
 		String value = null;
 		if (StringUtils.hasText(input.getValue())) {
@@ -447,8 +450,8 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 		} else {
 			value = "flowScope." + name;
 		}
-		Expression source = parser.parseExpression(name, new FluentParserContext().evaluate(MutableAttributeMap.class));
-		Expression target = parser.parseExpression(value, new FluentParserContext().evaluate(RequestContext.class));
+		Expression source = parseMappingExpression(name, MutableAttributeMap.class);
+		Expression target = parseMappingExpression(value, RequestContext.class);
 		DefaultMapping mapping = new DefaultMapping(source, target);
 		parseAndSetMappingConversionExecutor(input, mapping);
 		parseAndSetMappingRequired(input, mapping);
@@ -458,6 +461,7 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	private Mapper parseSubflowInputMapper(List<InputModel> inputs) {
 		if (inputs != null && !inputs.isEmpty()) {
 			DefaultMapper inputMapper = new DefaultMapper();
+			inputMapper.setErrorResultsOnly(true);
 			for (InputModel inputModel : inputs) {
 				inputMapper.addMapping(parseSubflowInputMapping(inputModel));
 			}
@@ -468,7 +472,6 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	}
 
 	private DefaultMapping parseSubflowInputMapping(InputModel input) {
-		ExpressionParser parser = getLocalContext().getExpressionParser();
 		String name = input.getName();
 		String value = null;
 		if (StringUtils.hasText(input.getValue())) {
@@ -476,8 +479,8 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 		} else {
 			value = name;
 		}
-		Expression source = parser.parseExpression(value, new FluentParserContext().evaluate(RequestContext.class));
-		Expression target = parser.parseExpression(name, new FluentParserContext().evaluate(MutableAttributeMap.class));
+		Expression source = parseMappingExpression(value, RequestContext.class);
+		Expression target = parseMappingExpression(name, MutableAttributeMap.class);
 		DefaultMapping mapping = new DefaultMapping(source, target);
 		parseAndSetMappingConversionExecutor(input, mapping);
 		parseAndSetMappingRequired(input, mapping);
@@ -487,6 +490,7 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	private Mapper parseFlowOutputMapper(List<OutputModel> outputs) {
 		if (outputs != null && !outputs.isEmpty()) {
 			DefaultMapper outputMapper = new DefaultMapper();
+			outputMapper.setErrorResultsOnly(true);
 			for (OutputModel outputModel : outputs) {
 				outputMapper.addMapping(parseFlowOutputMapping(outputModel));
 			}
@@ -497,7 +501,6 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	}
 
 	private DefaultMapping parseFlowOutputMapping(OutputModel output) {
-		ExpressionParser parser = getLocalContext().getExpressionParser();
 		String name = output.getName();
 		String value = null;
 		if (StringUtils.hasText(output.getValue())) {
@@ -505,8 +508,8 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 		} else {
 			value = name;
 		}
-		Expression source = parser.parseExpression(value, new FluentParserContext().evaluate(RequestContext.class));
-		Expression target = parser.parseExpression(name, new FluentParserContext().evaluate(MutableAttributeMap.class));
+		Expression source = parseMappingExpression(value, RequestContext.class);
+		Expression target = parseMappingExpression(name, MutableAttributeMap.class);
 		DefaultMapping mapping = new DefaultMapping(source, target);
 		parseAndSetMappingConversionExecutor(output, mapping);
 		parseAndSetMappingRequired(output, mapping);
@@ -516,6 +519,7 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	private Mapper parseSubflowOutputMapper(List<OutputModel> outputs) {
 		if (outputs != null && !outputs.isEmpty()) {
 			DefaultMapper outputMapper = new DefaultMapper();
+			outputMapper.setErrorResultsOnly(true);
 			for (OutputModel outputModel : outputs) {
 				outputMapper.addMapping(parseSubflowOutputMapping(outputModel));
 			}
@@ -526,7 +530,6 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 	}
 
 	private DefaultMapping parseSubflowOutputMapping(OutputModel output) {
-		ExpressionParser parser = getLocalContext().getExpressionParser();
 		String name = output.getName();
 		String value = null;
 		if (StringUtils.hasText(output.getValue())) {
@@ -534,14 +537,25 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 		} else {
 			value = "flowScope." + name;
 		}
-		Expression source = parser.parseExpression(name, new FluentParserContext().evaluate(MutableAttributeMap.class));
-		Expression target = parser.parseExpression(value, new FluentParserContext().evaluate(RequestContext.class));
+		Expression source = parseMappingExpression(name, MutableAttributeMap.class);
+		Expression target = parseMappingExpression(value, RequestContext.class);
 		DefaultMapping mapping = new DefaultMapping(source, target);
 		parseAndSetMappingConversionExecutor(output, mapping);
 		parseAndSetMappingRequired(output, mapping);
 		return mapping;
 	}
 
+	/**
+	 * Parse an input or output mapping expression, compiling attribute names and scope attributes into direct attribute
+	 * access, as flow and subflow mappings are executed each time a flow starts or ends.
+	 */
+	private Expression parseMappingExpression(String expressionString, Class<?> contextType) {
+		ExpressionParser parser = getLocalContext().getExpressionParser();
+		Expression expression = parser.parseExpression(expressionString,
+				new FluentParserContext().evaluate(contextType));
+		return AttributeExpression.compile(expression, contextType);
+	}
+
 	private void parseAndSetMappingConversionExecutor(AbstractMappingModel mappingModel, DefaultMapping mapping) {
 		if (StringUtils.hasText(mappingModel.getType())) {
 			Class<?> type = toClass(mappingModel.getType());
@@ -581,40 +595,51 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 							new FluentParserContext().evaluate(RequestContext.class)));
 		}
 		parseAndPutSecured(state.getSecured(), attributes);
-		getLocalContext().getFlowArtifactFactory().createViewState(state.getId(), flow,
+		State viewState = getLocalContext().getFlowArtifactFactory().createViewState(state.getId(), flow,
 				parseViewVariables(state.getVars()), parseActions(state.getOnEntryActions()), viewFactory, redirect,
 				popup, parseActions(state.getOnRenderActions()), parseTransitions(state.getTransitions()),
 				parseExceptionHandlers(state.getExceptionHandlers(), state.getTransitions()),
 				parseActions(state.getOnExitActions()), attributes);
+		parseAndSetParallel(state.getOnEntryParallel(), viewState.getEntryActionList());
+		if (viewState instanceof ViewState) {
+			parseAndSetParallel(state.getOnRenderParallel(), ((ViewState) viewState).getRenderActionList());
+			if (StringUtils.hasText(state.getConditionalRefresh())) {
+				((ViewState) viewState).setConditionalRefresh((Boolean) fromStringTo(Boolean.class).execute(
+						state.getConditionalRefresh()));
+			}
+		}
 	}
 
 	private void parseAndAddActionState(ActionStateModel state, Flow flow) {
 		MutableAttributeMap<Object> attributes = parseMetaAttributes(state.getAttributes());
 		parseAndPutSecured(state.getSecured(), attributes);
-		getLocalContext().getFlowArtifactFactory().createActionState(state.getId(), flow,
+		State actionState = getLocalContext().getFlowArtifactFactory().createActionState(state.getId(), flow,
 				parseActions(state.getOnEntryActions()), parseActions(state.getActions()),
 				parseTransitions(state.getTransitions()),
 				parseExceptionHandlers(state.getExceptionHandlers(), state.getTransitions()),
 				parseActions(state.getOnExitActions()), attributes);
+		parseAndSetParallel(state.getOnEntryParallel(), actionState.getEntryActionList());
 	}
 
 	private void parseAndAddDecisionState(DecisionStateModel state, Flow flow) {
 		MutableAttributeMap<Object> attributes = parseMetaAttributes(state.getAttributes());
 		parseAndPutSecured(state.getSecured(), attributes);
-		getLocalContext().getFlowArtifactFactory().createDecisionState(state.getId(), flow,
+		State decisionState = getLocalContext().getFlowArtifactFactory().createDecisionState(state.getId(), flow,
 				parseActions(state.getOnEntryActions()), parseIfs(state.getIfs()),
 				parseExceptionHandlers(state.getExceptionHandlers(), null), parseActions(state.getOnExitActions()),
 				attributes);
+		parseAndSetParallel(state.getOnEntryParallel(), decisionState.getEntryActionList());
 	}
 
 	private void parseAndAddSubflowState(SubflowStateModel state, Flow flow) {
 		MutableAttributeMap<Object> attributes = parseMetaAttributes(state.getAttributes());
 		parseAndPutSecured(state.getSecured(), attributes);
-		getLocalContext().getFlowArtifactFactory().createSubflowState(state.getId(), flow,
+		State subflowState = getLocalContext().getFlowArtifactFactory().createSubflowState(state.getId(), flow,
 				parseActions(state.getOnEntryActions()), parseSubflowExpression(state.getSubflow()),
 				parseSubflowAttributeMapper(state), parseTransitions(state.getTransitions()),
 				parseExceptionHandlers(state.getExceptionHandlers(), state.getTransitions()),
 				parseActions(state.getOnExitActions()), attributes);
+		parseAndSetParallel(state.getOnEntryParallel(), subflowState.getEntryActionList());
 	}
 
 	private void parseAndAddEndState(EndStateModel state, Flow flow) {
@@ -630,10 +655,18 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 		} else {
 			finalResponseAction = null;
 		}
-		getLocalContext().getFlowArtifactFactory().createEndState(state.getId(), flow,
+		State endState = getLocalContext().getFlowArtifactFactory().createEndState(state.getId(), flow,
 				parseActions(state.getOnEntryActions()), finalResponseAction,
 				parseFlowOutputMapper(state.getOutputs()), parseExceptionHandlers(state.getExceptionHandlers(), null),
 				attributes);
+		parseAndSetParallel(state.getOnEntryParallel(), endState.getEntryActionList());
+	}
+
+	private void parseAndSetParallel(String parallel, ActionList actionList) {
+		if (StringUtils.hasText(parallel) && (Boolean) fromStringTo(Boolean.class).execute(parallel)) {
+			actionList.setConcurrent(true);
+			actionList.setExecutor(getLocalContext().getParallelActionExecutor());
+		}
 	}
 
 	private ViewFactory parseViewFactory(String view, String stateId, boolean endState, BinderModel binderModel) {
@@ -903,7 +936,11 @@ public class FlowModelFlowBuilder extends AbstractFlowBuilder {
 			resultExpression = getLocalContext().getExpressionParser().parseExpression(evaluate.getResult(),
 					new FluentParserContext().evaluate(RequestContext.class));
 		}
-		return new EvaluateAction(evaluateExpression, resultExpression);
+		EvaluateAction evaluateAction = new EvaluateAction(evaluateExpression, resultExpression);
+		if (StringUtils.hasText(evaluate.getTimeout())) {
+			evaluateAction.setTimeout((Long) fromStringTo(Long.class).execute(evaluate.getTimeout()));
+		}
+		return evaluateAction;
 	}
 
 	private Action parseRenderAction(RenderModel render) {
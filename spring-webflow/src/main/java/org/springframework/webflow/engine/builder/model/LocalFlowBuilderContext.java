@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.engine.builder.model;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.binding.convert.ConversionService;
 import org.springframework.binding.expression.ExpressionParser;
 import org.springframework.context.ApplicationContext;
@@ -111,4 +113,12 @@ class LocalFlowBuilderContext implements FlowBuilderContext {
 		}
 	}
 
+	public Executor getParallelActionExecutor() {
+		if (localFlowContext.containsLocalBean("parallelActionExecutor")) {
+			return localFlowContext.getBean("parallelActionExecutor", Executor.class);
+		} else {
+			return parent.getParallelActionExecutor();
+		}
+	}
+
 }
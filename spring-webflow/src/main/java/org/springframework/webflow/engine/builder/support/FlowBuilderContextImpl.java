@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.engine.builder.support;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.binding.convert.ConversionException;
 import org.springframework.binding.convert.ConversionExecutionException;
 import org.springframework.binding.convert.ConversionExecutor;
@@ -114,6 +116,10 @@ public class FlowBuilderContextImpl implements FlowBuilderContext {
 		return flowBuilderServices.getValidationHintResolver();
 	}
 
+	public Executor getParallelActionExecutor() {
+		return flowBuilderServices.getParallelActionExecutor();
+	}
+
 	/**
 	 * Factory method that creates the conversion service the flow builder will use. Subclasses may override. The
 	 * default implementation registers Web Flow-specific converters thought to be useful for most builder
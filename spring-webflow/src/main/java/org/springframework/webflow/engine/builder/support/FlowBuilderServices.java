@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package org.springframework.webflow.engine.builder.support;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.binding.convert.ConversionService;
@@ -88,6 +90,11 @@ public class FlowBuilderServices implements ApplicationContextAware, Initializin
 	 */
 	private boolean development;
 
+	/**
+	 * The executor starting the actions of action lists declared to execute in parallel. Optional.
+	 */
+	private Executor parallelActionExecutor;
+
 	public FlowArtifactFactory getFlowArtifactFactory() {
 		return flowArtifactFactory;
 	}
@@ -144,6 +151,23 @@ public class FlowBuilderServices implements ApplicationContextAware, Initializin
 		this.development = development;
 	}
 
+	/**
+	 * @since 4.0.2
+	 */
+	public Executor getParallelActionExecutor() {
+		return parallelActionExecutor;
+	}
+
+	/**
+	 * Sets the executor starting the actions of <code>parallel</code> on-entry and on-render action lists on separate
+	 * threads. Without executor, such action lists only wait for the asynchronous results of their actions
+	 * concurrently.
+	 * @since 4.0.2
+	 */
+	public void setParallelActionExecutor(Executor parallelActionExecutor) {
+		this.parallelActionExecutor = parallelActionExecutor;
+	}
+
 	public ApplicationContext getApplicationContext() {
 		return applicationContext;
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import org.springframework.util.Assert;
 import org.springframework.webflow.context.ExternalContext;
 import org.springframework.webflow.core.collection.AttributeMap;
 import org.springframework.webflow.core.collection.CollectionUtils;
+import org.springframework.webflow.core.collection.CompactAttributeMap;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.definition.FlowDefinition;
@@ -148,8 +149,8 @@ public class FlowExecutionImpl implements FlowExecution, Externalizable {
 		listeners = new FlowExecutionListeners();
 		attributes = CollectionUtils.EMPTY_ATTRIBUTE_MAP;
 		flowSessions = new LinkedList<>();
-		conversationScope = new LocalAttributeMap<>();
-		conversationScope.put(FLASH_SCOPE_ATTRIBUTE, new LocalAttributeMap<>());
+		conversationScope = new CompactAttributeMap<>();
+		conversationScope.put(FLASH_SCOPE_ATTRIBUTE, new CompactAttributeMap<>());
 	}
 
 	public String getCaption() {
@@ -458,6 +459,10 @@ public class FlowExecutionImpl implements FlowExecution, Externalizable {
 		this.listeners = new FlowExecutionListeners(listeners);
 	}
 
+	void setListeners(FlowExecutionListeners listeners) {
+		this.listeners = listeners;
+	}
+
 	void setAttributes(AttributeMap<Object> attributes) {
 		this.attributes = attributes;
 	}
@@ -562,7 +567,9 @@ public class FlowExecutionImpl implements FlowExecution, Externalizable {
 	private void saveFlashMessages(RequestContext context) {
 		StateManageableMessageContext messageContext = (StateManageableMessageContext) context.getMessageContext();
 		Serializable messagesMemento = messageContext.createMessagesMemento();
-		getFlashScope().put("messagesMemento", messagesMemento);
+		if (messagesMemento != DefaultMessageContext.EMPTY_MESSAGES_MEMENTO) {
+			getFlashScope().put("messagesMemento", messagesMemento);
+		}
 	}
 
 	private FlowExecutionException wrap(Exception e) {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,17 @@
 package org.springframework.webflow.engine.impl;
 
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.util.Assert;
 import org.springframework.webflow.core.collection.AttributeMap;
 import org.springframework.webflow.core.collection.CollectionUtils;
-import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.core.collection.CompactAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.definition.FlowDefinition;
 import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
@@ -31,11 +35,16 @@ import org.springframework.webflow.execution.FlowExecution;
 import org.springframework.webflow.execution.FlowExecutionFactory;
 import org.springframework.webflow.execution.FlowExecutionKey;
 import org.springframework.webflow.execution.FlowExecutionKeyFactory;
+import org.springframework.webflow.execution.FlowExecutionListener;
 import org.springframework.webflow.execution.factory.FlowExecutionListenerLoader;
 import org.springframework.webflow.execution.factory.StaticFlowExecutionListenerLoader;
 
 /**
  * A factory for instances of the {@link FlowExecutionImpl default flow execution} implementation.
+ * <p>
+ * The listeners, attributes and key factory of the executions of a flow definition are resolved once, and shared by
+ * all executions created or restored for that definition, until the definition is refreshed or the configuration of
+ * this factory changes. Listeners are therefore loaded once per flow definition.
  * @author Keith Donald
  */
 public class FlowExecutionImplFactory implements FlowExecutionFactory {
@@ -48,6 +57,11 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 
 	private FlowExecutionKeyFactory executionKeyFactory = new SimpleFlowExecutionKeyFactory();
 
+	/**
+	 * The services of the executions of each flow definition, keyed by flow id.
+	 */
+	private final Map<String, ExecutionServices> executionServices = new ConcurrentHashMap<>();
+
 	/**
 	 * Sets the attributes to apply to flow executions created by this factory. Execution attributes may affect flow
 	 * execution behavior.
@@ -55,6 +69,7 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 	 */
 	public void setExecutionAttributes(AttributeMap<Object> executionAttributes) {
 		this.executionAttributes = executionAttributes;
+		this.executionServices.clear();
 	}
 
 	/**
@@ -63,6 +78,7 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 	 */
 	public void setExecutionListenerLoader(FlowExecutionListenerLoader executionListenerLoader) {
 		this.executionListenerLoader = executionListenerLoader;
+		this.executionServices.clear();
 	}
 
 	/**
@@ -70,6 +86,7 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 	 */
 	public void setExecutionKeyFactory(FlowExecutionKeyFactory executionKeyFactory) {
 		this.executionKeyFactory = executionKeyFactory;
+		this.executionServices.clear();
 	}
 
 	public FlowExecution createFlowExecution(FlowDefinition flowDefinition) {
@@ -78,9 +95,7 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 			logger.debug("Creating new execution of '" + flowDefinition.getId() + "'");
 		}
 		FlowExecutionImpl execution = new FlowExecutionImpl((Flow) flowDefinition);
-		execution.setAttributes(executionAttributes);
-		execution.setListeners(executionListenerLoader.getListeners(execution.getDefinition()));
-		execution.setKeyFactory(executionKeyFactory);
+		getExecutionServices((Flow) flowDefinition).applyTo(execution);
 		return execution;
 	}
 
@@ -97,31 +112,97 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 			rootSession.setFlow(flow);
 			rootSession.setState(flow.getStateInstance(rootSession.getStateId()));
 			if (execution.hasSubflowSessions()) {
-				for (Iterator<FlowSessionImpl> it = execution.getSubflowSessionIterator(); it.hasNext();) {
-					FlowSessionImpl subflowSession = it.next();
-					Flow subflowDef = (Flow) subflowDefinitionLocator.getFlowDefinition(subflowSession.getFlowId());
-					subflowSession.setFlow(subflowDef);
-					subflowSession.setState(subflowDef.getStateInstance(subflowSession.getStateId()));
-				}
+				restoreSubflowSessions(execution, subflowDefinitionLocator);
 			}
 		}
 		execution.setKey(flowExecutionKey);
 		if (conversationScope == null) {
-			conversationScope = new LocalAttributeMap<>();
+			conversationScope = new CompactAttributeMap<>();
 		}
 		execution.setConversationScope(conversationScope);
-		execution.setAttributes(executionAttributes);
-		execution.setListeners(executionListenerLoader.getListeners(execution.getDefinition()));
-		execution.setKeyFactory(executionKeyFactory);
+		getExecutionServices(flow).applyTo(execution);
 		return execution;
 	}
 
+	// internal helpers
+
+	/**
+	 * Restore the definitions of the subflow sessions of the given execution. The definition of a subflow is looked up
+	 * once: sessions of a flow already restored, such as recursive subflows, share the definition of that flow.
+	 */
+	private void restoreSubflowSessions(FlowExecutionImpl execution, FlowDefinitionLocator subflowDefinitionLocator) {
+		LinkedList<FlowSessionImpl> sessions = execution.getFlowSessions();
+		for (Iterator<FlowSessionImpl> it = execution.getSubflowSessionIterator(); it.hasNext();) {
+			FlowSessionImpl session = it.next();
+			Flow subflow = findRestoredFlow(sessions, session);
+			if (subflow == null) {
+				subflow = (Flow) subflowDefinitionLocator.getFlowDefinition(session.getFlowId());
+			}
+			session.setFlow(subflow);
+			session.setState(subflow.getStateInstance(session.getStateId()));
+		}
+	}
+
+	/**
+	 * Returns the definition of the flow of the given session if a session preceding it is of the same flow.
+	 */
+	private Flow findRestoredFlow(LinkedList<FlowSessionImpl> sessions, FlowSessionImpl session) {
+		for (FlowSessionImpl restored : sessions) {
+			if (restored == session) {
+				return null;
+			}
+			if (restored.getFlowId().equals(session.getFlowId())) {
+				return restored.getFlow();
+			}
+		}
+		return null;
+	}
+
+	private ExecutionServices getExecutionServices(Flow flow) {
+		ExecutionServices services = executionServices.get(flow.getId());
+		if (services == null || services.flow != flow) {
+			FlowExecutionListener[] listeners = executionListenerLoader.getListeners(flow);
+			services = new ExecutionServices(flow, new FlowExecutionListeners(listeners), executionAttributes,
+					executionKeyFactory);
+			executionServices.put(flow.getId(), services);
+		}
+		return services;
+	}
+
+	/**
+	 * The immutable services shared by the executions of a flow definition.
+	 */
+	private static class ExecutionServices {
+
+		private final Flow flow;
+
+		private final FlowExecutionListeners listeners;
+
+		private final AttributeMap<Object> attributes;
+
+		private final FlowExecutionKeyFactory keyFactory;
+
+		public ExecutionServices(Flow flow, FlowExecutionListeners listeners, AttributeMap<Object> attributes,
+				FlowExecutionKeyFactory keyFactory) {
+			this.flow = flow;
+			this.listeners = listeners;
+			this.attributes = attributes;
+			this.keyFactory = keyFactory;
+		}
+
+		public void applyTo(FlowExecutionImpl execution) {
+			execution.setListeners(listeners);
+			execution.setAttributes(attributes);
+			execution.setKeyFactory(keyFactory);
+		}
+	}
+
 	/**
 	 * Simple key factory suitable for standalone usage and testing. Not expected to be used in a web environment.
 	 */
 	private static class SimpleFlowExecutionKeyFactory implements FlowExecutionKeyFactory {
 
-		private int sequence;
+		private final AtomicInteger sequence = new AtomicInteger();
 
 		public FlowExecutionKey getKey(FlowExecution execution) {
 			if (execution.getKey() == null) {
@@ -141,8 +222,8 @@ public class FlowExecutionImplFactory implements FlowExecutionFactory {
 		public void updateFlowExecutionSnapshot(FlowExecution execution) {
 		}
 
-		private synchronized int nextSequence() {
-			return ++sequence;
+		private int nextSequence() {
+			return sequence.incrementAndGet();
 		}
 
 		private static class SimpleFlowExecutionKey extends FlowExecutionKey {
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,7 +38,7 @@ import org.springframework.webflow.execution.View;
  */
 class FlowExecutionListeners {
 
-	private FlowExecutionListener[] EMPTY_LISTENER_ARRAY = new FlowExecutionListener[0];
+	private static final FlowExecutionListener[] EMPTY_LISTENER_ARRAY = new FlowExecutionListener[0];
 
 	/**
 	 * The list of listeners that should receive event callbacks during managed flow executions.
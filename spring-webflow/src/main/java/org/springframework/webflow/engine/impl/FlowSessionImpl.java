@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,7 @@ import java.io.ObjectOutput;
 
 import org.springframework.core.style.ToStringCreator;
 import org.springframework.util.Assert;
-import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.core.collection.CompactAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.definition.FlowDefinition;
 import org.springframework.webflow.definition.StateDefinition;
@@ -61,7 +61,7 @@ class FlowSessionImpl implements FlowSession, Externalizable {
 	/**
 	 * The session data model ("flow scope").
 	 */
-	private MutableAttributeMap<Object> scope = new LocalAttributeMap<>();
+	private MutableAttributeMap<Object> scope = new CompactAttributeMap<>();
 
 	/**
 	 * The parent session of this session (may be <code>null</code> if this is a root session.)
@@ -246,7 +246,7 @@ class FlowSessionImpl implements FlowSession, Externalizable {
 	 * Initialize the view scope data structure.
 	 */
 	private void initViewScope() {
-		scope.put(VIEW_SCOPE_ATTRIBUTE, new LocalAttributeMap<>());
+		scope.put(VIEW_SCOPE_ATTRIBUTE, new CompactAttributeMap<>());
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -242,6 +242,9 @@ class RequestControlContextImpl implements RequestControlContext {
 		if (!getExternalContext().isResponseAllowed()) {
 			return true;
 		}
+		if (getExternalContext().isInlineRenderRequest()) {
+			return false;
+		}
 		Boolean redirectOnPause = flowExecution.getAttributes().getBoolean("alwaysRedirectOnPause");
 		return redirectOnPause == null ? false : redirectOnPause;
 	}
@@ -250,6 +253,9 @@ class RequestControlContextImpl implements RequestControlContext {
 		if (!getExternalContext().isResponseAllowed()) {
 			return true;
 		}
+		if (getExternalContext().isInlineRenderRequest()) {
+			return false;
+		}
 		Boolean redirectInSameState = flowExecution.getAttributes().getBoolean("redirectInSameState");
 		return (redirectInSameState != null) ? redirectInSameState : getRedirectOnPause();
 	}
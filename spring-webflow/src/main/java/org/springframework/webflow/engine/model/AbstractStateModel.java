@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,8 @@ public abstract class AbstractStateModel extends AbstractModel {
 
 	private LinkedList<AbstractActionModel> onEntryActions;
 
+	private String onEntryParallel;
+
 	private LinkedList<ExceptionHandlerModel> exceptionHandlers;
 
 	public AbstractStateModel(String id) {
@@ -47,6 +49,7 @@ public abstract class AbstractStateModel extends AbstractModel {
 		copy.setAttributes(copyList(attributes));
 		copy.setSecured((SecuredModel) copy(secured));
 		copy.setOnEntryActions(copyList(onEntryActions));
+		copy.setOnEntryParallel(onEntryParallel);
 		copy.setExceptionHandlers(copyList(exceptionHandlers));
 	}
 
@@ -128,6 +131,24 @@ public abstract class AbstractStateModel extends AbstractModel {
 		this.onEntryActions = onEntryActions;
 	}
 
+	/**
+	 * @return whether the on entry actions execute in parallel
+	 */
+	public String getOnEntryParallel() {
+		return onEntryParallel;
+	}
+
+	/**
+	 * @param onEntryParallel whether the on entry actions execute in parallel
+	 */
+	public void setOnEntryParallel(String onEntryParallel) {
+		if (StringUtils.hasText(onEntryParallel)) {
+			this.onEntryParallel = onEntryParallel;
+		} else {
+			this.onEntryParallel = null;
+		}
+	}
+
 	/**
 	 * @return the exception handlers
 	 */
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,6 +49,7 @@ public class ActionStateModel extends AbstractTransitionableStateModel {
 		setAttributes(merge(getAttributes(), state.getAttributes()));
 		setSecured((SecuredModel) merge(getSecured(), state.getSecured()));
 		setOnEntryActions(merge(getOnEntryActions(), state.getOnEntryActions(), false));
+		setOnEntryParallel(merge(getOnEntryParallel(), state.getOnEntryParallel()));
 		setExceptionHandlers(merge(getExceptionHandlers(), state.getExceptionHandlers()));
 		setTransitions(merge(getTransitions(), state.getTransitions()));
 		setOnExitActions(merge(getOnExitActions(), state.getOnExitActions(), false));
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,8 @@ public class EvaluateModel extends AbstractActionModel {
 
 	private String resultType;
 
+	private String timeout;
+
 	/**
 	 * Create an evaluate action model
 	 * @param expression the expression to evaluate
@@ -45,6 +47,7 @@ public class EvaluateModel extends AbstractActionModel {
 		super.fillCopy(copy);
 		copy.setResult(result);
 		copy.setResultType(resultType);
+		copy.setTimeout(timeout);
 		return copy;
 	}
 
@@ -101,4 +104,22 @@ public class EvaluateModel extends AbstractActionModel {
 			this.resultType = null;
 		}
 	}
+
+	/**
+	 * @return the timeout
+	 */
+	public String getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @param timeout the timeout to set
+	 */
+	public void setTimeout(String timeout) {
+		if (StringUtils.hasText(timeout)) {
+			this.timeout = timeout;
+		} else {
+			this.timeout = null;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,8 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 
 	private String popup;
 
+	private String conditionalRefresh;
+
 	private String model;
 
 	private String validationHints;
@@ -43,6 +45,8 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 
 	private LinkedList<AbstractActionModel> onRenderActions;
 
+	private String onRenderParallel;
+
 	/**
 	 * Create a view state model
 	 * @param id the identifier of the state
@@ -65,17 +69,20 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 		setAttributes(merge(getAttributes(), state.getAttributes()));
 		setSecured((SecuredModel) merge(getSecured(), state.getSecured()));
 		setOnEntryActions(merge(getOnEntryActions(), state.getOnEntryActions(), false));
+		setOnEntryParallel(merge(getOnEntryParallel(), state.getOnEntryParallel()));
 		setExceptionHandlers(merge(getExceptionHandlers(), state.getExceptionHandlers()));
 		setTransitions(merge(getTransitions(), state.getTransitions()));
 		setOnExitActions(merge(getOnExitActions(), state.getOnExitActions(), false));
 		setView(merge(getView(), state.getView()));
 		setRedirect(merge(getRedirect(), state.getRedirect()));
 		setPopup(merge(getPopup(), state.getPopup()));
+		setConditionalRefresh(merge(getConditionalRefresh(), state.getConditionalRefresh()));
 		setModel(merge(getModel(), state.getModel()));
 		setValidationHints(mergeValidationHints(getValidationHints(), state.getValidationHints()));
 		setVars(merge(getVars(), state.getVars(), false));
 		setBinder((BinderModel) merge(getBinder(), state.getBinder()));
 		setOnRenderActions(merge(getOnRenderActions(), state.getOnRenderActions(), false));
+		setOnRenderParallel(merge(getOnRenderParallel(), state.getOnRenderParallel()));
 	}
 
 	/**
@@ -104,11 +111,13 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 		copy.setView(view);
 		copy.setRedirect(redirect);
 		copy.setPopup(popup);
+		copy.setConditionalRefresh(conditionalRefresh);
 		copy.setModel(model);
 		copy.setValidationHints(validationHints);
 		copy.setVars(copyList(vars));
 		copy.setBinder((BinderModel) copy(binder));
 		copy.setOnRenderActions(copyList(onRenderActions));
+		copy.setOnRenderParallel(onRenderParallel);
 		return copy;
 	}
 
@@ -166,6 +175,26 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 		}
 	}
 
+	/**
+	 * @return the conditional refresh
+	 * @since 4.0.2
+	 */
+	public String getConditionalRefresh() {
+		return conditionalRefresh;
+	}
+
+	/**
+	 * @param conditionalRefresh the conditional refresh to set
+	 * @since 4.0.2
+	 */
+	public void setConditionalRefresh(String conditionalRefresh) {
+		if (StringUtils.hasText(conditionalRefresh)) {
+			this.conditionalRefresh = conditionalRefresh;
+		} else {
+			this.conditionalRefresh = null;
+		}
+	}
+
 	/**
 	 * @return the model
 	 */
@@ -233,4 +262,22 @@ public class ViewStateModel extends AbstractTransitionableStateModel {
 		this.onRenderActions = onRenderActions;
 	}
 
+	/**
+	 * @return whether the on render actions execute in parallel
+	 */
+	public String getOnRenderParallel() {
+		return onRenderParallel;
+	}
+
+	/**
+	 * @param onRenderParallel whether the on render actions execute in parallel
+	 */
+	public void setOnRenderParallel(String onRenderParallel) {
+		if (StringUtils.hasText(onRenderParallel)) {
+			this.onRenderParallel = onRenderParallel;
+		} else {
+			this.onRenderParallel = null;
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package org.springframework.webflow.engine.model.builder;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.springframework.core.io.Resource;
 import org.springframework.core.style.ToStringCreator;
 import org.springframework.util.Assert;
@@ -42,6 +45,8 @@ public class DefaultFlowModelHolder implements FlowModelHolder {
 
 	private boolean assembling;
 
+	private final Lock lock = new ReentrantLock();
+
 	/**
 	 * Creates a new refreshable flow model holder that uses the configured assembler (GOF director) to drive flow
 	 * assembly, on initial use and on any resource change or refresh.
@@ -52,19 +57,24 @@ public class DefaultFlowModelHolder implements FlowModelHolder {
 		this.flowModelBuilder = flowModelBuilder;
 	}
 
-	public synchronized FlowModel getFlowModel() {
-		if (assembling) {
-			// must return early assembly result for when a flow calls itself recursively
-			return flowModelBuilder.getFlowModel();
-		}
-		if (flowModel == null) {
-			assembleFlowModel();
-		} else {
-			if (flowModelBuilder.hasFlowModelResourceChanged()) {
+	public FlowModel getFlowModel() {
+		lock.lock();
+		try {
+			if (assembling) {
+				// must return early assembly result for when a flow calls itself recursively
+				return flowModelBuilder.getFlowModel();
+			}
+			if (flowModel == null) {
 				assembleFlowModel();
+			} else {
+				if (flowModelBuilder.hasFlowModelResourceChanged()) {
+					assembleFlowModel();
+				}
 			}
+			return flowModel;
+		} finally {
+			lock.unlock();
 		}
-		return flowModel;
 	}
 
 	public Resource getFlowModelResource() {
@@ -75,8 +85,13 @@ public class DefaultFlowModelHolder implements FlowModelHolder {
 		return flowModelBuilder.hasFlowModelResourceChanged();
 	}
 
-	public synchronized void refresh() {
-		assembleFlowModel();
+	public void refresh() {
+		lock.lock();
+		try {
+			assembleFlowModel();
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	// internal helpers
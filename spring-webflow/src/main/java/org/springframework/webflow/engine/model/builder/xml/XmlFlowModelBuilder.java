@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2015 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -495,6 +495,15 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		}
 	}
 
+	private String parseParallel(Element element, String actionsElementName) {
+		Element actionsElement = DomUtils.getChildElementByTagName(element, actionsElementName);
+		if (actionsElement != null) {
+			return actionsElement.getAttribute("parallel");
+		} else {
+			return null;
+		}
+	}
+
 	private BinderModel parseBinder(Element element) {
 		Element binderElement = DomUtils.getChildElementByTagName(element, "binder");
 		if (binderElement != null) {
@@ -545,6 +554,7 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		EvaluateModel evaluate = new EvaluateModel(element.getAttribute("expression"));
 		evaluate.setResult(element.getAttribute("result"));
 		evaluate.setResultType(element.getAttribute("result-type"));
+		evaluate.setTimeout(element.getAttribute("timeout"));
 		evaluate.setAttributes(parseAttributes(element));
 		return evaluate;
 	}
@@ -568,6 +578,7 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		state.setAttributes(parseAttributes(element));
 		state.setSecured(parseSecured(element));
 		state.setOnEntryActions(parseOnEntryActions(element));
+		state.setOnEntryParallel(parseParallel(element, "on-entry"));
 		state.setTransitions(parseTransitions(element));
 		state.setOnExitActions(parseOnExitActions(element));
 		state.setActions(parseActions(element));
@@ -581,14 +592,17 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		state.setView(element.getAttribute("view"));
 		state.setRedirect(element.getAttribute("redirect"));
 		state.setPopup(element.getAttribute("popup"));
+		state.setConditionalRefresh(element.getAttribute("conditional-refresh"));
 		state.setModel(element.getAttribute("model"));
 		state.setValidationHints(element.getAttribute("validation-hints"));
 		state.setVars(parseVars(element));
 		state.setBinder(parseBinder(element));
 		state.setOnRenderActions(parseOnRenderActions(element));
+		state.setOnRenderParallel(parseParallel(element, "on-render"));
 		state.setAttributes(parseAttributes(element));
 		state.setSecured(parseSecured(element));
 		state.setOnEntryActions(parseOnEntryActions(element));
+		state.setOnEntryParallel(parseParallel(element, "on-entry"));
 		state.setExceptionHandlers(parseExceptionHandlers(element));
 		state.setTransitions(parseTransitions(element));
 		state.setOnExitActions(parseOnExitActions(element));
@@ -603,6 +617,7 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		state.setAttributes(parseAttributes(element));
 		state.setSecured(parseSecured(element));
 		state.setOnEntryActions(parseOnEntryActions(element));
+		state.setOnEntryParallel(parseParallel(element, "on-entry"));
 		state.setExceptionHandlers(parseExceptionHandlers(element));
 		return state;
 	}
@@ -616,6 +631,7 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		state.setAttributes(parseAttributes(element));
 		state.setSecured(parseSecured(element));
 		state.setOnEntryActions(parseOnEntryActions(element));
+		state.setOnEntryParallel(parseParallel(element, "on-entry"));
 		state.setExceptionHandlers(parseExceptionHandlers(element));
 		state.setTransitions(parseTransitions(element));
 		state.setOnExitActions(parseOnExitActions(element));
@@ -631,6 +647,7 @@ public class XmlFlowModelBuilder implements FlowModelBuilder {
 		state.setAttributes(parseAttributes(element));
 		state.setSecured(parseSecured(element));
 		state.setOnEntryActions(parseOnEntryActions(element));
+		state.setOnEntryParallel(parseParallel(element, "on-entry"));
 		state.setExceptionHandlers(parseExceptionHandlers(element));
 		return state;
 	}
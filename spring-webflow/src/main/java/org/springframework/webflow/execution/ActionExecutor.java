@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,8 +15,19 @@
  */
 package org.springframework.webflow.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.springframework.webflow.context.ExternalContext;
+import org.springframework.webflow.context.ExternalContextHolder;
+import org.springframework.webflow.context.ThreadBoundContext;
 
 /**
  * A simple static helper that performs action execution that encapsulates common logging and exception handling logic.
@@ -56,10 +67,189 @@ public class ActionExecutor {
 		} catch (ActionExecutionException e) {
 			throw e;
 		} catch (Exception e) {
-			// wrap the exception as an ActionExecutionException
-			throw new ActionExecutionException(context.getActiveFlow().getId(),
-					context.getCurrentState() != null ? context.getCurrentState().getId() : null, action,
-					context.getAttributes(), e);
+			throw wrap(e, action, context);
+		}
+	}
+
+	/**
+	 * Start executing the given action. If the action is an {@link AsyncAction}, the asynchronous work it starts is
+	 * not waited for; any other action is fully executed.
+	 * @param action the action to start
+	 * @param context the flow execution request context
+	 * @return the pending result of the action, to pass to {@link #complete(Action, Object, RequestContext)}
+	 * @throws ActionExecutionException if the action threw an exception while starting
+	 * @since 4.0.2
+	 */
+	public static Object start(Action action, RequestContext context) throws ActionExecutionException {
+		Action targetAction = getTargetAction(action);
+		if (!(targetAction instanceof AsyncAction)) {
+			return execute(action, context);
+		}
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Starting " + targetAction);
+			}
+			exposeAttributes(action, context);
+			return ((AsyncAction) targetAction).start(context);
+		} catch (ActionExecutionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw wrap(e, action, context);
+		} finally {
+			removeAttributes(action, context);
+		}
+	}
+
+	/**
+	 * Start executing the given asynchronous action on a thread of the given executor. The request context and its
+	 * external context are exposed to that thread through the {@link RequestContextHolder} and
+	 * {@link ExternalContextHolder}, along with the locale context, request attributes and security context of the
+	 * calling thread, as described in {@link ThreadBoundContext}. Resources bound to the calling thread through
+	 * transaction synchronization, such as a flow-managed persistence context, are not. Unlike
+	 * {@link #start(Action, RequestContext)}, this does not expose the attributes of an annotated action, as the
+	 * request context may be used by several threads at once.
+	 * @param action the action to start, an {@link AsyncAction} or an annotated asynchronous action
+	 * @param context the flow execution request context
+	 * @param executor the executor to start the action with
+	 * @return a future completing with the pending result of the action, to pass to
+	 * {@link #complete(Action, Object, RequestContext)}, or exceptionally with an {@link ActionExecutionException}
+	 * @see #isAsync(Action)
+	 * @since 4.0.2
+	 */
+	public static CompletableFuture<Object> start(Action action, RequestContext context, Executor executor) {
+		AsyncAction asyncAction = (AsyncAction) getTargetAction(action);
+		ExternalContext externalContext = context.getExternalContext();
+		ThreadBoundContext threadBoundContext = ThreadBoundContext.capture();
+		return CompletableFuture.supplyAsync(() -> threadBoundContext.execute(() -> {
+			RequestContext previousRequestContext = RequestContextHolder.getRequestContext();
+			ExternalContext previousExternalContext = ExternalContextHolder.getExternalContext();
+			RequestContextHolder.setRequestContext(context);
+			ExternalContextHolder.setExternalContext(externalContext);
+			try {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Starting " + asyncAction);
+				}
+				return asyncAction.start(context);
+			} catch (ActionExecutionException e) {
+				throw e;
+			} catch (Exception e) {
+				throw wrap(e, action, context);
+			} finally {
+				RequestContextHolder.setRequestContext(previousRequestContext);
+				ExternalContextHolder.setExternalContext(previousExternalContext);
+			}
+		}), executor);
+	}
+
+	/**
+	 * Complete executing the given action, waiting for its pending result to become available if necessary.
+	 * @param action the action to complete
+	 * @param pendingResult the pending result returned when {@link #start(Action, RequestContext) starting} the action
+	 * @param context the flow execution request context
+	 * @return result of action execution
+	 * @throws ActionExecutionException if the action threw an exception while completing or its pending result
+	 * completed exceptionally or did not complete in time
+	 * @since 4.0.2
+	 */
+	public static Event complete(Action action, Object pendingResult, RequestContext context)
+			throws ActionExecutionException {
+		Action targetAction = getTargetAction(action);
+		if (!(targetAction instanceof AsyncAction)) {
+			return (Event) pendingResult;
+		}
+		AsyncAction asyncAction = (AsyncAction) targetAction;
+		try {
+			Object result = isPending(pendingResult) ? await(pendingResult, asyncAction.getTimeout()) : pendingResult;
+			exposeAttributes(action, context);
+			Event event = asyncAction.complete(result, context);
+			if (action instanceof AnnotatedAction) {
+				event = ((AnnotatedAction) action).postProcessResult(event);
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Finished executing " + targetAction + "; result = " + event);
+			}
+			return event;
+		} catch (ActionExecutionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw wrap(e, action, context);
+		} finally {
+			removeAttributes(action, context);
+		}
+	}
+
+	/**
+	 * Returns whether the given action is an {@link AsyncAction}, or an annotated asynchronous action.
+	 * @param action the action
+	 * @since 4.0.2
+	 */
+	public static boolean isAsync(Action action) {
+		return getTargetAction(action) instanceof AsyncAction;
+	}
+
+	/**
+	 * Returns whether the given action result is pending, i.e. is a {@link CompletionStage} or a {@link Future} whose
+	 * value should be waited for.
+	 * @param result the action result
+	 * @since 4.0.2
+	 */
+	public static boolean isPending(Object result) {
+		return result instanceof CompletionStage || result instanceof Future;
+	}
+
+	/**
+	 * Wait for the given pending action result to complete.
+	 * @param pendingResult the pending result, a {@link CompletionStage} or a {@link Future}
+	 * @param timeout how long to wait in milliseconds; 0 or less to wait without timeout
+	 * @return the completed value
+	 * @throws TimeoutException if the result did not complete in time; the result is then cancelled
+	 * @throws InterruptedException if the current thread was interrupted while waiting
+	 * @throws Exception the exception the result completed with
+	 * @since 4.0.2
+	 */
+	public static Object await(Object pendingResult, long timeout) throws Exception {
+		Future<?> future;
+		if (pendingResult instanceof Future) {
+			future = (Future<?>) pendingResult;
+		} else {
+			future = ((CompletionStage<?>) pendingResult).toCompletableFuture();
+		}
+		try {
+			return timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			} else {
+				throw e;
+			}
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+	}
+
+	private static ActionExecutionException wrap(Exception e, Action action, RequestContext context) {
+		// wrap the exception as an ActionExecutionException
+		return new ActionExecutionException(context.getActiveFlow().getId(),
+				context.getCurrentState() != null ? context.getCurrentState().getId() : null, action,
+				context.getAttributes(), e);
+	}
+
+	private static void exposeAttributes(Action action, RequestContext context) {
+		if (action instanceof AnnotatedAction) {
+			context.getAttributes().putAll(((AnnotatedAction) action).getAttributes());
+		}
+	}
+
+	private static void removeAttributes(Action action, RequestContext context) {
+		if (action instanceof AnnotatedAction) {
+			context.getAttributes().removeAll(((AnnotatedAction) action).getAttributes());
 		}
 	}
 
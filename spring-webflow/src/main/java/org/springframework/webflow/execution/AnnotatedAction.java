@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,15 @@ public class AnnotatedAction extends AnnotatedObject implements Action {
 	 */
 	public static final String METHOD_ATTRIBUTE = "method";
 
+	/**
+	 * The fragment relevant attribute ("fragmentRelevant").
+	 * <p>
+	 * Render actions that only prepare content displayed outside of the fragments rendered by Ajax requests may set
+	 * this attribute to false, so they are not executed when only fragments of a view are rendered.
+	 * @since 4.0.2
+	 */
+	public static final String FRAGMENT_RELEVANT_ATTRIBUTE = "fragmentRelevant";
+
 	/**
 	 * The target action to execute.
 	 */
@@ -125,6 +134,28 @@ public class AnnotatedAction extends AnnotatedObject implements Action {
 		getAttributes().put(METHOD_ATTRIBUTE, method);
 	}
 
+	/**
+	 * Returns whether the target action must be executed when only fragments of a view are rendered. True unless the
+	 * {@link #FRAGMENT_RELEVANT_ATTRIBUTE fragment relevant attribute} is set to false.
+	 * @since 4.0.2
+	 */
+	public boolean isFragmentRelevant() {
+		Object fragmentRelevant = getAttributes().get(FRAGMENT_RELEVANT_ATTRIBUTE);
+		if (fragmentRelevant instanceof String) {
+			return !"false".equalsIgnoreCase(((String) fragmentRelevant).trim());
+		}
+		return !Boolean.FALSE.equals(fragmentRelevant);
+	}
+
+	/**
+	 * Sets whether the target action must be executed when only fragments of a view are rendered.
+	 * @param fragmentRelevant the fragment relevant flag
+	 * @since 4.0.2
+	 */
+	public void setFragmentRelevant(boolean fragmentRelevant) {
+		getAttributes().put(FRAGMENT_RELEVANT_ATTRIBUTE, fragmentRelevant);
+	}
+
 	/**
 	 * Set an attribute on this annotated object.
 	 * @param attributeName the name of the attribute to set
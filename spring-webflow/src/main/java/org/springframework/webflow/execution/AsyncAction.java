@@ -0,0 +1,61 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.execution;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+
+/**
+ * An action whose execution may start asynchronous work, such as the invocation of a service returning a
+ * {@link CompletionStage}. Besides being executable as any other action, which waits for the asynchronous work to
+ * complete, an asynchronous action can be executed in two steps: {@link #start(RequestContext) start} and
+ * {@link #complete(Object, RequestContext) complete}. This allows the work started by several independent actions to
+ * run concurrently, as done by an action list configured for concurrent execution.
+ * <p>
+ * Both steps are invoked by the thread processing the flow execution request.
+ *
+ * @see ActionExecutor#start(Action, RequestContext)
+ * @see ActionExecutor#complete(Action, Object, RequestContext)
+ *
+ * @since 4.0.2
+ */
+public interface AsyncAction extends Action {
+
+	/**
+	 * Start executing this action, without waiting for the asynchronous work it starts to complete.
+	 * @param context the action execution context
+	 * @return the pending result of this action: a {@link CompletionStage} or {@link Future} if asynchronous work was
+	 * started, the result value otherwise
+	 * @throws Exception a exception occurred starting the action
+	 */
+	Object start(RequestContext context) throws Exception;
+
+	/**
+	 * Complete executing this action once its pending result is available.
+	 * @param result the value of the pending result returned by {@link #start(RequestContext)}
+	 * @param context the action execution context
+	 * @return the action result event
+	 * @throws Exception a exception occurred completing the action
+	 */
+	Event complete(Object result, RequestContext context) throws Exception;
+
+	/**
+	 * Returns how long to wait for the pending result of this action to become available, in milliseconds. A value of
+	 * 0 or less means no timeout.
+	 */
+	long getTimeout();
+
+}
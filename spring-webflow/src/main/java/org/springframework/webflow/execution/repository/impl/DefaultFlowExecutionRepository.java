@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.springframework.webflow.execution.repository.impl;
 
 import java.io.Serializable;
+import java.lang.ref.SoftReference;
 
 import org.springframework.webflow.conversation.Conversation;
 import org.springframework.webflow.conversation.ConversationManager;
@@ -26,6 +27,8 @@ import org.springframework.webflow.execution.repository.snapshot.AbstractSnapsho
 import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshot;
 import org.springframework.webflow.execution.repository.snapshot.FlowExecutionSnapshotFactory;
 import org.springframework.webflow.execution.repository.snapshot.SnapshotNotFoundException;
+import org.springframework.webflow.metrics.FlowMetrics;
+import org.springframework.webflow.metrics.MeterRegistry;
 
 /**
  * The default flow execution repository implementation. Takes <i>one to {@link #getMaxSnapshots() max}</i> flow
@@ -50,6 +53,13 @@ import org.springframework.webflow.execution.repository.snapshot.SnapshotNotFoun
  * This repository implementation also provides support for <i>execution invalidation after completion</i>, where once a
  * logical flow execution completes, it and all of its snapshots are removed. This cleans up memory and prevents the
  * possibility of duplicate submission after completion.
+ * <p>
+ * The last flow execution put into the repository is kept, softly referenced, with its conversation. When it is
+ * resumed with its current key, it is returned as is instead of being restored from its snapshot, which skips snapshot
+ * deserialization. Resuming any other key, for example after going back in the browser, restores the snapshot of that
+ * key. The live flow execution is handed out once, so a request failing before putting it back leaves the snapshot as
+ * the only state to restore. Flow executions of flow definitions in development are always restored from their
+ * snapshot, so that changes to the flow definition are picked up.
  * 
  * @author Keith Donald
  */
@@ -60,6 +70,11 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 	 */
 	private static final String SNAPSHOT_GROUP_ATTRIBUTE = "flowExecutionSnapshotGroup";
 
+	/**
+	 * The conversation attribute that stores the last flow execution put into this repository.
+	 */
+	private static final String LIVE_FLOW_EXECUTION_ATTRIBUTE = "liveFlowExecution";
+
 	/**
 	 * The maximum number of snapshots that can be taken per execution. The default is 30, which is generally high
 	 * enough not to interfere with the user experience of normal users using the back button, but low enough to avoid
@@ -67,6 +82,16 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 	 */
 	private int maxSnapshots = 30;
 
+	/**
+	 * Whether the last flow execution put into this repository is returned as is when resumed with its current key.
+	 */
+	private boolean reuseLiveFlowExecutions = true;
+
+	/**
+	 * The registry recording the time taken to restore and store flow executions, may be null.
+	 */
+	private MeterRegistry meterRegistry;
+
 	/**
 	 * Create a new default flow execution repository using the given state restorer, conversation manager, and snapshot
 	 * factory.
@@ -93,6 +118,44 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		this.maxSnapshots = maxSnapshots;
 	}
 
+	/**
+	 * Returns whether the last flow execution put into this repository is returned as is when resumed with its current
+	 * key, instead of being restored from its snapshot.
+	 * @since 4.0.2
+	 */
+	public boolean getReuseLiveFlowExecutions() {
+		return reuseLiveFlowExecutions;
+	}
+
+	/**
+	 * Sets whether the last flow execution put into this repository is returned as is when resumed with its current
+	 * key, instead of being restored from its snapshot. Turn this off if objects referenced by a paused flow execution
+	 * may be changed outside of the flow, and each request must see the state captured by the snapshot. The default is
+	 * true.
+	 * @since 4.0.2
+	 */
+	public void setReuseLiveFlowExecutions(boolean reuseLiveFlowExecutions) {
+		this.reuseLiveFlowExecutions = reuseLiveFlowExecutions;
+	}
+
+	/**
+	 * Returns the registry recording the time taken to restore and store flow executions, if any.
+	 * @since 4.0.2
+	 */
+	public MeterRegistry getMeterRegistry() {
+		return meterRegistry;
+	}
+
+	/**
+	 * Sets the registry recording the time taken to restore and store flow executions, as
+	 * {@link FlowMetrics#EXECUTION_RESTORE} and {@link FlowMetrics#EXECUTION_STORE} timers.
+	 * @param meterRegistry the meter registry, or <code>null</code> to not record measurements
+	 * @since 4.0.2
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
 	// supporting flow execution key factory impl
 
 	protected Serializable nextSnapshotId(Serializable executionId) {
@@ -105,6 +168,7 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		if (logger.isDebugEnabled()) {
 			logger.debug("Getting flow execution with key '" + key + "'");
 		}
+		long start = (meterRegistry != null ? System.nanoTime() : 0);
 		Conversation conversation = getConversation(key);
 		FlowExecutionSnapshot snapshot;
 		try {
@@ -112,7 +176,14 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		} catch (SnapshotNotFoundException e) {
 			throw new FlowExecutionRestorationFailureException(key, e);
 		}
-		return restoreFlowExecution(snapshot, key, conversation);
+		FlowExecution flowExecution = takeLiveFlowExecution(key, snapshot, conversation);
+		if (flowExecution == null) {
+			flowExecution = restoreFlowExecution(snapshot, key, conversation);
+		}
+		if (meterRegistry != null) {
+			record(FlowMetrics.EXECUTION_RESTORE, flowExecution, System.nanoTime() - start);
+		}
+		return flowExecution;
 	}
 
 	public void putFlowExecution(FlowExecution flowExecution) {
@@ -120,6 +191,7 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		if (logger.isDebugEnabled()) {
 			logger.debug("Putting flow execution '" + flowExecution + "' into repository");
 		}
+		long start = (meterRegistry != null ? System.nanoTime() : 0);
 		FlowExecutionKey key = flowExecution.getKey();
 		Conversation conversation = getConversation(key);
 		FlowExecutionSnapshotGroup snapshotGroup = getSnapshotGroup(conversation);
@@ -129,6 +201,10 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		}
 		snapshotGroup.addSnapshot(getSnapshotId(key), snapshot);
 		putConversationScope(flowExecution, conversation);
+		putLiveFlowExecution(flowExecution, snapshot, conversation);
+		if (meterRegistry != null) {
+			record(FlowMetrics.EXECUTION_STORE, flowExecution, System.nanoTime() - start);
+		}
 	}
 
 	// implementing flow execution key factory
@@ -182,4 +258,73 @@ public class DefaultFlowExecutionRepository extends AbstractSnapshottingFlowExec
 		}
 		return group;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the live flow execution of the conversation if it is still current for the given key and snapshot, and
+	 * forgets it, or returns null if it must be restored from its snapshot.
+	 */
+	private FlowExecution takeLiveFlowExecution(FlowExecutionKey key, FlowExecutionSnapshot snapshot,
+			Conversation conversation) {
+		LiveFlowExecution live = (LiveFlowExecution) conversation.getAttribute(LIVE_FLOW_EXECUTION_ATTRIBUTE);
+		if (live == null) {
+			return null;
+		}
+		FlowExecution flowExecution = live.get();
+		if (flowExecution == null || live.snapshot != snapshot || !key.equals(flowExecution.getKey())) {
+			return null;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Reusing live flow execution with key '" + key + "'");
+		}
+		live.clear();
+		return flowExecution;
+	}
+
+	private void putLiveFlowExecution(FlowExecution flowExecution, FlowExecutionSnapshot snapshot,
+			Conversation conversation) {
+		LiveFlowExecution live = (LiveFlowExecution) conversation.getAttribute(LIVE_FLOW_EXECUTION_ATTRIBUTE);
+		if (!reuseLiveFlowExecutions || flowExecution.getDefinition().inDevelopment()) {
+			if (live != null) {
+				live.clear();
+			}
+			return;
+		}
+		if (live == null) {
+			live = new LiveFlowExecution();
+			conversation.putAttribute(LIVE_FLOW_EXECUTION_ATTRIBUTE, live);
+		}
+		live.set(flowExecution, snapshot);
+	}
+
+	private void record(String meterName, FlowExecution flowExecution, long nanos) {
+		meterRegistry.timer(meterName, flowExecution.getDefinition().getId(),
+				FlowMetrics.getCurrentStateId(flowExecution)).record(nanos);
+	}
+
+
+	/**
+	 * The last flow execution put into the repository, with the snapshot taken of it. Not kept when the conversation is
+	 * serialized, in which case flow executions are restored from their snapshot.
+	 */
+	private static class LiveFlowExecution implements Serializable {
+
+		private transient SoftReference<FlowExecution> flowExecution;
+
+		private transient FlowExecutionSnapshot snapshot;
+
+		public FlowExecution get() {
+			return (flowExecution != null ? flowExecution.get() : null);
+		}
+
+		public void set(FlowExecution flowExecution, FlowExecutionSnapshot snapshot) {
+			this.flowExecution = new SoftReference<>(flowExecution);
+			this.snapshot = snapshot;
+		}
+
+		public void clear() {
+			this.flowExecution = null;
+			this.snapshot = null;
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -88,6 +88,14 @@ public class SerializedFlowExecutionSnapshot extends FlowExecutionSnapshot imple
 		return compressed;
 	}
 
+	/**
+	 * Returns the size of the flow execution data in this snapshot, in bytes.
+	 * @since 4.0.2
+	 */
+	public int getSize() {
+		return flowExecutionData.length;
+	}
+
 	/**
 	 * Unmarshal the flow execution from this snapshot's data.
 	 * @param classLoader the classloader to use to resolve types during execution deserialization
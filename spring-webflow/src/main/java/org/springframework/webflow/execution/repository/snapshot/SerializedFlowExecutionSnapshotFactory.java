@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,9 @@ import org.springframework.webflow.execution.FlowExecutionFactory;
 import org.springframework.webflow.execution.FlowExecutionKey;
 import org.springframework.webflow.execution.FlowExecutionKeyFactory;
 import org.springframework.webflow.execution.repository.FlowExecutionRestorationFailureException;
+import org.springframework.webflow.metrics.FlowExecutionTraceRecorder;
+import org.springframework.webflow.metrics.FlowMetrics;
+import org.springframework.webflow.metrics.MeterRegistry;
 
 /**
  * A factory that creates new instances of flow execution snapshots based on standard Java serialization.
@@ -39,6 +42,10 @@ public class SerializedFlowExecutionSnapshotFactory implements FlowExecutionSnap
 
 	private boolean compress = true;
 
+	private MeterRegistry meterRegistry;
+
+	private FlowExecutionTraceRecorder traceRecorder;
+
 	/**
 	 * Creates a new serialized flow execution snapshot factory
 	 * @param flowDefinitionLocator the flow definition locator
@@ -66,8 +73,59 @@ public class SerializedFlowExecutionSnapshotFactory implements FlowExecutionSnap
 		this.compress = compress;
 	}
 
+	/**
+	 * Returns the registry recording snapshot serialization measurements, if any.
+	 * @since 4.0.2
+	 */
+	public MeterRegistry getMeterRegistry() {
+		return meterRegistry;
+	}
+
+	/**
+	 * Set the registry recording the time taken to serialize and deserialize snapshots, and their size, as
+	 * {@link FlowMetrics#SNAPSHOT_SERIALIZE} and {@link FlowMetrics#SNAPSHOT_DESERIALIZE} timers and
+	 * {@link FlowMetrics#SNAPSHOT_SIZE} distribution summaries.
+	 * @param meterRegistry the meter registry, or <code>null</code> to not record measurements
+	 * @since 4.0.2
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the recorder tracing the snapshots taken, if any.
+	 * @since 4.0.2
+	 */
+	public FlowExecutionTraceRecorder getTraceRecorder() {
+		return traceRecorder;
+	}
+
+	/**
+	 * Set the recorder tracing the snapshots taken, with their size and the time taken to serialize them.
+	 * @param traceRecorder the trace recorder, or <code>null</code> to not trace snapshots
+	 * @since 4.0.2
+	 */
+	public void setTraceRecorder(FlowExecutionTraceRecorder traceRecorder) {
+		this.traceRecorder = traceRecorder;
+	}
+
 	public FlowExecutionSnapshot createSnapshot(FlowExecution flowExecution) throws SnapshotCreationException {
-		return new SerializedFlowExecutionSnapshot(flowExecution, compress);
+		if (meterRegistry == null && traceRecorder == null) {
+			return new SerializedFlowExecutionSnapshot(flowExecution, compress);
+		}
+		long start = System.nanoTime();
+		SerializedFlowExecutionSnapshot snapshot = new SerializedFlowExecutionSnapshot(flowExecution, compress);
+		long duration = System.nanoTime() - start;
+		if (meterRegistry != null) {
+			String flowId = flowExecution.getDefinition().getId();
+			String stateId = FlowMetrics.getCurrentStateId(flowExecution);
+			meterRegistry.timer(FlowMetrics.SNAPSHOT_SERIALIZE, flowId, stateId).record(duration);
+			meterRegistry.summary(FlowMetrics.SNAPSHOT_SIZE, flowId, stateId).record(snapshot.getSize());
+		}
+		if (traceRecorder != null) {
+			traceRecorder.snapshotCreated(flowExecution, snapshot.getSize(), duration);
+		}
+		return snapshot;
 	}
 
 	public FlowExecution restoreExecution(FlowExecutionSnapshot snapshot, String flowId, FlowExecutionKey key,
@@ -76,12 +134,18 @@ public class SerializedFlowExecutionSnapshotFactory implements FlowExecutionSnap
 		SerializedFlowExecutionSnapshot snapshotImpl = (SerializedFlowExecutionSnapshot) snapshot;
 		FlowDefinition def = flowDefinitionLocator.getFlowDefinition(flowId);
 		FlowExecution execution;
+		long start = (meterRegistry != null ? System.nanoTime() : 0);
 		try {
 			execution = snapshotImpl.unmarshal(def.getClassLoader());
 		} catch (SnapshotUnmarshalException e) {
 			throw new FlowExecutionRestorationFailureException(key, e);
 		}
+		long duration = (meterRegistry != null ? System.nanoTime() - start : 0);
 		flowExecutionFactory.restoreFlowExecution(execution, def, key, conversationScope, flowDefinitionLocator);
+		if (meterRegistry != null) {
+			meterRegistry.timer(FlowMetrics.SNAPSHOT_DESERIALIZE, flowId, FlowMetrics.getCurrentStateId(execution))
+					.record(duration);
+		}
 		return execution;
 	}
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.executor;
+
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.webflow.context.ExternalContext;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+
+/**
+ * A flow executor that can also launch and resume flow executions asynchronously, releasing the calling thread while
+ * the flow execution processes the request. Useful to free servlet container threads during flow steps that invoke
+ * slow, I/O bound services.
+ * <p>
+ * The external context passed in must remain usable until the returned stage completes; for a servlet request, that
+ * means asynchronous request processing must have been started.
+ *
+ * @since 4.0.2
+ */
+public interface AsyncFlowExecutor extends FlowExecutor {
+
+	/**
+	 * Launch a new execution of the flow with the provided id asynchronously.
+	 * @param flowId the flow definition identifier; should be unique among all top-level flow definitions (required).
+	 * @param input input to pass to the new execution on startup (optional)
+	 * @param context access to the calling environment (required)
+	 * @return a stage completing with the flow execution result, or exceptionally with the flow exception thrown
+	 */
+	CompletionStage<FlowExecutionResult> launchExecutionAsync(String flowId, MutableAttributeMap<?> input,
+			ExternalContext context);
+
+	/**
+	 * Resume the flow execution with the provided execution key asynchronously.
+	 * @param flowExecutionKey the key of a paused execution of the flow definition
+	 * @param context access to the calling environment
+	 * @return a stage completing with the flow execution result, or exceptionally with the flow exception thrown
+	 */
+	CompletionStage<FlowExecutionResult> resumeExecutionAsync(String flowExecutionKey, ExternalContext context);
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,17 @@
  */
 package org.springframework.webflow.executor;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.util.Assert;
 import org.springframework.webflow.context.ExternalContext;
 import org.springframework.webflow.context.ExternalContextHolder;
+import org.springframework.webflow.context.ThreadBoundContext;
 import org.springframework.webflow.core.FlowException;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.definition.FlowDefinition;
@@ -29,6 +35,8 @@ import org.springframework.webflow.execution.FlowExecutionFactory;
 import org.springframework.webflow.execution.FlowExecutionKey;
 import org.springframework.webflow.execution.repository.FlowExecutionLock;
 import org.springframework.webflow.execution.repository.FlowExecutionRepository;
+import org.springframework.webflow.metrics.FlowMetrics;
+import org.springframework.webflow.metrics.MeterRegistry;
 
 /**
  * The default implementation of the central facade for <i>driving</i> the execution of flows within an application.
@@ -61,6 +69,16 @@ import org.springframework.webflow.execution.repository.FlowExecutionRepository;
  * <td>The repository responsible for managing flow execution persistence.</td>
  * <td>None</td>
  * </tr>
+ * <tr>
+ * <td>asyncExecutor</td>
+ * <td>The executor running flow executions launched or resumed asynchronously.</td>
+ * <td>None; asynchronous requests are processed by the calling thread</td>
+ * </tr>
+ * <tr>
+ * <td>meterRegistry</td>
+ * <td>The registry recording the time waited for flow execution locks.</td>
+ * <td>None</td>
+ * </tr>
  * </table>
  *
  * @see FlowDefinitionLocator
@@ -71,7 +89,7 @@ import org.springframework.webflow.execution.repository.FlowExecutionRepository;
  * @author Erwin Vervaet
  * @author Colin Sampaleanu
  */
-public class FlowExecutorImpl implements FlowExecutor {
+public class FlowExecutorImpl implements AsyncFlowExecutor {
 
 	private static final Log logger = LogFactory.getLog(FlowExecutorImpl.class);
 
@@ -90,6 +108,16 @@ public class FlowExecutorImpl implements FlowExecutor {
 	 */
 	private FlowExecutionRepository executionRepository;
 
+	/**
+	 * The executor running asynchronously launched and resumed flow executions, may be null.
+	 */
+	private Executor asyncExecutor;
+
+	/**
+	 * The registry recording the time waited for flow execution locks, may be null.
+	 */
+	private MeterRegistry meterRegistry;
+
 	/**
 	 * Create a new flow executor.
 	 * @param definitionLocator the locator for accessing flow definitions to execute
@@ -127,6 +155,42 @@ public class FlowExecutorImpl implements FlowExecutor {
 		return executionRepository;
 	}
 
+	/**
+	 * Returns the executor running asynchronously launched and resumed flow executions.
+	 */
+	public Executor getAsyncExecutor() {
+		return asyncExecutor;
+	}
+
+	/**
+	 * Sets the executor running asynchronously launched and resumed flow executions, for example an executor starting a
+	 * virtual thread per task. The locale context, the request attributes backing request and session scoped beans,
+	 * and the Spring Security context of the calling thread are propagated to the executing thread, as described in
+	 * {@link ThreadBoundContext}; other thread-bound state is not unless the executor propagates it. If not set,
+	 * asynchronous requests are processed by the calling thread and return a completed stage.
+	 * @param asyncExecutor the executor
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the registry recording the time waited for flow execution locks, if any.
+	 * @since 4.0.2
+	 */
+	public MeterRegistry getMeterRegistry() {
+		return meterRegistry;
+	}
+
+	/**
+	 * Sets the registry recording the time waited for flow execution locks, as {@link FlowMetrics#LOCK_WAIT} timers.
+	 * @param meterRegistry the meter registry, or <code>null</code> to not record measurements
+	 * @since 4.0.2
+	 */
+	public void setMeterRegistry(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
 	public FlowExecutionResult launchExecution(String flowId, MutableAttributeMap<?> input, ExternalContext context)
 			throws FlowException {
 		try {
@@ -139,8 +203,10 @@ public class FlowExecutorImpl implements FlowExecutor {
 			flowExecution.start(input, context);
 			if (!flowExecution.hasEnded()) {
 				FlowExecutionLock lock = executionRepository.getLock(flowExecution.getKey());
+				long lockStart = System.nanoTime();
 				lock.lock();
 				try {
+					recordLockWait(flowExecution, System.nanoTime() - lockStart);
 					executionRepository.putFlowExecution(flowExecution);
 				} finally {
 					lock.unlock();
@@ -162,9 +228,12 @@ public class FlowExecutorImpl implements FlowExecutor {
 			ExternalContextHolder.setExternalContext(context);
 			FlowExecutionKey key = executionRepository.parseFlowExecutionKey(flowExecutionKey);
 			FlowExecutionLock lock = executionRepository.getLock(key);
+			long lockStart = System.nanoTime();
 			lock.lock();
+			long lockWait = System.nanoTime() - lockStart;
 			try {
 				FlowExecution flowExecution = executionRepository.getFlowExecution(key);
+				recordLockWait(flowExecution, lockWait);
 				flowExecution.resume(context);
 				if (!flowExecution.hasEnded()) {
 					executionRepository.putFlowExecution(flowExecution);
@@ -181,6 +250,36 @@ public class FlowExecutorImpl implements FlowExecutor {
 		}
 	}
 
+	public CompletionStage<FlowExecutionResult> launchExecutionAsync(String flowId, MutableAttributeMap<?> input,
+			ExternalContext context) {
+		return executeAsync(() -> launchExecution(flowId, input, context));
+	}
+
+	public CompletionStage<FlowExecutionResult> resumeExecutionAsync(String flowExecutionKey, ExternalContext context) {
+		return executeAsync(() -> resumeExecution(flowExecutionKey, context));
+	}
+
+	// internal helpers
+
+	private CompletionStage<FlowExecutionResult> executeAsync(Supplier<FlowExecutionResult> request) {
+		if (asyncExecutor == null) {
+			try {
+				return CompletableFuture.completedFuture(request.get());
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+		ThreadBoundContext threadBoundContext = ThreadBoundContext.detach();
+		return CompletableFuture.supplyAsync(() -> threadBoundContext.execute(request), asyncExecutor);
+	}
+
+	private void recordLockWait(FlowExecution flowExecution, long nanos) {
+		if (meterRegistry != null) {
+			meterRegistry.timer(FlowMetrics.LOCK_WAIT, flowExecution.getDefinition().getId(),
+					FlowMetrics.getCurrentStateId(flowExecution)).record(nanos);
+		}
+	}
+
 	private FlowExecutionResult createEndResult(FlowExecution flowExecution) {
 		return FlowExecutionResult.createEndedResult(flowExecution.getDefinition().getId(), flowExecution.getOutcome());
 	}
@@ -0,0 +1,483 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.metrics;
+
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.util.Assert;
+import org.springframework.webflow.core.collection.AttributeMap;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.definition.StateDefinition;
+import org.springframework.webflow.definition.TransitionDefinition;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.FlowExecution;
+import org.springframework.webflow.execution.FlowExecutionException;
+import org.springframework.webflow.execution.FlowExecutionListener;
+import org.springframework.webflow.execution.FlowSession;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.RequestContextHolder;
+import org.springframework.webflow.execution.View;
+
+/**
+ * A flow execution listener recording a trace of each flow execution request into a fixed-size ring buffer: the
+ * states entered, the events signaled, the transitions executed, the time taken by the actions of each state and by
+ * view rendering, and the snapshots taken with their size. Intended to reconstruct slow requests in production, where
+ * debug logging is too expensive.
+ * <p>
+ * Recording an entry does not allocate: entries are written into preallocated arrays, and only reference definitions,
+ * ids and outcomes that already exist. The state of the request in progress is a small object kept with the attributes
+ * of its request context, so nothing outlives the request. When the buffer is full, the oldest entries are
+ * overwritten. The buffer is shared by all threads, and can be dumped at any time with {@link #dump()}. When a request
+ * takes longer than the {@link #setSlowRequestThreshold(long) slow request threshold}, its trace is passed to
+ * {@link #slowRequestProcessed(RequestContext, long, String)}, which logs it.
+ * <p>
+ * Action time is measured between the listener callbacks surrounding actions, as done by
+ * {@link MetricsFlowExecutionListener}. Snapshots are recorded when this recorder is set on the
+ * {@link org.springframework.webflow.execution.repository.snapshot.SerializedFlowExecutionSnapshotFactory}. The
+ * snapshot taken to store a flow execution once the request has been processed appears in {@link #dump()} as an entry
+ * of its own, identified by the flow execution key, but not in the trace of a slow request.
+ *
+ * @see org.springframework.webflow.config.FlowExecutorBuilder#setTraceRecorder(FlowExecutionTraceRecorder)
+ *
+ * @since 4.0.2
+ */
+public class FlowExecutionTraceRecorder implements FlowExecutionListener {
+
+	private static final Log logger = LogFactory.getLog(FlowExecutionTraceRecorder.class);
+
+	private static final int DEFAULT_CAPACITY = 4096;
+
+	private static final String TRACE_ATTRIBUTE = FlowExecutionTraceRecorder.class.getName() + ".trace";
+
+	private final int mask;
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * The sequence of the entry held by each slot, set once the entry is written, or -1 while it is being written.
+	 */
+	private final AtomicLongArray sequences;
+
+	private final long[] requestIds;
+
+	private final EntryType[] types;
+
+	private final Object[] subjects;
+
+	private final Object[] details;
+
+	private final long[] times;
+
+	private final long[] durations;
+
+	private final long[] sizes;
+
+	private long slowRequestThreshold = -1;
+
+	/**
+	 * Create a recorder holding the last 4096 entries.
+	 */
+	public FlowExecutionTraceRecorder() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a recorder holding the given number of entries, rounded up to a power of two.
+	 * @param capacity the capacity of the ring buffer
+	 */
+	public FlowExecutionTraceRecorder(int capacity) {
+		Assert.isTrue(capacity > 0 && capacity <= (1 << 30), "The capacity must be between 1 and 2^30");
+		int size = (capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+		this.mask = size - 1;
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			this.sequences.set(i, -1);
+		}
+		this.requestIds = new long[size];
+		this.types = new EntryType[size];
+		this.subjects = new Object[size];
+		this.details = new Object[size];
+		this.times = new long[size];
+		this.durations = new long[size];
+		this.sizes = new long[size];
+	}
+
+	/**
+	 * Returns the number of entries held by the ring buffer.
+	 */
+	public int getCapacity() {
+		return this.mask + 1;
+	}
+
+	/**
+	 * Returns the duration in milliseconds above which the trace of a request is dumped, or a negative value if
+	 * traces are never dumped automatically.
+	 */
+	public long getSlowRequestThreshold() {
+		return this.slowRequestThreshold;
+	}
+
+	/**
+	 * Set the duration in milliseconds above which the trace of a request is passed to
+	 * {@link #slowRequestProcessed(RequestContext, long, String)}. Defaults to -1: traces are never dumped
+	 * automatically.
+	 * @param slowRequestThreshold the threshold in milliseconds, or a negative value to disable
+	 */
+	public void setSlowRequestThreshold(long slowRequestThreshold) {
+		this.slowRequestThreshold = slowRequestThreshold;
+	}
+
+	/**
+	 * Record the snapshot of a flow execution taken by the current thread.
+	 * @param flowExecution the flow execution
+	 * @param size the size of the snapshot in bytes
+	 * @param nanos the time taken to create the snapshot
+	 */
+	public void snapshotCreated(FlowExecution flowExecution, int size, long nanos) {
+		RequestContext context = RequestContextHolder.getRequestContext();
+		RequestTrace trace = (context != null ? getTrace(context) : null);
+		record(getRequestId(trace), EntryType.SNAPSHOT, flowExecution.getDefinition().getId(), flowExecution.getKey(),
+				System.nanoTime(), nanos, size);
+	}
+
+	/**
+	 * Returns the entries currently held by the ring buffer, oldest first, one per line. Each line starts with the id
+	 * of the request the entry belongs to, and the time elapsed since the start of that request.
+	 */
+	public String dump() {
+		return dump(-1);
+	}
+
+	/**
+	 * Called when the processing of a request took longer than the slow request threshold. The default
+	 * implementation logs the trace at warn level.
+	 * @param context the request context
+	 * @param nanos the time taken to process the request
+	 * @param trace the trace of the request, as returned by {@link #dump()}
+	 */
+	protected void slowRequestProcessed(RequestContext context, long nanos, String trace) {
+		if (logger.isWarnEnabled()) {
+			logger.warn("Slow request to flow '" + context.getFlowExecutionContext().getDefinition().getId()
+					+ "' processed in " + formatMillis(nanos) + ":\n" + trace);
+		}
+	}
+
+	public void requestSubmitted(RequestContext context) {
+		RequestTrace trace = new RequestTrace();
+		long now = System.nanoTime();
+		trace.requestStart = now;
+		context.getAttributes().put(TRACE_ATTRIBUTE, trace);
+		trace.requestId = record(-1, EntryType.REQUEST_SUBMITTED,
+				context.getFlowExecutionContext().getDefinition().getId(), context.getFlowExecutionContext().getKey(),
+				now, 0, 0);
+	}
+
+	public void requestProcessed(RequestContext context) {
+		RequestTrace trace = getTrace(context);
+		if (trace == null) {
+			return;
+		}
+		context.getAttributes().remove(TRACE_ATTRIBUTE);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		long duration = now - trace.requestStart;
+		record(getRequestId(trace), EntryType.REQUEST_PROCESSED, null, null, now, duration, 0);
+		if (this.slowRequestThreshold >= 0 && duration > TimeUnit.MILLISECONDS.toNanos(this.slowRequestThreshold)) {
+			slowRequestProcessed(context, duration, dump(trace.requestId));
+		}
+	}
+
+	public void sessionStarting(RequestContext context, FlowSession session, MutableAttributeMap<?> input) {
+		stopAction(getTrace(context), System.nanoTime());
+	}
+
+	public void eventSignaled(RequestContext context, Event event) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		record(getRequestId(trace), EntryType.EVENT_SIGNALED, event.getId(), null, now, 0, 0);
+	}
+
+	public void transitionExecuting(RequestContext context, TransitionDefinition transition) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		record(getRequestId(trace), EntryType.TRANSITION_EXECUTING, context.getCurrentState(), transition, now, 0, 0);
+		startAction(trace, context.getCurrentState(), now);
+	}
+
+	public void stateEntering(RequestContext context, StateDefinition state) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		startAction(trace, state, now);
+	}
+
+	public void stateEntered(RequestContext context, StateDefinition previousState, StateDefinition state) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		record(getRequestId(trace), EntryType.STATE_ENTERED, state, null, now, 0, 0);
+		startAction(trace, state, now);
+	}
+
+	public void viewRendering(RequestContext context, View view, StateDefinition viewState) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		if (trace != null) {
+			trace.renderStart = now;
+		}
+	}
+
+	public void viewRendered(RequestContext context, View view, StateDefinition viewState) {
+		RequestTrace trace = getTrace(context);
+		if (trace != null && trace.renderStart != 0) {
+			long now = System.nanoTime();
+			record(getRequestId(trace), EntryType.VIEW_RENDERED, viewState, null, now, now - trace.renderStart, 0);
+			trace.renderStart = 0;
+		}
+	}
+
+	public void paused(RequestContext context) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		record(getRequestId(trace), EntryType.PAUSED, context.getCurrentState(), null, now, 0, 0);
+	}
+
+	public void sessionEnding(RequestContext context, FlowSession session, String outcome,
+			MutableAttributeMap<?> output) {
+		stopAction(getTrace(context), System.nanoTime());
+	}
+
+	public void sessionEnded(RequestContext context, FlowSession session, String outcome, AttributeMap<?> output) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		record(getRequestId(trace), EntryType.SESSION_ENDED, session.getDefinition().getId(), outcome, now, 0, 0);
+	}
+
+	public void exceptionThrown(RequestContext context, FlowExecutionException exception) {
+		RequestTrace trace = getTrace(context);
+		long now = System.nanoTime();
+		stopAction(trace, now);
+		record(getRequestId(trace), EntryType.EXCEPTION_THROWN, exception.getClass().getName(), exception.getStateId(),
+				now, 0, 0);
+	}
+
+	// internal helpers
+
+	private RequestTrace getTrace(RequestContext context) {
+		return (RequestTrace) context.getAttributes().get(TRACE_ATTRIBUTE);
+	}
+
+	private long getRequestId(RequestTrace trace) {
+		return (trace != null ? trace.requestId : -1);
+	}
+
+	private void startAction(RequestTrace trace, StateDefinition state, long now) {
+		if (trace != null && state != null) {
+			trace.actionState = state;
+			trace.actionStart = now;
+		}
+	}
+
+	private void stopAction(RequestTrace trace, long now) {
+		if (trace != null && trace.actionState != null) {
+			record(getRequestId(trace), EntryType.ACTIONS_EXECUTED, trace.actionState, null, now,
+					now - trace.actionStart, 0);
+			trace.actionState = null;
+		}
+	}
+
+	/**
+	 * Write an entry into the next slot of the ring buffer, and return its sequence. An entry without a request id
+	 * starts a request, and is its own request id.
+	 */
+	private long record(long requestId, EntryType type, Object subject, Object detail, long time, long duration,
+			long size) {
+		long sequence = this.sequence.getAndIncrement();
+		int index = (int) (sequence & this.mask);
+		this.sequences.setOpaque(index, -1);
+		VarHandle.storeStoreFence();
+		this.requestIds[index] = (requestId < 0 ? sequence : requestId);
+		this.types[index] = type;
+		this.subjects[index] = subject;
+		this.details[index] = detail;
+		this.times[index] = time;
+		this.durations[index] = duration;
+		this.sizes[index] = size;
+		this.sequences.setRelease(index, sequence);
+		return sequence;
+	}
+
+	/**
+	 * Format the entries of the given request, or of all requests if the id is negative. Entries overwritten while
+	 * being read are skipped.
+	 */
+	private String dump(long requestId) {
+		StringBuilder dump = new StringBuilder();
+		Map<Long, Long> requestStarts = new HashMap<>();
+		long end = this.sequence.get();
+		for (long sequence = Math.max(0, end - getCapacity()); sequence < end; sequence++) {
+			int index = (int) (sequence & this.mask);
+			if (this.sequences.getAcquire(index) != sequence) {
+				continue;
+			}
+			long entryRequestId = this.requestIds[index];
+			EntryType type = this.types[index];
+			Object subject = this.subjects[index];
+			Object detail = this.details[index];
+			long time = this.times[index];
+			long duration = this.durations[index];
+			long size = this.sizes[index];
+			VarHandle.loadLoadFence();
+			if (this.sequences.getAcquire(index) != sequence || (requestId >= 0 && entryRequestId != requestId)) {
+				continue;
+			}
+			long requestStart = requestStarts.computeIfAbsent(entryRequestId, id -> time);
+			dump.append('[').append(entryRequestId).append("] +").append(formatMillis(time - requestStart))
+					.append(' ');
+			type.append(dump, subject, detail, duration, size);
+			dump.append('\n');
+		}
+		return dump.toString();
+	}
+
+	private static String formatMillis(long nanos) {
+		return String.format("%.3f ms", nanos / 1000000.0);
+	}
+
+	private static String describe(Object state) {
+		if (state instanceof StateDefinition stateDefinition) {
+			return "'" + stateDefinition.getId() + "' of flow '" + stateDefinition.getOwner().getId() + "'";
+		}
+		return "'" + state + "'";
+	}
+
+
+	/**
+	 * The types of trace entries, and how they are formatted.
+	 */
+	private enum EntryType {
+
+		REQUEST_SUBMITTED {
+			void append(StringBuilder dump, Object flowId, Object key, long duration, long size) {
+				dump.append("Request submitted to flow '").append(flowId).append('\'');
+				if (key != null) {
+					dump.append(" for execution '").append(key).append('\'');
+				}
+			}
+		},
+
+		REQUEST_PROCESSED {
+			void append(StringBuilder dump, Object subject, Object detail, long duration, long size) {
+				dump.append("Request processed in ").append(formatMillis(duration));
+			}
+		},
+
+		STATE_ENTERED {
+			void append(StringBuilder dump, Object state, Object detail, long duration, long size) {
+				dump.append("Entered state ").append(describe(state));
+			}
+		},
+
+		ACTIONS_EXECUTED {
+			void append(StringBuilder dump, Object state, Object detail, long duration, long size) {
+				dump.append("Executed actions of state ").append(describe(state)).append(" in ")
+						.append(formatMillis(duration));
+			}
+		},
+
+		EVENT_SIGNALED {
+			void append(StringBuilder dump, Object eventId, Object detail, long duration, long size) {
+				dump.append("Signaled event '").append(eventId).append('\'');
+			}
+		},
+
+		TRANSITION_EXECUTING {
+			void append(StringBuilder dump, Object state, Object transition, long duration, long size) {
+				TransitionDefinition definition = (TransitionDefinition) transition;
+				dump.append("Executing transition '").append(definition.getId()).append("' from state ")
+						.append(describe(state)).append(" to '").append(definition.getTargetStateId()).append('\'');
+			}
+		},
+
+		VIEW_RENDERED {
+			void append(StringBuilder dump, Object state, Object detail, long duration, long size) {
+				dump.append("Rendered view of state ").append(describe(state)).append(" in ")
+						.append(formatMillis(duration));
+			}
+		},
+
+		PAUSED {
+			void append(StringBuilder dump, Object state, Object detail, long duration, long size) {
+				dump.append("Paused in state ").append(describe(state));
+			}
+		},
+
+		SESSION_ENDED {
+			void append(StringBuilder dump, Object flowId, Object outcome, long duration, long size) {
+				dump.append("Ended session of flow '").append(flowId).append("' with outcome '").append(outcome)
+						.append('\'');
+			}
+		},
+
+		EXCEPTION_THROWN {
+			void append(StringBuilder dump, Object exceptionClass, Object stateId, long duration, long size) {
+				dump.append("Exception ").append(exceptionClass).append(" thrown in state '").append(stateId)
+						.append('\'');
+			}
+		},
+
+		SNAPSHOT {
+			void append(StringBuilder dump, Object flowId, Object key, long duration, long size) {
+				dump.append("Took snapshot of flow '").append(flowId).append('\'');
+				if (key != null) {
+					dump.append(" for execution '").append(key).append('\'');
+				}
+				dump.append(" of ").append(size).append(" bytes in ").append(formatMillis(duration));
+			}
+		};
+
+		abstract void append(StringBuilder dump, Object subject, Object detail, long duration, long size);
+	}
+
+
+	/**
+	 * The state of a request in progress, kept as a request context attribute.
+	 */
+	private static class RequestTrace {
+
+		private long requestId = -1;
+
+		private long requestStart;
+
+		private StateDefinition actionState;
+
+		private long actionStart;
+
+		private long renderStart;
+	}
+
+}
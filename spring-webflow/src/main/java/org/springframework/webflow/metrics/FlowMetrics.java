@@ -0,0 +1,92 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.metrics;
+
+import org.springframework.webflow.definition.StateDefinition;
+import org.springframework.webflow.execution.FlowExecutionContext;
+
+/**
+ * The names of the meters recorded by the flow engine when configured with a {@link MeterRegistry}. Unless stated
+ * otherwise, meters are tagged with the id of the flow and of the state measured.
+ *
+ * @since 4.0.2
+ */
+public final class FlowMetrics {
+
+	/**
+	 * Timer of flow execution requests, from submission to processing by the flow execution, tagged with the state
+	 * resumed, if any.
+	 */
+	public static final String REQUEST = "webflow.request";
+
+	/**
+	 * Timer of the actions executed by a state: entry and exit actions, actions of action states, and actions of the
+	 * transitions leaving the state. Render actions of view states are timed as part of {@link #RENDER}.
+	 */
+	public static final String ACTION = "webflow.action";
+
+	/**
+	 * Timer of view rendering, including the render actions of the view state.
+	 */
+	public static final String RENDER = "webflow.render";
+
+	/**
+	 * Timer of the wait for the lock of a flow execution.
+	 */
+	public static final String LOCK_WAIT = "webflow.lock.wait";
+
+	/**
+	 * Timer of flow execution restoration from the repository, including the restoration of its snapshot.
+	 */
+	public static final String EXECUTION_RESTORE = "webflow.execution.restore";
+
+	/**
+	 * Timer of flow execution storage into the repository, including the creation of its snapshot.
+	 */
+	public static final String EXECUTION_STORE = "webflow.execution.store";
+
+	/**
+	 * Timer of the serialization of flow execution snapshots.
+	 */
+	public static final String SNAPSHOT_SERIALIZE = "webflow.snapshot.serialize";
+
+	/**
+	 * Timer of the deserialization of flow execution snapshots.
+	 */
+	public static final String SNAPSHOT_DESERIALIZE = "webflow.snapshot.deserialize";
+
+	/**
+	 * Distribution summary of the size of flow execution snapshots, in bytes.
+	 */
+	public static final String SNAPSHOT_SIZE = "webflow.snapshot.size";
+
+	private FlowMetrics() {
+	}
+
+	/**
+	 * Returns the id of the current state of the given flow execution, or <code>null</code> if the flow execution is
+	 * not active.
+	 * @param flowExecution the flow execution
+	 */
+	public static String getCurrentStateId(FlowExecutionContext flowExecution) {
+		if (!flowExecution.isActive()) {
+			return null;
+		}
+		StateDefinition state = flowExecution.getActiveSession().getState();
+		return (state != null ? state.getId() : null);
+	}
+
+}
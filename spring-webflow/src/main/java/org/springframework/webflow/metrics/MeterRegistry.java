@@ -0,0 +1,75 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.metrics;
+
+/**
+ * The registry of meters the flow engine records measurements with. Implementations typically adapt a metrics library
+ * such as Micrometer, mapping the flow and state ids to tags.
+ * <p>
+ * Meters are looked up for every measurement; implementations should return them quickly, and must be thread-safe.
+ *
+ * @see FlowMetrics
+ * @see SimpleMeterRegistry
+ *
+ * @since 4.0.2
+ */
+public interface MeterRegistry {
+
+	/**
+	 * Returns the timer with the given name and tags.
+	 * @param name the meter name, one of the names defined by {@link FlowMetrics}
+	 * @param flowId the id of the flow measured, may be <code>null</code>
+	 * @param stateId the id of the state measured, may be <code>null</code>
+	 * @return the timer
+	 */
+	Timer timer(String name, String flowId, String stateId);
+
+	/**
+	 * Returns the distribution summary with the given name and tags.
+	 * @param name the meter name, one of the names defined by {@link FlowMetrics}
+	 * @param flowId the id of the flow measured, may be <code>null</code>
+	 * @param stateId the id of the state measured, may be <code>null</code>
+	 * @return the distribution summary
+	 */
+	DistributionSummary summary(String name, String flowId, String stateId);
+
+
+	/**
+	 * Records the duration of events.
+	 */
+	interface Timer {
+
+		/**
+		 * Record the duration of an event.
+		 * @param nanos the duration in nanoseconds
+		 */
+		void record(long nanos);
+	}
+
+
+	/**
+	 * Records the distribution of sizes, such as a number of bytes.
+	 */
+	interface DistributionSummary {
+
+		/**
+		 * Record a size.
+		 * @param amount the size
+		 */
+		void record(long amount);
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.metrics;
+
+import org.springframework.util.Assert;
+import org.springframework.webflow.core.collection.AttributeMap;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.definition.StateDefinition;
+import org.springframework.webflow.definition.TransitionDefinition;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.FlowExecutionListener;
+import org.springframework.webflow.execution.FlowSession;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.View;
+
+/**
+ * A flow execution listener timing flow execution requests, the actions executed by each state, and view rendering.
+ * Measurements are recorded with the {@link FlowMetrics#REQUEST}, {@link FlowMetrics#ACTION} and
+ * {@link FlowMetrics#RENDER} timers of a {@link MeterRegistry}.
+ * <p>
+ * Action time is measured between the listener callbacks surrounding actions: the time from entering a state to
+ * having entered it (entry actions), from having entered it to rendering a view, signaling an event or leaving it
+ * (actions of the state), and from executing a transition to entering the next state (transition and exit actions).
+ * Render time is measured from rendering a view to having rendered it, and thus includes render actions.
+ *
+ * @see org.springframework.webflow.config.FlowExecutorBuilder#setMeterRegistry(MeterRegistry)
+ *
+ * @since 4.0.2
+ */
+public class MetricsFlowExecutionListener implements FlowExecutionListener {
+
+	private static final String TIMINGS_ATTRIBUTE = MetricsFlowExecutionListener.class.getName() + ".timings";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Create a listener recording measurements with the given registry.
+	 * @param meterRegistry the meter registry
+	 */
+	public MetricsFlowExecutionListener(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "The MeterRegistry is required");
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Returns the meter registry measurements are recorded with.
+	 */
+	public MeterRegistry getMeterRegistry() {
+		return this.meterRegistry;
+	}
+
+	public void requestSubmitted(RequestContext context) {
+		RequestTimings timings = new RequestTimings();
+		timings.flowId = context.getFlowExecutionContext().getDefinition().getId();
+		timings.stateId = FlowMetrics.getCurrentStateId(context.getFlowExecutionContext());
+		timings.requestStart = System.nanoTime();
+		context.getAttributes().put(TIMINGS_ATTRIBUTE, timings);
+	}
+
+	public void requestProcessed(RequestContext context) {
+		RequestTimings timings = getTimings(context);
+		if (timings != null) {
+			long now = System.nanoTime();
+			timings.stopAction(now);
+			this.meterRegistry.timer(FlowMetrics.REQUEST, timings.flowId, timings.stateId).record(
+					now - timings.requestStart);
+			context.getAttributes().remove(TIMINGS_ATTRIBUTE);
+		}
+	}
+
+	public void sessionStarting(RequestContext context, FlowSession session, MutableAttributeMap<?> input) {
+		stopAction(context);
+	}
+
+	public void eventSignaled(RequestContext context, Event event) {
+		stopAction(context);
+	}
+
+	public void transitionExecuting(RequestContext context, TransitionDefinition transition) {
+		startAction(context, context.getCurrentState());
+	}
+
+	public void stateEntering(RequestContext context, StateDefinition state) {
+		stopAction(context);
+		startAction(context, state);
+	}
+
+	public void stateEntered(RequestContext context, StateDefinition previousState, StateDefinition state) {
+		stopAction(context);
+		startAction(context, state);
+	}
+
+	public void viewRendering(RequestContext context, View view, StateDefinition viewState) {
+		RequestTimings timings = getTimings(context);
+		if (timings != null) {
+			long now = System.nanoTime();
+			timings.stopAction(now);
+			timings.renderStart = now;
+		}
+	}
+
+	public void viewRendered(RequestContext context, View view, StateDefinition viewState) {
+		RequestTimings timings = getTimings(context);
+		if (timings != null && timings.renderStart != 0) {
+			this.meterRegistry.timer(FlowMetrics.RENDER, viewState.getOwner().getId(), viewState.getId()).record(
+					System.nanoTime() - timings.renderStart);
+			timings.renderStart = 0;
+		}
+	}
+
+	public void paused(RequestContext context) {
+		stopAction(context);
+	}
+
+	public void sessionEnding(RequestContext context, FlowSession session, String outcome,
+			MutableAttributeMap<?> output) {
+		stopAction(context);
+	}
+
+	public void sessionEnded(RequestContext context, FlowSession session, String outcome, AttributeMap<?> output) {
+		stopAction(context);
+	}
+
+	private void startAction(RequestContext context, StateDefinition state) {
+		RequestTimings timings = getTimings(context);
+		if (timings != null && state != null) {
+			timings.actionState = state;
+			timings.actionStart = System.nanoTime();
+		}
+	}
+
+	private void stopAction(RequestContext context) {
+		RequestTimings timings = getTimings(context);
+		if (timings != null) {
+			timings.stopAction(System.nanoTime());
+		}
+	}
+
+	private RequestTimings getTimings(RequestContext context) {
+		return (RequestTimings) context.getAttributes().get(TIMINGS_ATTRIBUTE);
+	}
+
+
+	/**
+	 * The timings of the current request, kept as a request context attribute.
+	 */
+	private class RequestTimings {
+
+		private String flowId;
+
+		private String stateId;
+
+		private long requestStart;
+
+		private StateDefinition actionState;
+
+		private long actionStart;
+
+		private long renderStart;
+
+		public void stopAction(long now) {
+			if (this.actionState != null) {
+				meterRegistry.timer(FlowMetrics.ACTION, this.actionState.getOwner().getId(),
+						this.actionState.getId()).record(now - this.actionStart);
+				this.actionState = null;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.metrics;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MeterRegistry} keeping measurements in memory, for inspection by tests or by a management endpoint. Each
+ * meter keeps the count, total and maximum of the values it recorded, and a histogram of these values with buckets
+ * bounded by powers of two.
+ *
+ * @since 4.0.2
+ */
+public class SimpleMeterRegistry implements MeterRegistry {
+
+	private final Map<MeterId, Meter> meters = new ConcurrentHashMap<>();
+
+	public Timer timer(String name, String flowId, String stateId) {
+		return getMeter(name, flowId, stateId);
+	}
+
+	public DistributionSummary summary(String name, String flowId, String stateId) {
+		return getMeter(name, flowId, stateId);
+	}
+
+	/**
+	 * Returns the meter with the given name and tags, or <code>null</code> if it recorded nothing yet.
+	 * @param name the meter name
+	 * @param flowId the flow id tag
+	 * @param stateId the state id tag
+	 */
+	public Meter findMeter(String name, String flowId, String stateId) {
+		return this.meters.get(new MeterId(name, flowId, stateId));
+	}
+
+	/**
+	 * Returns all meters, indexed by their id.
+	 */
+	public Map<MeterId, Meter> getMeters() {
+		return Map.copyOf(this.meters);
+	}
+
+	/**
+	 * Removes all meters.
+	 */
+	public void clear() {
+		this.meters.clear();
+	}
+
+	private Meter getMeter(String name, String flowId, String stateId) {
+		return this.meters.computeIfAbsent(new MeterId(name, flowId, stateId), id -> new Meter());
+	}
+
+
+	/**
+	 * Identifies a meter by name and tags.
+	 */
+	public static final class MeterId {
+
+		private final String name;
+
+		private final String flowId;
+
+		private final String stateId;
+
+		public MeterId(String name, String flowId, String stateId) {
+			this.name = name;
+			this.flowId = flowId;
+			this.stateId = stateId;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getFlowId() {
+			return this.flowId;
+		}
+
+		public String getStateId() {
+			return this.stateId;
+		}
+
+		public boolean equals(Object o) {
+			if (!(o instanceof MeterId other)) {
+				return false;
+			}
+			return this.name.equals(other.name) && Objects.equals(this.flowId, other.flowId)
+					&& Objects.equals(this.stateId, other.stateId);
+		}
+
+		public int hashCode() {
+			return Objects.hash(this.name, this.flowId, this.stateId);
+		}
+
+		public String toString() {
+			return this.name + "[flow=" + this.flowId + ", state=" + this.stateId + "]";
+		}
+	}
+
+
+	/**
+	 * A meter keeping its measurements in memory, both as a timer recording nanoseconds and as a distribution summary.
+	 */
+	public static class Meter implements Timer, DistributionSummary {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder total = new LongAdder();
+
+		private final AtomicLong max = new AtomicLong();
+
+		private final AtomicLongArray histogram = new AtomicLongArray(Long.SIZE);
+
+		public void record(long value) {
+			long amount = Math.max(value, 0);
+			this.count.increment();
+			this.total.add(amount);
+			this.max.accumulateAndGet(amount, Math::max);
+			this.histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(amount));
+		}
+
+		/**
+		 * Returns the number of values recorded.
+		 */
+		public long getCount() {
+			return this.count.sum();
+		}
+
+		/**
+		 * Returns the sum of the values recorded.
+		 */
+		public long getTotal() {
+			return this.total.sum();
+		}
+
+		/**
+		 * Returns the largest value recorded.
+		 */
+		public long getMax() {
+			return this.max.get();
+		}
+
+		/**
+		 * Returns the mean of the values recorded, or 0 if none were.
+		 */
+		public double getMean() {
+			long count = getCount();
+			return (count > 0 ? (double) getTotal() / count : 0);
+		}
+
+		/**
+		 * Returns an upper bound of the given percentile of the values recorded: the upper bound of the histogram
+		 * bucket it falls in.
+		 * @param percentile the percentile, between 0 and 1
+		 */
+		public long getPercentileUpperBound(double percentile) {
+			long count = getCount();
+			long rank = (long) Math.ceil(percentile * count);
+			long seen = 0;
+			for (int i = 0; i < this.histogram.length(); i++) {
+				seen += this.histogram.get(i);
+				if (seen >= rank && seen > 0) {
+					return (i == 0 ? 0 : Math.min((1L << i) - 1, getMax()));
+				}
+			}
+			return getMax();
+		}
+
+		/**
+		 * Returns the number of values recorded in each histogram bucket: bucket 0 counts zero values, and bucket
+		 * <code>i</code> counts values from 2<sup>i-1</sup> to 2<sup>i</sup> - 1.
+		 */
+		public long[] getHistogram() {
+			long[] counts = new long[this.histogram.length()];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = this.histogram.get(i);
+			}
+			return counts;
+		}
+
+		public String toString() {
+			return "count=" + getCount() + ", total=" + getTotal() + ", max=" + getMax();
+		}
+	}
+
+}
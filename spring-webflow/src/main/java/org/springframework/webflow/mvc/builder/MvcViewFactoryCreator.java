@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,6 +32,7 @@ import org.springframework.webflow.engine.builder.BinderConfiguration;
 import org.springframework.webflow.engine.builder.ViewFactoryCreator;
 import org.springframework.webflow.execution.ViewFactory;
 import org.springframework.webflow.mvc.servlet.ServletMvcViewFactory;
+import org.springframework.webflow.mvc.view.AbstractMvcView;
 import org.springframework.webflow.mvc.view.AbstractMvcViewFactory;
 import org.springframework.webflow.mvc.view.FlowViewResolver;
 import org.springframework.webflow.validation.ValidationHintResolver;
@@ -62,6 +63,8 @@ public class MvcViewFactoryCreator implements ViewFactoryCreator {
 
 	private String fieldMarkerPrefix;
 
+	private boolean indexedCollectionBinding;
+
 	private MessageCodesResolver messageCodesResolver = new WebFlowMessageCodesResolver();
 
 	/**
@@ -117,6 +120,18 @@ public class MvcViewFactoryCreator implements ViewFactoryCreator {
 		this.fieldMarkerPrefix = fieldMarkerPrefix;
 	}
 
+	/**
+	 * Sets whether request parameters of indexed collection elements, such as <code>items[12].quantity</code>, should
+	 * be bound row by row by views without binding configuration. This speeds up binding forms with many rows, at the
+	 * cost of retaining only binding errors in the mapping results. Default is false.
+	 * @param indexedCollectionBinding the indexed collection binding flag
+	 * @since 4.0.2
+	 * @see AbstractMvcView#setIndexedCollectionBinding(boolean)
+	 */
+	public void setIndexedCollectionBinding(boolean indexedCollectionBinding) {
+		this.indexedCollectionBinding = indexedCollectionBinding;
+	}
+
 	/**
 	 * Sets whether to use data binding with Spring's {@link BeanWrapper} should be enabled. Set to 'true' to enable.
 	 * 'false', disabled, is the default. With this enabled, the same binding system used by Spring MVC 2.x is also used
@@ -170,6 +185,7 @@ public class MvcViewFactoryCreator implements ViewFactoryCreator {
 		if (StringUtils.hasText(fieldMarkerPrefix)) {
 			viewFactory.setFieldMarkerPrefix(fieldMarkerPrefix);
 		}
+		viewFactory.setIndexedCollectionBinding(indexedCollectionBinding);
 		viewFactory.setValidator(validator);
 		viewFactory.setValidationHintResolver(validationHintResolver);
 		return viewFactory;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2016 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,8 @@ package org.springframework.webflow.mvc.servlet;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -30,6 +32,10 @@ import org.springframework.webflow.context.servlet.DefaultAjaxHandler;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.FlashMapManager;
 import org.springframework.web.servlet.HandlerAdapter;
@@ -47,6 +53,7 @@ import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.execution.FlowExecutionOutcome;
 import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.executor.AsyncFlowExecutor;
 import org.springframework.webflow.executor.FlowExecutionResult;
 import org.springframework.webflow.executor.FlowExecutor;
 
@@ -60,6 +67,13 @@ import org.springframework.webflow.executor.FlowExecutor;
  */
 public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAdapter, InitializingBean {
 
+	/**
+	 * The name of the response header carrying the flow execution URL of a view rendered in the response to a POST
+	 * request in {@link #setRenderOnPost(boolean) render on post} mode.
+	 * @since 4.0.2
+	 */
+	public static final String FLOW_EXECUTION_URL_HEADER = "Spring-Flow-Execution-URL";
+
 	private static final Log logger = LogFactory.getLog(FlowHandlerAdapter.class);
 
 	private static final String REFERER_FLOW_EXECUTION_ATTRIBUTE = "refererExecution";
@@ -93,6 +107,12 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 
 	private boolean saveOutputToFlashScopeOnRedirect;
 
+	private boolean asyncExecution;
+
+	private Long asyncTimeout;
+
+	private boolean renderOnPost;
+
 	/**
 	 * Creates a new flow handler adapter.
 	 * @see #setFlowExecutor(FlowExecutor)
@@ -228,6 +248,75 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 		return this.saveOutputToFlashScopeOnRedirect;
 	}
 
+	/**
+	 * Set whether flow executions should be launched and resumed asynchronously, using Servlet asynchronous request
+	 * processing. This releases the container thread while the flow execution processes the request on the executor
+	 * of the configured {@link AsyncFlowExecutor}. Requests that do not support asynchronous processing are still
+	 * handled synchronously. The locale context, the request attributes and the Spring Security context of the
+	 * request thread are propagated to the thread executing the flow.
+	 * <p>
+	 * Views are rendered by the thread executing the flow, so they must write to the response directly rather than
+	 * forward to another resource: rendering a forward-based view such as an
+	 * {@link org.springframework.web.servlet.view.InternalResourceView InternalResourceView} (JSP) fails with an
+	 * {@link IllegalStateException}. Default is false.
+	 * @param asyncExecution whether to process flow requests asynchronously
+	 * @since 4.0.2
+	 * @see AsyncFlowExecutor
+	 */
+	public void setAsyncExecution(boolean asyncExecution) {
+		this.asyncExecution = asyncExecution;
+	}
+
+	/**
+	 * Whether flow executions are launched and resumed asynchronously.
+	 * @since 4.0.2
+	 */
+	public boolean getAsyncExecution() {
+		return this.asyncExecution;
+	}
+
+	/**
+	 * Set the timeout in milliseconds of asynchronously processed flow requests. If not set, the default timeout of
+	 * the Spring MVC asynchronous request support applies.
+	 * @param asyncTimeout the timeout in milliseconds
+	 * @since 4.0.2
+	 */
+	public void setAsyncTimeout(Long asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	/**
+	 * Return the timeout in milliseconds of asynchronously processed flow requests, may be null.
+	 * @since 4.0.2
+	 */
+	public Long getAsyncTimeout() {
+		return this.asyncTimeout;
+	}
+
+	/**
+	 * Set whether the view of a flow execution pausing while processing a POST request should be rendered directly in
+	 * the response, rather than after the redirect otherwise issued to the flow execution URL. This saves a round trip
+	 * per form submission. Ajax requests are not affected.
+	 * <p>
+	 * Since the browser location is not updated by the response, views should replace the current history entry with
+	 * the flow execution URL, so that refreshing the page does not submit the form again. The URL is exposed as the
+	 * <code>flowExecutionUrl</code> model attribute and, for Spring MVC views, as the {@link #FLOW_EXECUTION_URL_HEADER}
+	 * response header for scripts submitting the form. Default is false.
+	 * @param renderOnPost whether to render paused views in the response to POST requests
+	 * @since 4.0.2
+	 */
+	public void setRenderOnPost(boolean renderOnPost) {
+		this.renderOnPost = renderOnPost;
+	}
+
+	/**
+	 * Whether paused views are rendered in the response to POST requests.
+	 * @since 4.0.2
+	 */
+	public boolean getRenderOnPost() {
+		return this.renderOnPost;
+	}
+
 	public void afterPropertiesSet() throws Exception {
 		Assert.notNull(flowExecutor, "The FlowExecutor to execute flows is required");
 		if (flowUrlHandler == null) {
@@ -236,6 +325,10 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 		if (ajaxHandler == null) {
 			ajaxHandler = new DefaultAjaxHandler();
 		}
+		if (asyncExecution) {
+			Assert.isInstanceOf(AsyncFlowExecutor.class, flowExecutor,
+					"Asynchronous execution requires an AsyncFlowExecutor");
+		}
 	}
 
 	public boolean supports(Object handler) {
@@ -245,10 +338,23 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 	public ModelAndView handle(HttpServletRequest request, HttpServletResponse response, Object handler)
 			throws Exception {
 		FlowHandler flowHandler = (FlowHandler) handler;
+		if (asyncExecution && request.isAsyncSupported()) {
+			WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+			if (asyncManager.hasConcurrentResult()) {
+				handleAsyncResult(asyncManager, request, response, flowHandler);
+				return null;
+			}
+		}
 		checkRequest(request);
 		prepareResponse(response);
 		String flowExecutionKey = flowUrlHandler.getFlowExecutionKey(request);
-		if (flowExecutionKey != null) {
+		if (asyncExecution && request.isAsyncSupported()) {
+			try {
+				startAsyncExecution(flowExecutionKey, request, response, flowHandler);
+			} catch (FlowException e) {
+				handleFlowException(e, request, response, flowHandler);
+			}
+		} else if (flowExecutionKey != null) {
 			try {
 				ServletExternalContext context = createServletExternalContext(request, response);
 				FlowExecutionResult result = flowExecutor.resumeExecution(flowExecutionKey, context);
@@ -285,6 +391,9 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 			HttpServletResponse response) {
 		ServletExternalContext context = new MvcExternalContext(getServletContext(), request, response, flowUrlHandler);
 		context.setAjaxRequest(ajaxHandler.isAjaxRequest(request, response));
+		if (renderOnPost && !context.isAjaxRequest()) {
+			context.setInlineRenderRequest("POST".equals(request.getMethod()));
+		}
 		return context;
 	}
 
@@ -430,6 +539,56 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 
 	// internal helpers
 
+	private void startAsyncExecution(String flowExecutionKey, HttpServletRequest request,
+			HttpServletResponse response, FlowHandler handler) throws Exception {
+		AsyncFlowExecutor asyncFlowExecutor = (AsyncFlowExecutor) flowExecutor;
+		String flowId = null;
+		MutableAttributeMap<Object> input = null;
+		if (flowExecutionKey == null) {
+			flowId = getFlowId(handler, request);
+			input = getInputMap(handler, request);
+		}
+		WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+		AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, response);
+		asyncManager.setAsyncWebRequest(asyncWebRequest);
+		// render through the response guarded by the async request, which rejects writes once it has completed
+		HttpServletResponse asyncResponse = asyncWebRequest.getNativeResponse(HttpServletResponse.class);
+		ServletExternalContext context = createServletExternalContext(request,
+				(asyncResponse != null ? asyncResponse : response));
+		DeferredResult<Object> deferredResult = new DeferredResult<>(asyncTimeout);
+		// start asynchronous processing before the flow execution can render to the response
+		asyncManager.startDeferredResultProcessing(deferredResult);
+		CompletionStage<FlowExecutionResult> result = (flowExecutionKey != null ?
+				asyncFlowExecutor.resumeExecutionAsync(flowExecutionKey, context) :
+				asyncFlowExecutor.launchExecutionAsync(flowId, input, context));
+		result.whenComplete((executionResult, ex) -> {
+			if (ex != null) {
+				deferredResult.setErrorResult(ex instanceof CompletionException && ex.getCause() != null ?
+						ex.getCause() : ex);
+			} else {
+				deferredResult.setResult(new AsyncFlowExecutionResult(executionResult, context));
+			}
+		});
+	}
+
+	private void handleAsyncResult(WebAsyncManager asyncManager, HttpServletRequest request,
+			HttpServletResponse response, FlowHandler handler) throws Exception {
+		Object result = asyncManager.getConcurrentResult();
+		asyncManager.clearConcurrentResult();
+		if (result instanceof AsyncFlowExecutionResult) {
+			AsyncFlowExecutionResult asyncResult = (AsyncFlowExecutionResult) result;
+			handleFlowExecutionResult(asyncResult.result, asyncResult.context, request, response, handler);
+		} else if (result instanceof FlowException) {
+			handleFlowException((FlowException) result, request, response, handler);
+		} else if (result instanceof Exception) {
+			throw (Exception) result;
+		} else if (result instanceof Error) {
+			throw (Error) result;
+		} else {
+			throw new IllegalStateException("Unexpected asynchronous flow execution result " + result);
+		}
+	}
+
 	private void handleFlowExecutionResult(FlowExecutionResult result, ServletExternalContext context,
 			HttpServletRequest request, HttpServletResponse response, FlowHandler handler) throws IOException {
 		if (result.isPaused()) {
@@ -609,4 +768,20 @@ public class FlowHandlerAdapter extends WebContentGenerator implements HandlerAd
 			return defaultCreateFlowExecutionInputMap(request);
 		}
 	}
+
+	/**
+	 * The result of an asynchronously processed flow request, handled when the request is dispatched again.
+	 */
+	private static class AsyncFlowExecutionResult {
+
+		private final FlowExecutionResult result;
+
+		private final ServletExternalContext context;
+
+		AsyncFlowExecutionResult(FlowExecutionResult result, ServletExternalContext context) {
+			this.result = result;
+			this.context = context;
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.core.convert.ConversionService;
+import org.springframework.web.servlet.view.InternalResourceView;
 import org.springframework.webflow.context.ExternalContext;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.mvc.view.AbstractMvcView;
@@ -46,12 +47,21 @@ public class ServletMvcView extends AbstractMvcView {
 		ExternalContext externalContext = context.getExternalContext();
 		HttpServletRequest request = (HttpServletRequest) externalContext.getNativeRequest();
 		HttpServletResponse response = (HttpServletResponse) externalContext.getNativeResponse();
+		if (request.isAsyncStarted() && getView() instanceof InternalResourceView) {
+			// forwards and includes must be performed by a container thread
+			throw new IllegalStateException("Cannot render view [" + getView() + "] while the flow request is "
+					+ "processed asynchronously: forward-based views cannot be rendered outside of a container thread; "
+					+ "either disable asynchronous execution or use a view writing to the response directly");
+		}
 		request.setAttribute(org.springframework.web.servlet.support.RequestContext.WEB_APPLICATION_CONTEXT_ATTRIBUTE,
 				context.getActiveFlow().getApplicationContext());
 		// spring:eval tag
 		if (getConversionService() != null) {
 			request.setAttribute(ConversionService.class.getName(), getConversionService().getDelegateConversionService());
 		}
+		if (externalContext.isInlineRenderRequest() && context.getFlowExecutionContext().getKey() != null) {
+			response.setHeader(FlowHandlerAdapter.FLOW_EXECUTION_URL_HEADER, context.getFlowExecutionUrl());
+		}
 		getView().render(model, request, response);
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyAccessorUtils;
 import org.springframework.binding.convert.ConversionExecutor;
 import org.springframework.binding.convert.ConversionService;
@@ -80,6 +81,8 @@ public abstract class AbstractMvcView implements View {
 
 	private static final MappingResultsCriteria MAPPING_ERROR = new MappingError();
 
+	private static final Object NO_ROW = new Object();
+
 	private org.springframework.web.servlet.View view;
 
 	private RequestContext requestContext;
@@ -96,6 +99,8 @@ public abstract class AbstractMvcView implements View {
 
 	private String fieldMarkerPrefix = "_";
 
+	private boolean indexedCollectionBinding;
+
 	private String eventIdParameterName = "_eventId";
 
 	private String eventId;
@@ -181,6 +186,19 @@ public abstract class AbstractMvcView implements View {
 		this.fieldMarkerPrefix = fieldMarkerPrefix;
 	}
 
+	/**
+	 * Sets whether request parameters of indexed collection elements, such as <code>items[12].quantity</code>, should
+	 * be bound row by row when no binding configuration is specified. Each element is then resolved once for all of
+	 * its parameters, and the expression of each element property is parsed and checked once for all elements. Only
+	 * binding errors are retained in the mapping results, so {@link org.springframework.binding.validation.ValidationContext#getUserValue(String)}
+	 * only returns values that could not be bound. Useful for grid-style forms with many rows. Default is false.
+	 * @param indexedCollectionBinding the indexed collection binding flag
+	 * @since 4.0.2
+	 */
+	public void setIndexedCollectionBinding(boolean indexedCollectionBinding) {
+		this.indexedCollectionBinding = indexedCollectionBinding;
+	}
+
 	/**
 	 * Sets the name of the request parameter to use to lookup user events signaled by this view. If not specified, the
 	 * default is <code>_eventId</code>
@@ -192,7 +210,7 @@ public abstract class AbstractMvcView implements View {
 
 	public void render() throws IOException {
 		Map<String, Object> model = new HashMap<>();
-		model.putAll(flowScopes());
+		exposeFlowScopes(model);
 		exposeBindingModel(model);
 		model.put("flowRequestContext", requestContext);
 		FlowExecutionKey key = requestContext.getFlowExecutionContext().getKey();
@@ -397,6 +415,9 @@ public abstract class AbstractMvcView implements View {
 		ParameterMap requestParameters = requestContext.getRequestParameters();
 		if (binderConfiguration != null) {
 			addModelBindings(mapper, requestParameters.asMap().keySet(), model);
+		} else if (indexedCollectionBinding) {
+			mapper.setErrorResultsOnly(true);
+			addIndexedCollectionMappings(mapper, requestParameters.asMap().keySet(), model);
 		} else {
 			addDefaultMappings(mapper, requestParameters.asMap().keySet(), model);
 		}
@@ -484,6 +505,63 @@ public abstract class AbstractMvcView implements View {
 		}
 	}
 
+	/**
+	 * Add a {@link DefaultMapping} instance for all incoming request parameters except those having a special field
+	 * marker prefix, as {@link #addDefaultMappings(DefaultMapper, Set, Object)} does. Parameters of indexed collection
+	 * elements, such as <code>items[12].quantity</code>, are mapped to the property of the element, which is resolved
+	 * once for all of its parameters.
+	 *
+	 * @param mapper the mapper to add mappings to
+	 * @param parameterNames the request parameter names
+	 * @param model the model
+	 * @since 4.0.2
+	 */
+	protected void addIndexedCollectionMappings(DefaultMapper mapper, Set<String> parameterNames, Object model) {
+		BeanWrapperImpl modelWrapper = new BeanWrapperImpl(model);
+		Map<String, Object> rows = new HashMap<>();
+		Map<String, Expression> rowPropertyExpressions = new HashMap<>();
+		Map<String, Boolean> validRowProperties = new HashMap<>();
+		ExpressionParser parser = getDefaultMappingExpressionParser();
+		for (String parameterName : parameterNames) {
+			if (fieldMarkerPrefix != null && parameterName.startsWith(fieldMarkerPrefix)) {
+				String field = parameterName.substring(fieldMarkerPrefix.length());
+				if (!parameterNames.contains(field)) {
+					addEmptyValueMapping(mapper, field, model);
+				}
+				continue;
+			}
+			int indexStart = parameterName.indexOf('[');
+			int indexEnd = (indexStart > 0 ? parameterName.indexOf(']', indexStart) : -1);
+			if (indexEnd == -1 || indexEnd + 2 >= parameterName.length() || parameterName.charAt(indexEnd + 1) != '.') {
+				addDefaultMapping(mapper, parameterName, model);
+				continue;
+			}
+			Object row = rows.computeIfAbsent(parameterName.substring(0, indexEnd + 1),
+					rowPath -> getRow(modelWrapper, rowPath));
+			if (row == NO_ROW) {
+				addDefaultMapping(mapper, parameterName, model);
+				continue;
+			}
+			String property = parameterName.substring(indexEnd + 2);
+			if (!(parser instanceof BeanWrapperExpressionParser)) {
+				// the check only depends on the collection property and the element property, not on the index
+				String rowProperty = parameterName.substring(0, indexStart) + "." + property;
+				if (!validRowProperties.computeIfAbsent(rowProperty, key -> checkModelProperty(parameterName, model))) {
+					continue;
+				}
+			}
+			Expression propertyExpression = rowPropertyExpressions.computeIfAbsent(
+					row.getClass().getName() + "." + property,
+					key -> parser.parseExpression(property, new SimpleParserContext(row.getClass())));
+			DefaultMapping mapping = new DefaultMapping(new RequestParameterExpression(parameterName),
+					new RowPropertyExpression(parameterName, row, propertyExpression));
+			if (logger.isDebugEnabled()) {
+				logger.debug("Adding indexed collection mapping for parameter '" + parameterName + "'");
+			}
+			mapper.addMapping(mapping);
+		}
+	}
+
 	/**
 	 * Adds a special {@link DefaultMapping} that results in setting the target field on the model to an empty value
 	 * (typically null).
@@ -528,6 +606,15 @@ public abstract class AbstractMvcView implements View {
 		}
 	}
 
+	private Object getRow(BeanWrapperImpl modelWrapper, String rowPath) {
+		try {
+			Object row = modelWrapper.getPropertyValue(rowPath);
+			return (row != null ? row : NO_ROW);
+		} catch (BeansException e) {
+			return NO_ROW;
+		}
+	}
+
 	private ExpressionParser getDefaultMappingExpressionParser() {
 		if (this.defaultMappingExpressionParser == null) {
 			this.defaultMappingExpressionParser = (this.expressionParser instanceof ELExpressionParser ?
@@ -607,15 +694,15 @@ public abstract class AbstractMvcView implements View {
 
 	// internal helpers
 
-	private Map<String, Object> flowScopes() {
+	private void exposeFlowScopes(Map<String, Object> model) {
+		// narrower scopes take precedence; copied one after another to avoid merging them into intermediate maps
+		model.putAll(requestContext.getConversationScope().asMap());
+		model.putAll(requestContext.getFlowScope().asMap());
 		if (requestContext.getCurrentState().isViewState()) {
-			return requestContext.getConversationScope().union(requestContext.getFlowScope())
-					.union(requestContext.getViewScope()).union(requestContext.getFlashScope())
-					.union(requestContext.getRequestScope()).asMap();
-		} else {
-			return requestContext.getConversationScope().union(requestContext.getFlowScope())
-					.union(requestContext.getFlashScope()).union(requestContext.getRequestScope()).asMap();
+			model.putAll(requestContext.getViewScope().asMap());
 		}
+		model.putAll(requestContext.getFlashScope().asMap());
+		model.putAll(requestContext.getRequestScope().asMap());
 	}
 
 	private void exposeBindingModel(Map<String, Object> model) {
@@ -713,6 +800,45 @@ public abstract class AbstractMvcView implements View {
 		}
 	}
 
+	/**
+	 * Targets a property of an indexed collection element resolved upfront, while exposing the full property path of
+	 * the request parameter as expression string for binding errors.
+	 */
+	private static class RowPropertyExpression implements Expression {
+
+		private String path;
+
+		private Object row;
+
+		private Expression propertyExpression;
+
+		public RowPropertyExpression(String path, Object row, Expression propertyExpression) {
+			this.path = path;
+			this.row = row;
+			this.propertyExpression = propertyExpression;
+		}
+
+		public String getExpressionString() {
+			return path;
+		}
+
+		public Object getValue(Object context) throws EvaluationException {
+			return propertyExpression.getValue(row);
+		}
+
+		public Class<?> getValueType(Object context) {
+			return propertyExpression.getValueType(row);
+		}
+
+		public void setValue(Object context, Object value) throws EvaluationException {
+			propertyExpression.setValue(row, value);
+		}
+
+		public String toString() {
+			return path;
+		}
+	}
+
 	private static class RequestParameterExpression implements Expression {
 
 		private String parameterName;
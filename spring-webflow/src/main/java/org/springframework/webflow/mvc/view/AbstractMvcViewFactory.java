@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,8 @@ public abstract class AbstractMvcViewFactory implements ViewFactory {
 
 	private String fieldMarkerPrefix;
 
+	private boolean indexedCollectionBinding;
+
 	private MessageCodesResolver messageCodesResolver;
 
 	/**
@@ -81,6 +83,10 @@ public abstract class AbstractMvcViewFactory implements ViewFactory {
 		this.fieldMarkerPrefix = fieldMarkerPrefix;
 	}
 
+	public void setIndexedCollectionBinding(boolean indexedCollectionBinding) {
+		this.indexedCollectionBinding = indexedCollectionBinding;
+	}
+
 	public void setValidator(Validator validator) {
 		this.validator = validator;
 	}
@@ -106,6 +112,7 @@ public abstract class AbstractMvcViewFactory implements ViewFactory {
 		if (StringUtils.hasText(fieldMarkerPrefix)) {
 			mvcView.setFieldMarkerPrefix(fieldMarkerPrefix);
 		}
+		mvcView.setIndexedCollectionBinding(indexedCollectionBinding);
 		ViewActionStateHolder stateHolder = (ViewActionStateHolder) context.getFlashScope().get(
 				View.USER_EVENT_STATE_ATTRIBUTE);
 		if (stateHolder != null) {
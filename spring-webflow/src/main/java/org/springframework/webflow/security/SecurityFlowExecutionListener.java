@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2024 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package org.springframework.webflow.security;
 
 import java.util.function.Function;
 
+import org.springframework.binding.collection.ConcurrentCache;
 import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -30,14 +31,17 @@ import org.springframework.webflow.execution.RequestContext;
 
 /**
  * Flow security integration with Spring Security
+ * <p>
+ * The {@link AuthorizationManager} of a {@link SecurityRule} is determined on the first decision based on the rule, and
+ * then reused for all subsequent decisions based on the same rule instance.
  * 
  * @author Scott Andrews
  * @author Rossen Stoyanchev
  */
 public class SecurityFlowExecutionListener implements FlowExecutionListener {
 
-	private Function<SecurityRule, AuthorizationManager<Object>> authorizationManagerInitializer =
-			SecurityRule::getAuthorizationManager;
+	private ConcurrentCache<SecurityRule, AuthorizationManager<Object>> authorizationManagers =
+			createAuthorizationManagerCache(SecurityRule::getAuthorizationManager);
 
 	/**
 	 * Provide a function that determines the {@link AuthorizationManager} to use
@@ -48,7 +52,7 @@ public class SecurityFlowExecutionListener implements FlowExecutionListener {
 	 */
 	public void setAuthorizationManagerInitializer(Function<SecurityRule, AuthorizationManager<Object>> initializer) {
 		Assert.notNull(initializer, "'initializer' is required");
-		this.authorizationManagerInitializer = initializer;
+		this.authorizationManagers = createAuthorizationManagerCache(initializer);
 	}
 
 	public void sessionCreating(RequestContext context, FlowDefinition definition) {
@@ -80,8 +84,14 @@ public class SecurityFlowExecutionListener implements FlowExecutionListener {
 	 */
 	protected void decide(SecurityRule rule, Object object) {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-		AuthorizationManager<Object> manager = this.authorizationManagerInitializer.apply(rule);
+		AuthorizationManager<Object> manager = this.authorizationManagers.get(rule);
 		manager.verify(() -> authentication, object);
 	}
 
+	private static ConcurrentCache<SecurityRule, AuthorizationManager<Object>> createAuthorizationManagerCache(
+			Function<SecurityRule, AuthorizationManager<Object>> initializer) {
+		// rules do not override equals, and are only referenced weakly to not outlive their flow definition
+		return new ConcurrentCache<>(initializer, 0, true);
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2020 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -66,6 +66,12 @@ public class MockExternalContext implements ExternalContext {
 
 	private boolean ajaxRequest;
 
+	private boolean inlineRenderRequest;
+
+	private String ifNoneMatch;
+
+	private String etag;
+
 	private Boolean responseAllowed;
 
 	private boolean responseComplete;
@@ -147,6 +153,15 @@ public class MockExternalContext implements ExternalContext {
 		return ajaxRequest;
 	}
 
+	public boolean isInlineRenderRequest() {
+		return inlineRenderRequest;
+	}
+
+	public boolean checkNotModified(String etag) {
+		this.etag = etag;
+		return etag.equals(ifNoneMatch);
+	}
+
 	public String getFlowExecutionUrl(String flowId, String flowExecutionKey) {
 		return "/" + flowId + "?execution=" + flowExecutionKey;
 	}
@@ -365,6 +380,23 @@ public class MockExternalContext implements ExternalContext {
 		this.ajaxRequest = ajaxRequest;
 	}
 
+	/**
+	 * Set whether paused views should be rendered in the response to this request instead of after a redirect.
+	 * @param inlineRenderRequest true or false
+	 */
+	public void setInlineRenderRequest(boolean inlineRenderRequest) {
+		this.inlineRenderRequest = inlineRenderRequest;
+	}
+
+	/**
+	 * Set the entity tag of the response cached by the client, which {@link #checkNotModified(String)} compares to
+	 * the entity tag of the current version of the response.
+	 * @param ifNoneMatch the cached entity tag
+	 */
+	public void setIfNoneMatch(String ifNoneMatch) {
+		this.ifNoneMatch = ifNoneMatch;
+	}
+
 	/**
 	 * Set the response allows flag to a value for testing.
 	 * @param responseAllowed true or false
@@ -432,6 +464,14 @@ public class MockExternalContext implements ExternalContext {
 		return redirectInPopup;
 	}
 
+	/**
+	 * Returns the entity tag of the current version of the response. Only set if {@link #checkNotModified(String)}
+	 * has been called.
+	 */
+	public String getETag() {
+		return etag;
+	}
+
 	// internal helpers
 
 	private void assertResponseAllowed() throws IllegalStateException {
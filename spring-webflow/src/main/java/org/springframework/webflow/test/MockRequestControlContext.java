@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -121,6 +121,9 @@ public class MockRequestControlContext extends MockRequestContext implements Req
 		if (!getExternalContext().isResponseAllowed()) {
 			return true;
 		}
+		if (getExternalContext().isInlineRenderRequest()) {
+			return false;
+		}
 		Boolean redirectOnPause = getMockFlowExecutionContext().getAttributes().getBoolean("alwaysRedirectOnPause");
 		return redirectOnPause == null ? false : redirectOnPause;
 	}
@@ -129,6 +132,9 @@ public class MockRequestControlContext extends MockRequestContext implements Req
 		if (!getExternalContext().isResponseAllowed()) {
 			return true;
 		}
+		if (getExternalContext().isInlineRenderRequest()) {
+			return false;
+		}
 		Boolean redirectInSameState = getMockFlowExecutionContext().getAttributes().getBoolean("redirectInSameState");
 		if (redirectInSameState != null) {
 			return redirectInSameState;
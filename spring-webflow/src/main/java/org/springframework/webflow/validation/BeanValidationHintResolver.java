@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2012 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@ package org.springframework.webflow.validation;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -25,12 +28,24 @@ import org.springframework.webflow.execution.FlowExecutionException;
 /**
  * A JSR-303 (Bean Validation) implementation of {@link ValidationHintResolver}
  * that resolves String-based hints to a {@code Class<?>} array.
+ * <p>
+ * Hints are resolved once per model class and cached, including the hints
+ * that could not be resolved, which are handed to
+ * {@link #handleUnresolvedHint(Object, String, String, String)} each time.
  *
  * @author Rossen Stoyanchev
  * @since 2.4
  */
 public class BeanValidationHintResolver implements ValidationHintResolver {
 
+	private static final ClassValue<Map<String, Optional<Class<?>>>> RESOLVED_HINTS =
+			new ClassValue<Map<String, Optional<Class<?>>>>() {
+				protected Map<String, Optional<Class<?>>> computeValue(Class<?> type) {
+					return new ConcurrentHashMap<>();
+				}
+			};
+
+
 	/**
 	 * Resolve each hint as a fully qualified class name or the name of an inner
 	 * {@code Class} in the model type or the model or its parent types.
@@ -57,10 +72,9 @@ public class BeanValidationHintResolver implements ValidationHintResolver {
 			if (hint.equalsIgnoreCase("Default")) {
 				hint = "jakarta.validation.groups.Default";
 			}
-			Class<?> resolvedHint = toClass(hint);
-			if ((resolvedHint == null) && (model != null)) {
-				resolvedHint = findInnerClass(model.getClass(), StringUtils.capitalize(hint));
-			}
+			Class<?> modelClass = (model != null ? model.getClass() : Object.class);
+			Class<?> resolvedHint = RESOLVED_HINTS.get(modelClass)
+					.computeIfAbsent(hint, key -> Optional.ofNullable(resolveHint(modelClass, key))).orElse(null);
 			if (resolvedHint == null) {
 				resolvedHint = handleUnresolvedHint(model, flowId, stateId, hint);
 			}
@@ -72,7 +86,15 @@ public class BeanValidationHintResolver implements ValidationHintResolver {
 		return result.toArray(new Class<?>[result.size()]);
 	}
 
-	private Class<?> toClass(String hint) {
+	private static Class<?> resolveHint(Class<?> modelClass, String hint) {
+		Class<?> resolvedHint = toClass(hint);
+		if (resolvedHint == null) {
+			resolvedHint = findInnerClass(modelClass, StringUtils.capitalize(hint));
+		}
+		return resolvedHint;
+	}
+
+	private static Class<?> toClass(String hint) {
 		try {
 			return Class.forName(hint);
 		}
@@ -82,7 +104,7 @@ public class BeanValidationHintResolver implements ValidationHintResolver {
 		return null;
 	}
 
-	private Class<?> findInnerClass(Class<?> targetClass, String hint) {
+	private static Class<?> findInnerClass(Class<?> targetClass, String hint) {
 		try {
 			return Class.forName(targetClass.getName() + "$" + hint);
 		}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2020 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,8 @@
 package org.springframework.webflow.validation;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -45,6 +45,9 @@ import org.springframework.webflow.execution.RequestContext;
 
 /**
  * A helper class the encapsulates conventions to invoke validation logic.
+ * <p>
+ * The validation methods found by convention are resolved once per model class, validator class and state, and
+ * cached.
  *
  * @author Scott Andrews
  * @author Canny Duck
@@ -54,6 +57,17 @@ public class ValidationHelper {
 
 	private static final Log logger = LogFactory.getLog(ValidationHelper.class);
 
+	/**
+	 * Validation plans of model classes, by state id.
+	 */
+	private static final ClassValue<Map<String, ValidationPlan>> MODEL_VALIDATION_PLANS = new ValidationPlans<>();
+
+	/**
+	 * Validation plans of validator classes, by state id and model class.
+	 */
+	private static final ClassValue<Map<ValidatorPlanKey, ValidationPlan>> VALIDATOR_VALIDATION_PLANS =
+			new ValidationPlans<>();
+
 	private final Object model;
 
 	private final RequestContext requestContext;
@@ -175,73 +189,35 @@ public class ValidationHelper {
 	 */
 	public void validate() {
 		if (this.validator != null) {
-			invokeValidatorDefaultValidateMethod(this.validator);
+			invokeSpringValidator(this.validator);
 		}
-		invokeModelValidationMethod(model);
+		invokeModelValidationMethods(model);
 		Object modelValidator = getModelValidator();
 		if (modelValidator != null) {
 			invokeModelValidator(modelValidator);
 		}
 	}
 
-	private void invokeModelValidationMethod(Object model) {
-		invokeValidateMethodForCurrentState(model);
-		invokeDefaultValidateMethod(model);
-	}
-
-	private boolean invokeValidateMethodForCurrentState(Object model) {
-		String methodName = "validate" + StringUtils.capitalize(requestContext.getCurrentState().getId());
-		// preferred
-		Method validateMethod = ReflectionUtils.findMethod(model.getClass(), methodName, ValidationContext.class);
-		if (validateMethod != null) {
-			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking current state model validation method '" + methodName + "(ValidationContext)'");
-			}
-			ReflectionUtils.invokeMethod(validateMethod, model, new DefaultValidationContext(requestContext, eventId, mappingResults));
-			return true;
-		}
-		// web flow 2.0.3 or < compatibility only
-		validateMethod = ReflectionUtils.findMethod(model.getClass(), methodName, MessageContext.class);
-		if (validateMethod != null) {
-			ReflectionUtils.invokeMethod(validateMethod, model, requestContext.getMessageContext());
-			return true;
-		}
-		// mvc 2 compatibility only
-		validateMethod = ReflectionUtils.findMethod(model.getClass(), methodName, Errors.class);
-		if (validateMethod != null) {
-			MessageContextErrors errors = new MessageContextErrors(requestContext.getMessageContext(), modelName,
-					model, expressionParser, messageCodesResolver, mappingResults);
-			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking current state model validation method '" + methodName + "(Errors)'");
-			}
-			ReflectionUtils.invokeMethod(validateMethod, model, errors);
-			return true;
-		}
-		return false;
-	}
-
-	private boolean invokeDefaultValidateMethod(Object model) {
-		// preferred
-		Method validateMethod = ReflectionUtils.findMethod(model.getClass(), "validate", ValidationContext.class);
-		if (validateMethod != null) {
+	private void invokeModelValidationMethods(Object model) {
+		String stateId = requestContext.getCurrentState().getId();
+		ValidationPlan plan = MODEL_VALIDATION_PLANS.get(model.getClass()).computeIfAbsent(stateId,
+				id -> createModelValidationPlan(model.getClass(), id));
+		ValidationMethod stateMethod = plan.stateMethod;
+		if (stateMethod != null) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking default model validation method 'validate(ValidationContext)'");
+				logger.debug("Invoking current state model validation method '" + stateMethod.getName() + "("
+						+ stateMethod.getContextName() + ")'");
 			}
-			ReflectionUtils.invokeMethod(validateMethod, model, new DefaultValidationContext(requestContext, eventId, mappingResults));
-			return true;
+			ReflectionUtils.invokeMethod(stateMethod.method, model, createValidationArgument(stateMethod));
 		}
-		// mvc 2 compatibility only
-		validateMethod = ReflectionUtils.findMethod(model.getClass(), "validate", Errors.class);
-		if (validateMethod != null) {
+		ValidationMethod defaultMethod = plan.defaultMethod;
+		if (defaultMethod != null) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking default model validation method 'validate(Errors)'");
+				logger.debug("Invoking default model validation method 'validate(" + defaultMethod.getContextName()
+						+ ")'");
 			}
-			MessageContextErrors errors = new MessageContextErrors(requestContext.getMessageContext(), modelName,
-					model, expressionParser, messageCodesResolver, mappingResults);
-			ReflectionUtils.invokeMethod(validateMethod, model, errors);
-			return true;
+			ReflectionUtils.invokeMethod(defaultMethod.method, model, createValidationArgument(defaultMethod));
 		}
-		return false;
 	}
 
 	private Object getModelValidator() {
@@ -256,119 +232,202 @@ public class ValidationHelper {
 	}
 
 	private void invokeModelValidator(Object validator) {
-		invokeValidatorValidateMethodForCurrentState(validator);
-		invokeValidatorDefaultValidateMethod(validator);
-	}
-
-	private boolean invokeValidatorValidateMethodForCurrentState(Object validator) {
-		String methodName = "validate" + StringUtils.capitalize(requestContext.getCurrentState().getId());
-		// preferred
-		Method validateMethod = findValidationMethod(model, validator, methodName, ValidationContext.class);
-		if (validateMethod != null) {
+		Class<?> modelClass = AopUtils.getTargetClass(model);
+		String stateId = requestContext.getCurrentState().getId();
+		ValidationPlan plan = VALIDATOR_VALIDATION_PLANS.get(validator.getClass()).computeIfAbsent(
+				new ValidatorPlanKey(stateId, modelClass),
+				key -> createValidatorValidationPlan(validator.getClass(), modelClass, stateId));
+		ValidationMethod stateMethod = plan.stateMethod;
+		if (stateMethod != null) {
 			if (logger.isDebugEnabled()) {
 				logger.debug("Invoking current state validator method '"
-						+ ClassUtils.getShortName(validator.getClass()) + "." + methodName + "("
-						+ ClassUtils.getShortName(model.getClass()) + ", ValidationContext)'");
+						+ ClassUtils.getShortName(validator.getClass()) + "." + stateMethod.getName() + "("
+						+ ClassUtils.getShortName(model.getClass()) + ", " + stateMethod.getContextName() + ")'");
 			}
-			ReflectionUtils.invokeMethod(validateMethod, validator, model,
-					new DefaultValidationContext(requestContext, eventId, mappingResults));
-			return true;
+			ReflectionUtils.invokeMethod(stateMethod.method, validator, model, createValidationArgument(stateMethod));
 		}
-		// mvc 2 compatibility only
-		validateMethod = findValidationMethod(model, validator, methodName, Errors.class);
-		if (validateMethod != null) {
+		if (validator instanceof Validator) {
+			invokeSpringValidator((Validator) validator);
+			return;
+		}
+		ValidationMethod defaultMethod = plan.defaultMethod;
+		if (defaultMethod != null) {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking current state validator method '"
-						+ ClassUtils.getShortName(validator.getClass()) + "." + methodName + "("
-						+ ClassUtils.getShortName(model.getClass()) + ", Errors)'");
+				logger.debug("Invoking default validator method '" + ClassUtils.getShortName(validator.getClass())
+						+ ".validate(" + ClassUtils.getShortName(model.getClass()) + ", "
+						+ defaultMethod.getContextName() + ")'");
 			}
-			MessageContextErrors errors = new MessageContextErrors(requestContext.getMessageContext(), modelName,
-					model, expressionParser, messageCodesResolver, mappingResults);
-			ReflectionUtils.invokeMethod(validateMethod, validator, model, errors);
-			return true;
-		}
-		// web flow 2.0.0 to 2.0.3 compatibility only [to remove in web flow 3]
-		validateMethod = findValidationMethod(model, validator, methodName, MessageContext.class);
-		if (validateMethod != null) {
-			ReflectionUtils.invokeMethod(validateMethod, validator,
-					model, requestContext.getMessageContext());
-			return true;
+			ReflectionUtils.invokeMethod(defaultMethod.method, validator, model,
+					createValidationArgument(defaultMethod));
 		}
-		return false;
 	}
 
-	private boolean invokeValidatorDefaultValidateMethod(Object validator) {
-		if (validator instanceof Validator) {
-			// Spring Framework Validator type
-			Validator springValidator = (Validator) validator;
-			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking Spring Validator '" + ClassUtils.getShortName(validator.getClass()) + "'");
-			}
-			if (springValidator.supports(model.getClass())) {
-				MessageContextErrors errors = new MessageContextErrors(requestContext.getMessageContext(), modelName,
-						model, expressionParser, messageCodesResolver, mappingResults);
-
-				if (this.validationHints != null) {
-					if (springValidator instanceof SmartValidator) {
-						((SmartValidator) springValidator).validate(model, errors, this.validationHints);
-					}
-					else {
-						logger.warn("Validation hints provided but validator not an instance of SmartValidator: ["
-								+ springValidator.getClass().getName() + "]");
-					}
+	private void invokeSpringValidator(Validator springValidator) {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Invoking Spring Validator '" + ClassUtils.getShortName(springValidator.getClass()) + "'");
+		}
+		if (springValidator.supports(model.getClass())) {
+			MessageContextErrors errors = createErrors();
+			if (this.validationHints != null) {
+				if (springValidator instanceof SmartValidator) {
+					((SmartValidator) springValidator).validate(model, errors, this.validationHints);
 				}
 				else {
-					springValidator.validate(model, errors);
-				}
-			} else {
-				if (logger.isDebugEnabled()) {
-					logger.debug("Spring Validator '" + ClassUtils.getShortName(validator.getClass())
-							+ "' doesn't support model class " + model.getClass());
+					logger.warn("Validation hints provided but validator not an instance of SmartValidator: ["
+							+ springValidator.getClass().getName() + "]");
 				}
 			}
-			return true;
-		}
-		// preferred
-		Method validateMethod = findValidationMethod(model, validator, "validate", ValidationContext.class);
-		if (validateMethod != null) {
+			else {
+				springValidator.validate(model, errors);
+			}
+		} else {
 			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking default validator method '" + ClassUtils.getShortName(validator.getClass())
-						+ ".validate(" + ClassUtils.getShortName(model.getClass()) + ", ValidationContext)'");
+				logger.debug("Spring Validator '" + ClassUtils.getShortName(springValidator.getClass())
+						+ "' doesn't support model class " + model.getClass());
 			}
-			ReflectionUtils.invokeMethod(validateMethod, validator, model,
-					new DefaultValidationContext(requestContext, eventId, mappingResults));
-			return true;
 		}
+	}
+
+	private Object createValidationArgument(ValidationMethod validationMethod) {
+		if (validationMethod.contextType == ValidationContext.class) {
+			return new DefaultValidationContext(requestContext, eventId, mappingResults);
+		}
+		else if (validationMethod.contextType == MessageContext.class) {
+			return requestContext.getMessageContext();
+		}
+		else {
+			return createErrors();
+		}
+	}
+
+	private MessageContextErrors createErrors() {
+		return new MessageContextErrors(requestContext.getMessageContext(), modelName, model, expressionParser,
+				messageCodesResolver, mappingResults);
+	}
+
+	private static ValidationPlan createModelValidationPlan(Class<?> modelClass, String stateId) {
+		String methodName = "validate" + StringUtils.capitalize(stateId);
+		// ValidationContext is preferred, MessageContext is for web flow 2.0.3 or < compatibility and Errors for
 		// mvc 2 compatibility only
-		validateMethod = findValidationMethod(model, validator, "validate", Errors.class);
-		if (validateMethod != null) {
-			if (logger.isDebugEnabled()) {
-				logger.debug("Invoking default validator method '" + ClassUtils.getShortName(validator.getClass())
-						+ ".validate(" + ClassUtils.getShortName(model.getClass()) + ", Errors)'");
+		ValidationMethod stateMethod = findModelValidationMethod(modelClass, methodName, ValidationContext.class,
+				MessageContext.class, Errors.class);
+		ValidationMethod defaultMethod = findModelValidationMethod(modelClass, "validate", ValidationContext.class,
+				Errors.class);
+		return new ValidationPlan(stateMethod, defaultMethod);
+	}
+
+	private static ValidationMethod findModelValidationMethod(Class<?> modelClass, String methodName,
+			Class<?>... contextTypes) {
+		for (Class<?> contextType : contextTypes) {
+			Method method = ReflectionUtils.findMethod(modelClass, methodName, contextType);
+			if (method != null) {
+				return new ValidationMethod(method, contextType);
 			}
-			MessageContextErrors errors = new MessageContextErrors(requestContext.getMessageContext(), modelName,
-					model, expressionParser, messageCodesResolver, mappingResults);
-			ReflectionUtils.invokeMethod(validateMethod, validator, model, errors);
-			return true;
 		}
-		return false;
+		return null;
 	}
 
-	private Method findValidationMethod(Object model, Object validator, String methodName, Class<?> context) {
-		Class<?> modelClass = AopUtils.getTargetClass(model);
+	private static ValidationPlan createValidatorValidationPlan(Class<?> validatorClass, Class<?> modelClass,
+			String stateId) {
+		String methodName = "validate" + StringUtils.capitalize(stateId);
+		// ValidationContext is preferred, Errors is for mvc 2 compatibility and MessageContext for web flow 2.0.0 to
+		// 2.0.3 compatibility only
+		ValidationMethod stateMethod = findValidatorValidationMethod(validatorClass, modelClass, methodName,
+				ValidationContext.class, Errors.class, MessageContext.class);
+		ValidationMethod defaultMethod = findValidatorValidationMethod(validatorClass, modelClass, "validate",
+				ValidationContext.class, Errors.class);
+		return new ValidationPlan(stateMethod, defaultMethod);
+	}
 
-		List<Class<?>> modelSearchClasses = new ArrayList<>();
-		while (modelClass != null) {
-			modelSearchClasses.add(modelClass);
-			modelClass = modelClass.getSuperclass();
-		}
-		for (Class<?> searchClass : modelSearchClasses) {
-			Method method = ReflectionUtils.findMethod(validator.getClass(), methodName, searchClass, context);
-			if (method != null) {
-				return method;
+	private static ValidationMethod findValidatorValidationMethod(Class<?> validatorClass, Class<?> modelClass,
+			String methodName, Class<?>... contextTypes) {
+		for (Class<?> contextType : contextTypes) {
+			for (Class<?> searchClass = modelClass; searchClass != null; searchClass = searchClass.getSuperclass()) {
+				Method method = ReflectionUtils.findMethod(validatorClass, methodName, searchClass, contextType);
+				if (method != null) {
+					return new ValidationMethod(method, contextType);
+				}
 			}
 		}
 		return null;
 	}
 
+
+	/**
+	 * The validation methods to invoke on a model or validator for a given state, resolved once.
+	 */
+	private static class ValidationPlan {
+
+		private final ValidationMethod stateMethod;
+
+		private final ValidationMethod defaultMethod;
+
+		public ValidationPlan(ValidationMethod stateMethod, ValidationMethod defaultMethod) {
+			this.stateMethod = stateMethod;
+			this.defaultMethod = defaultMethod;
+		}
+	}
+
+
+	private static class ValidationPlans<K> extends ClassValue<Map<K, ValidationPlan>> {
+
+		protected Map<K, ValidationPlan> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	}
+
+
+	/**
+	 * Identifies the validation plan of a validator for a given state and model class.
+	 */
+	private static class ValidatorPlanKey {
+
+		private final String stateId;
+
+		private final Class<?> modelClass;
+
+		public ValidatorPlanKey(String stateId, Class<?> modelClass) {
+			this.stateId = stateId;
+			this.modelClass = modelClass;
+		}
+
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof ValidatorPlanKey key)) {
+				return false;
+			}
+			return this.stateId.equals(key.stateId) && this.modelClass == key.modelClass;
+		}
+
+		public int hashCode() {
+			return this.stateId.hashCode() * 31 + this.modelClass.hashCode();
+		}
+	}
+
+
+	/**
+	 * A validation method and the type of validation context it accepts.
+	 */
+	private static class ValidationMethod {
+
+		private final Method method;
+
+		private final Class<?> contextType;
+
+		public ValidationMethod(Method method, Class<?> contextType) {
+			this.method = method;
+			this.contextType = contextType;
+		}
+
+		public String getName() {
+			return method.getName();
+		}
+
+		public String getContextName() {
+			return ClassUtils.getShortName(contextType);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,10 @@ package org.springframework.webflow.action;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.binding.expression.support.StaticExpression;
 import org.springframework.webflow.execution.Event;
@@ -61,4 +65,36 @@ public class EvaluateActionTests {
 		assertEquals("bar", result.getId());
 		assertEquals("bar", resultExpression.getValue(null));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testEvaluateExpressionCompletionStageResult() throws Exception {
+		StaticExpression resultExpression = new StaticExpression("");
+		CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(() -> Boolean.FALSE,
+				CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+		EvaluateAction action = new EvaluateAction(new StaticExpression(future), resultExpression);
+		MockRequestContext context = new MockRequestContext();
+		Event result = action.execute(context);
+		assertEquals("no", result.getId());
+		assertEquals(Boolean.FALSE, resultExpression.getValue(null));
+	}
+
+	@Test
+	public void testEvaluateExpressionFutureResult() throws Exception {
+		FutureTask<String> future = new FutureTask<>(() -> "bar");
+		CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(future);
+		EvaluateAction action = new EvaluateAction(new StaticExpression(future), null);
+		action.setTimeout(5000);
+		MockRequestContext context = new MockRequestContext();
+		Event result = action.execute(context);
+		assertEquals("bar", result.getId());
+	}
+
+	@Test
+	public void testEvaluateExpressionCompletionStageNullResult() throws Exception {
+		EvaluateAction action = new EvaluateAction(new StaticExpression(CompletableFuture.completedFuture(null)),
+				null);
+		MockRequestContext context = new MockRequestContext();
+		Event result = action.execute(context);
+		assertEquals("success", result.getId());
+	}
+}
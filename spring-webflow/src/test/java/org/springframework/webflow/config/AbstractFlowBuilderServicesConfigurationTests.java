@@ -19,6 +19,7 @@ import org.springframework.binding.expression.Expression;
 import org.springframework.binding.expression.ExpressionParser;
 import org.springframework.binding.expression.spel.SpringELExpressionParser;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.validation.Validator;
 import org.springframework.webflow.engine.builder.BinderConfiguration;
 import org.springframework.webflow.engine.builder.ViewFactoryCreator;
@@ -48,6 +49,7 @@ public abstract class AbstractFlowBuilderServicesConfigurationTests {
 		assertTrue(builderServices.getViewFactoryCreator() instanceof MvcViewFactoryCreator);
 		assertTrue(builderServices.getConversionService() instanceof DefaultConversionService);
 		assertNull(builderServices.getValidator());
+		assertNull(builderServices.getParallelActionExecutor());
 		assertFalse(builderServices.getDevelopment());
 	}
 
@@ -60,6 +62,7 @@ public abstract class AbstractFlowBuilderServicesConfigurationTests {
 		assertTrue(builderServices.getConversionService() instanceof TestConversionService);
 		assertTrue(builderServices.getValidator() instanceof EmptySpringValidator);
 		assertTrue(builderServices.getValidationHintResolver() instanceof MyBeanValidationHintResolver);
+		assertTrue(builderServices.getParallelActionExecutor() instanceof SyncTaskExecutor);
 		assertTrue(builderServices.getDevelopment());
 	}
 
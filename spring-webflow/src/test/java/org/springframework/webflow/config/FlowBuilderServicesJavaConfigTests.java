@@ -3,6 +3,7 @@ package org.springframework.webflow.config;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
 import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
@@ -29,6 +30,7 @@ public class FlowBuilderServicesJavaConfigTests extends AbstractFlowBuilderServi
 					.setConversionService(customConversionService())
 					.setValidator(customValidator())
 					.setValidationHintResolver(customValidationHintResolver())
+					.setParallelActionExecutor(customParallelActionExecutor())
 					.setDevelopmentMode(true)
 					.build();
 		}
@@ -65,6 +67,11 @@ public class FlowBuilderServicesJavaConfigTests extends AbstractFlowBuilderServi
 			return new MyBeanValidationHintResolver();
 		}
 
+		@Bean
+		public SyncTaskExecutor customParallelActionExecutor() {
+			return new SyncTaskExecutor();
+		}
+
 	}
 
 }
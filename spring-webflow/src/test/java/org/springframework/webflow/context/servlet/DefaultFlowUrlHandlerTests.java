@@ -110,4 +110,37 @@ public class DefaultFlowUrlHandlerTests {
 		String url = urlHandler.createFlowExecutionUrl("foo", "12345", request);
 		assertEquals("/springtravel/app/foo?execution=12345", url);
 	}
+
+	@Test
+	public void testCreateFlowExecutionUrlEncodedKey() {
+		request.setRequestURI("/springtravel/app/foo");
+		String url = urlHandler.createFlowExecutionUrl("foo", "e1 s1/\u00fc", request);
+		assertEquals("/springtravel/app/foo?execution=e1+s1%2F%FC", url);
+		urlHandler.setEncodingScheme("UTF-8");
+		url = urlHandler.createFlowExecutionUrl("foo", "e1 s1/\u00fc", request);
+		assertEquals("/springtravel/app/foo?execution=e1+s1%2F%C3%BC", url);
+	}
+
+	@Test
+	public void testCreateFlowExecutionUrlRequestUriChanged() {
+		request.setRequestURI("/springtravel/app/foo");
+		assertEquals("/springtravel/app/foo?execution=e1s1", urlHandler.createFlowExecutionUrl("foo", "e1s1", request));
+		assertEquals("/springtravel/app/foo?execution=e1s2", urlHandler.createFlowExecutionUrl("foo", "e1s2", request));
+		request.setRequestURI("/springtravel/app/bar");
+		assertEquals("/springtravel/app/bar?execution=e1s1", urlHandler.createFlowExecutionUrl("bar", "e1s1", request));
+	}
+
+	@Test
+	public void testCreateFlowDefinitionUrlRequestPathsChanged() {
+		request.setContextPath("/springtravel");
+		request.setServletPath("/app");
+		request.setPathInfo("/foo");
+		assertEquals("/springtravel/app/bookHotel", urlHandler.createFlowDefinitionUrl("bookHotel", null, request));
+		assertEquals("/springtravel/app/bookHotel", urlHandler.createFlowDefinitionUrl("bookHotel", null, request));
+		request.setContextPath("/travel");
+		assertEquals("/travel/app/bookHotel", urlHandler.createFlowDefinitionUrl("bookHotel", null, request));
+		request.setServletPath("/bookHotel.htm");
+		request.setPathInfo(null);
+		assertEquals("/travel/bookHotel.htm", urlHandler.createFlowDefinitionUrl("bookHotel", null, request));
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,18 @@ public class ServletExternalContextTests {
 		assertEquals("/foo", request.getContextPath());
 	}
 
+	@Test
+	public void testCheckNotModified() {
+		request.setMethod("GET");
+		assertFalse(context.checkNotModified("e1s1-a"));
+		assertEquals("\"e1s1-a\"", response.getHeader("ETag"));
+		response = new MockHttpServletResponse();
+		context = new ServletExternalContext(servletContext, request, response);
+		request.addHeader("If-None-Match", "\"e1s1-a\"");
+		assertTrue(context.checkNotModified("e1s1-a"));
+		assertEquals(304, response.getStatus());
+	}
+
 	@Test
 	public void testRequestParameters() {
 		assertTrue(context.getRequestParameterMap().isEmpty());
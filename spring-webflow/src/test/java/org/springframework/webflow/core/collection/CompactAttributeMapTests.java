@@ -0,0 +1,129 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.core.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompactAttributeMap}.
+ */
+public class CompactAttributeMapTests {
+
+	private CompactAttributeMap<Object> attributeMap = new CompactAttributeMap<>();
+
+	@Test
+	public void testPutGetRemove() {
+		assertTrue(attributeMap.isEmpty());
+		attributeMap.put("foo", "bar");
+		attributeMap.put("baz", 1);
+		assertEquals(2, attributeMap.size());
+		assertEquals("bar", attributeMap.get("foo"));
+		assertEquals(Integer.valueOf(1), attributeMap.getInteger("baz"));
+		assertEquals("bar", attributeMap.put("foo", "boop"));
+		assertEquals("boop", attributeMap.remove("foo"));
+		assertFalse(attributeMap.contains("foo"));
+		assertEquals(1, attributeMap.size());
+	}
+
+	@Test
+	public void testInflateKeepsInsertionOrder() {
+		for (int i = 0; i < CompactMap.INLINE_THRESHOLD * 2; i++) {
+			attributeMap.put("key" + i, i);
+		}
+		assertEquals(CompactMap.INLINE_THRESHOLD * 2, attributeMap.size());
+		int i = 0;
+		for (Map.Entry<String, Object> entry : attributeMap.asMap().entrySet()) {
+			assertEquals("key" + i, entry.getKey());
+			assertEquals(i++, entry.getValue());
+		}
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		attributeMap.put("a", 1);
+		attributeMap.put("b", 2);
+		attributeMap.put("c", 3);
+		CompactMap<Object> map = new CompactMap<>();
+		map.putAll(attributeMap.asMap());
+		for (Iterator<String> it = map.keySet().iterator(); it.hasNext();) {
+			if (it.next().equals("b")) {
+				it.remove();
+			}
+		}
+		assertEquals(2, map.size());
+		assertNull(map.get("b"));
+		assertEquals(3, map.get("c"));
+	}
+
+	@Test
+	public void testCopyOnWrite() {
+		attributeMap.put("foo", "bar");
+		CompactAttributeMap<Object> copy = attributeMap.copy();
+		assertEquals(attributeMap, copy);
+		copy.put("foo", "baz");
+		copy.put("boop", "beep");
+		assertEquals("bar", attributeMap.get("foo"));
+		assertFalse(attributeMap.contains("boop"));
+		attributeMap.clear();
+		assertEquals("baz", copy.get("foo"));
+	}
+
+	@Test
+	public void testUnion() {
+		attributeMap.put("foo", "bar");
+		AttributeMap<Object> union = attributeMap.union(new LocalAttributeMap<>("baz", "boop"));
+		assertEquals(2, union.size());
+		assertEquals(1, attributeMap.size());
+	}
+
+	@Test
+	public void testEqualsLocalAttributeMap() {
+		attributeMap.put("foo", "bar");
+		assertEquals(new LocalAttributeMap<>("foo", "bar"), attributeMap);
+		assertEquals(attributeMap, new LocalAttributeMap<>("foo", "bar"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSerialization() throws Exception {
+		attributeMap.put("foo", "bar");
+		attributeMap.put("nested", new CompactAttributeMap<>("baz", "boop"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(attributeMap);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			CompactAttributeMap<Object> map = (CompactAttributeMap<Object>) in.readObject();
+			assertEquals(attributeMap, map);
+			assertEquals("boop", ((AttributeMap<Object>) map.get("nested")).get("baz"));
+			map.put("another", "value");
+			assertEquals(3, map.size());
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,16 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.webflow.action.EvaluateAction;
 import org.springframework.webflow.execution.ActionExecutionException;
 import org.springframework.webflow.execution.ActionExecutor;
+import org.springframework.webflow.execution.AnnotatedAction;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.execution.TestAction;
@@ -96,4 +102,52 @@ public class ActionExecutorTests {
 			assertEquals(state.getId(), e.getStateId());
 		}
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testStartAndCompleteAsyncAction() {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		AnnotatedAction action = new AnnotatedAction(new EvaluateAction(new StaticExpression(future), null));
+		action.setName("find");
+		Object pendingResult = ActionExecutor.start(action, context);
+		assertSame(future, pendingResult);
+		future.complete("found");
+		Event result = ActionExecutor.complete(action, pendingResult, context);
+		assertEquals("find.found", result.getId());
+		assertNull(context.getAttributes().get(AnnotatedAction.NAME_ATTRIBUTE));
+	}
+
+	@Test
+	public void testStartAndCompleteSyncAction() {
+		TestAction action = new TestAction();
+		Object pendingResult = ActionExecutor.start(action, context);
+		assertEquals(1, action.getExecutionCount());
+		assertSame(pendingResult, ActionExecutor.complete(action, pendingResult, context));
+	}
+
+	@Test
+	public void testCompleteAsyncActionWithException() {
+		CompletableFuture<String> future = CompletableFuture.failedFuture(new IllegalStateException("Oops"));
+		EvaluateAction action = new EvaluateAction(new StaticExpression(future), null);
+		try {
+			ActionExecutor.complete(action, ActionExecutor.start(action, context), context);
+			fail("Should've failed");
+		} catch (ActionExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertEquals(flow.getId(), e.getFlowId());
+		}
+	}
+
+	@Test
+	public void testCompleteAsyncActionWithTimeout() {
+		CompletableFuture<String> future = new CompletableFuture<>();
+		EvaluateAction action = new EvaluateAction(new StaticExpression(future), null);
+		action.setTimeout(10);
+		try {
+			ActionExecutor.execute(action, context);
+			fail("Should've failed");
+		} catch (ActionExecutionException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+			assertTrue(future.isCancelled());
+		}
+	}
+}
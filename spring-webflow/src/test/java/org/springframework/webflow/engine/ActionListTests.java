@@ -0,0 +1,253 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.webflow.action.EvaluateAction;
+import org.springframework.webflow.context.ExternalContextHolder;
+import org.springframework.webflow.execution.ActionExecutionException;
+import org.springframework.webflow.execution.AsyncAction;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.RequestContextHolder;
+import org.springframework.webflow.execution.TestAction;
+import org.springframework.webflow.test.MockRequestContext;
+
+/**
+ * Unit tests for {@link ActionList}.
+ */
+public class ActionListTests {
+
+	private MockRequestContext context;
+
+	private CompletableFuture<String> first;
+
+	private StaticExpression firstResult;
+
+	private ActionList actionList;
+
+	@BeforeEach
+	public void setUp() {
+		context = new MockRequestContext(new Flow("myFlow"));
+		first = new CompletableFuture<>();
+		firstResult = new StaticExpression(null);
+		EvaluateAction firstAction = new EvaluateAction(new StaticExpression(first), firstResult);
+		firstAction.setTimeout(1000);
+		// the second action completes the result of the first one: both must be started before either completes
+		TestAction secondAction = new TestAction() {
+			protected Event doExecute(RequestContext context) throws Exception {
+				first.complete("first");
+				return success();
+			}
+		};
+		actionList = new ActionList();
+		actionList.addAll(firstAction, secondAction);
+	}
+
+	@Test
+	public void testExecuteConcurrently() {
+		actionList.setConcurrent(true);
+		actionList.execute(context);
+		assertEquals("first", firstResult.getValue(null));
+	}
+
+	@Test
+	public void testExecuteWithFilter() {
+		TestAction skippedAction = new TestAction();
+		actionList.add(skippedAction);
+		actionList.setConcurrent(true);
+		actionList.execute(context, action -> action != skippedAction);
+		assertEquals("first", firstResult.getValue(null));
+		assertFalse(skippedAction.isExecuted());
+		actionList.setConcurrent(false);
+		actionList.execute(context, action -> action == skippedAction);
+		assertTrue(skippedAction.isExecuted());
+	}
+
+	@Test
+	public void testExecuteSequentially() {
+		try {
+			actionList.execute(context);
+			fail("Should've timed out");
+		} catch (ActionExecutionException e) {
+			assertTrue(e.getCause() instanceof TimeoutException);
+		}
+	}
+
+	@Test
+	public void testExecuteInParallel() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CyclicBarrier barrier = new CyclicBarrier(2);
+			List<String> completed = new ArrayList<>();
+			ActionList parallelList = new ActionList();
+			parallelList.add(new BarrierAction("first", barrier, completed));
+			parallelList.add(new TestAction() {
+				protected Event doExecute(RequestContext context) throws Exception {
+					completed.add("second");
+					return success();
+				}
+			});
+			parallelList.add(new BarrierAction("third", barrier, completed));
+			parallelList.setConcurrent(true);
+			parallelList.setExecutor(executor);
+			parallelList.execute(context);
+			assertEquals(Arrays.asList("first", "second", "third"), completed);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteInParallelPropagatesThreadBoundContext() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		LocaleContextHolder.setLocale(Locale.FRENCH);
+		org.springframework.web.context.request.RequestContextHolder.setRequestAttributes(requestAttributes);
+		try {
+			List<Object> captured = new ArrayList<>();
+			ActionList parallelList = new ActionList();
+			parallelList.add(new AsyncAction() {
+				public Object start(RequestContext context) {
+					captured.add(LocaleContextHolder.getLocale());
+					captured.add(org.springframework.web.context.request.RequestContextHolder.getRequestAttributes());
+					return null;
+				}
+
+				public Event complete(Object result, RequestContext context) {
+					return new Event(this, "success");
+				}
+
+				public Event execute(RequestContext context) {
+					return complete(start(context), context);
+				}
+
+				public long getTimeout() {
+					return 0;
+				}
+			});
+			parallelList.setConcurrent(true);
+			parallelList.setExecutor(executor);
+			parallelList.execute(context);
+			assertEquals(Arrays.asList(Locale.FRENCH, requestAttributes), captured);
+		} finally {
+			LocaleContextHolder.resetLocaleContext();
+			org.springframework.web.context.request.RequestContextHolder.resetRequestAttributes();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteInParallelWithStartException() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			ActionList parallelList = new ActionList();
+			parallelList.add(new EvaluateAction(new StaticExpression(first), null));
+			parallelList.add(new BarrierAction("second", new CyclicBarrier(2), new ArrayList<>()));
+			parallelList.setConcurrent(true);
+			parallelList.setExecutor(executor);
+			try {
+				parallelList.execute(context);
+				fail("Should've failed");
+			} catch (ActionExecutionException e) {
+				assertTrue(e.getCause() instanceof TimeoutException);
+				assertTrue(first.isCancelled());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteConcurrentlyWithStartException() {
+		CompletableFuture<String> third = new CompletableFuture<>();
+		actionList.add(new EvaluateAction(new StaticExpression(third), null));
+		actionList.add(new TestAction() {
+			protected Event doExecute(RequestContext context) throws Exception {
+				throw new IllegalStateException("Oops");
+			}
+		});
+		actionList.setConcurrent(true);
+		try {
+			actionList.execute(context);
+			fail("Should've failed");
+		} catch (ActionExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+			assertTrue(third.isCancelled());
+		}
+	}
+
+	/**
+	 * Waits for all barrier actions to be started at once, on threads exposing the request context.
+	 */
+	private static class BarrierAction implements AsyncAction {
+
+		private String name;
+
+		private CyclicBarrier barrier;
+
+		private List<String> completed;
+
+		public BarrierAction(String name, CyclicBarrier barrier, List<String> completed) {
+			this.name = name;
+			this.barrier = barrier;
+			this.completed = completed;
+		}
+
+		public Object start(RequestContext context) throws Exception {
+			assertSame(context, RequestContextHolder.getRequestContext());
+			assertSame(context.getExternalContext(), ExternalContextHolder.getExternalContext());
+			barrier.await(1, TimeUnit.SECONDS);
+			return name;
+		}
+
+		public Event complete(Object result, RequestContext context) {
+			completed.add((String) result);
+			return new Event(this, "success");
+		}
+
+		public Event execute(RequestContext context) throws Exception {
+			return complete(start(context), context);
+		}
+
+		public long getTimeout() {
+			return 0;
+		}
+	}
+}
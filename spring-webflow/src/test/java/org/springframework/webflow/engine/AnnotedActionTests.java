@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2008 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 package org.springframework.webflow.engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -83,4 +85,15 @@ public class AnnotedActionTests {
 		});
 		assertEquals("foo.success", action.execute(context).getId());
 	}
+
+	@Test
+	public void testFragmentRelevant() {
+		assertTrue(action.isFragmentRelevant());
+		action.setFragmentRelevant(false);
+		assertFalse(action.isFragmentRelevant());
+		action.getAttributes().put("fragmentRelevant", "false");
+		assertFalse(action.isFragmentRelevant());
+		action.getAttributes().put("fragmentRelevant", "true");
+		assertTrue(action.isFragmentRelevant());
+	}
 }
\ No newline at end of file
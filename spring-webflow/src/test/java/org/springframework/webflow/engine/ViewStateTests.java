@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,14 +17,17 @@ package org.springframework.webflow.engine;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.binding.message.MessageBuilder;
 import org.springframework.webflow.TestBean;
 import org.springframework.webflow.engine.support.ActionTransitionCriteria;
 import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
 import org.springframework.webflow.engine.support.MockTransitionCriteria;
+import org.springframework.webflow.execution.AnnotatedAction;
 import org.springframework.webflow.execution.Event;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.execution.TestAction;
@@ -250,6 +253,31 @@ public class ViewStateTests {
 		assertTrue(testAction.isExecuted());
 	}
 
+	@Test
+	public void testResumeViewStateRenderFragments() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		state.getTransitionSet().add(new Transition(on("submit"), null));
+		TestAction fragmentAction = new TestAction();
+		TestAction pageAction = new TestAction();
+		state.getRenderActionList().add(fragmentAction);
+		state.getRenderActionList().add(new AnnotatedAction(pageAction).putAttribute("fragmentRelevant", false));
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		state.enter(context);
+		assertEquals(1, fragmentAction.getExecutionCount());
+		assertEquals(1, pageAction.getExecutionCount());
+
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getMockExternalContext().setAjaxRequest(true);
+		context.getFlashScope().put(View.RENDER_FRAGMENTS_ATTRIBUTE, new String[] { "fragment" });
+		context.putRequestParameter("_eventId", "submit");
+		state.resume(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+		assertEquals(2, fragmentAction.getExecutionCount());
+		assertEquals(1, pageAction.getExecutionCount());
+	}
+
 	@Test
 	public void testResumeViewStateForEventWithTransitionStateExited() {
 		Flow flow = new Flow("myFlow");
@@ -469,6 +497,120 @@ public class ViewStateTests {
 		assertTrue(context.getMockExternalContext().getFlowExecutionRedirectRequested());
 	}
 
+	@Test
+	public void testResumeViewStateForConditionalRefresh() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		state.setConditionalRefresh(true);
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		state.enter(context);
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getFlowScope().remove("renderCalled");
+		state.resume(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+		String etag = context.getMockExternalContext().getETag();
+		assertNotNull(etag);
+
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getMockExternalContext().setIfNoneMatch(etag);
+		context.getFlowScope().remove("renderCalled");
+		state.resume(context);
+		assertFalse(context.getFlowScope().contains("renderCalled"), "Render called");
+		assertTrue(context.getMockExternalContext().isResponseComplete());
+		assertEquals(etag, context.getMockExternalContext().getETag());
+	}
+
+	@Test
+	public void testResumeViewStateForConditionalRefreshAfterEvent() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		state.setConditionalRefresh(true);
+		state.getTransitionSet().add(new Transition(on("submit"), null));
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		state.enter(context);
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		state.resume(context);
+		String etag = context.getMockExternalContext().getETag();
+
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.putRequestParameter("_eventId", "submit");
+		state.resume(context);
+
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getMockExternalContext().setIfNoneMatch(etag);
+		context.getFlowScope().remove("renderCalled");
+		state.resume(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+		assertFalse(etag.equals(context.getMockExternalContext().getETag()));
+	}
+
+	@Test
+	public void testResumeViewStateForConditionalRefreshWithMessages() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		state.setConditionalRefresh(true);
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		state.enter(context);
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		state.resume(context);
+		String etag = context.getMockExternalContext().getETag();
+
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getMockExternalContext().setIfNoneMatch(etag);
+		context.getMessageContext().addMessage(new MessageBuilder().info().defaultText("Saved").build());
+		context.getFlowScope().remove("renderCalled");
+		state.resume(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+	}
+
+	@Test
+	public void testInlineRenderRequestOverridesAlwaysRedirectOnPause() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		context.getMockExternalContext().setInlineRenderRequest(true);
+		context.setAlwaysRedirectOnPause(true);
+		state.enter(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+		assertFalse(context.getMockExternalContext().getFlowExecutionRedirectRequested());
+	}
+
+	@Test
+	public void testInlineRenderRequestOverridesRedirectInSameState() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		Transition t = new Transition(on("submit"), null);
+		state.getTransitionSet().add(t);
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		state.enter(context);
+		context = new MockRequestControlContext(context.getFlowExecutionContext());
+		context.getMockExternalContext().setInlineRenderRequest(true);
+		context.setAlwaysRedirectOnPause(true);
+		context.setRedirectInSameState(true);
+		context.getFlowScope().remove("renderCalled");
+		context.putRequestParameter("_eventId", "submit");
+		state.resume(context);
+		assertTrue(context.getFlowScope().contains("renderCalled"), "Render not called");
+		assertFalse(context.getMockExternalContext().getFlowExecutionRedirectRequested());
+	}
+
+	@Test
+	public void testViewStateRedirectOverridesInlineRenderRequest() {
+		Flow flow = new Flow("myFlow");
+		StubViewFactory viewFactory = new StubViewFactory();
+		ViewState state = new ViewState(flow, "viewState", viewFactory);
+		state.setRedirect(true);
+		MockRequestControlContext context = new MockRequestControlContext(flow);
+		context.getMockExternalContext().setInlineRenderRequest(true);
+		state.enter(context);
+		assertTrue(context.getMockExternalContext().getFlowExecutionRedirectRequested());
+	}
+
 	@Test
 	public void testEmbeddedModeOverridesRedirectInSameState() {
 		Flow flow = new Flow("myFlow");
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.engine.builder.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.binding.expression.Expression;
+import org.springframework.binding.expression.ExpressionParser;
+import org.springframework.binding.expression.support.FluentParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionParser;
+import org.springframework.webflow.test.MockRequestContext;
+
+/**
+ * Unit tests for {@link AttributeExpression}.
+ */
+public class AttributeExpressionTests {
+
+	private final ExpressionParser parser = new WebFlowSpringELExpressionParser(new SpelExpressionParser());
+
+	@Test
+	public void testAttributeOfMap() {
+		Expression expression = compile("foo", MutableAttributeMap.class);
+		assertTrue(expression instanceof AttributeExpression);
+		LocalAttributeMap<Object> map = new LocalAttributeMap<>("foo", "bar");
+		assertEquals("bar", expression.getValue(map));
+		expression.setValue(map, "baz");
+		assertEquals("baz", map.get("foo"));
+		assertEquals("foo", expression.getExpressionString());
+	}
+
+	@Test
+	public void testAttributeOfScope() {
+		Expression expression = compile("flowScope.foo", RequestContext.class);
+		assertTrue(expression instanceof AttributeExpression);
+		MockRequestContext context = new MockRequestContext();
+		assertNull(expression.getValue(context));
+		expression.setValue(context, "bar");
+		assertEquals("bar", context.getFlowScope().get("foo"));
+		assertEquals("bar", expression.getValue(context));
+		assertNull(compile("conversationScope.foo", RequestContext.class).getValue(context));
+	}
+
+	@Test
+	public void testOtherContextEvaluated() {
+		Expression expression = compile("flowScope.foo", RequestContext.class);
+		LocalAttributeMap<Object> map = new LocalAttributeMap<>("flowScope", new LocalAttributeMap<>("foo", "bar"));
+		assertEquals("bar", expression.getValue(map));
+	}
+
+	@Test
+	public void testNotCompiled() {
+		assertFalse(compile("foo.bar", MutableAttributeMap.class) instanceof AttributeExpression);
+		assertFalse(compile("foo", RequestContext.class) instanceof AttributeExpression);
+		assertFalse(compile("flowScope.foo", MutableAttributeMap.class) instanceof AttributeExpression);
+		assertFalse(compile("flowScope.foo.bar", RequestContext.class) instanceof AttributeExpression);
+		assertFalse(compile("null", MutableAttributeMap.class) instanceof AttributeExpression);
+		assertFalse(compile("'literal'", MutableAttributeMap.class) instanceof AttributeExpression);
+	}
+
+	private Expression compile(String expressionString, Class<?> contextType) {
+		Expression expression = parser.parseExpression(expressionString,
+				new FluentParserContext().evaluate(contextType));
+		return AttributeExpression.compile(expression, contextType);
+	}
+
+}
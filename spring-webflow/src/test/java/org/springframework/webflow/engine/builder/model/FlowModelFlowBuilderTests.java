@@ -1,6 +1,7 @@
 package org.springframework.webflow.engine.builder.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,12 +9,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.webflow.action.EvaluateAction;
 import org.springframework.webflow.action.ExternalRedirectAction;
 import org.springframework.webflow.action.FlowDefinitionRedirectAction;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
@@ -280,6 +283,25 @@ public class FlowModelFlowBuilderTests {
 		assertEquals("end", flow.getStartState().getId());
 	}
 
+	@Test
+	public void testParallelActions() {
+		ClassPathResource resource = new ClassPathResource("flow-parallel-actions.xml", XmlFlowModelBuilderTests.class);
+		Flow flow = getFlow(resource);
+		ViewState view = (ViewState) flow.getStateInstance("view");
+		assertTrue(view.getEntryActionList().getConcurrent());
+		assertTrue(view.getRenderActionList().getConcurrent());
+		assertNull(view.getRenderActionList().getExecutor());
+		assertFalse(flow.getStateInstance("action").getEntryActionList().getConcurrent());
+	}
+
+	@Test
+	public void testViewStateConditionalRefresh() {
+		ClassPathResource resource = new ClassPathResource("flow-viewstate-conditional-refresh.xml",
+				XmlFlowModelBuilderTests.class);
+		Flow flow = getFlow(resource);
+		assertTrue(((ViewState) flow.getStateInstance("view")).getConditionalRefresh());
+	}
+
 	@Test
 	public void testResourceBackedFlowBuilderWithMessages() {
 		ClassPathResource resource = new ClassPathResource("resources/flow.xml", FlowModelFlowBuilderTests.class);
@@ -387,9 +409,31 @@ public class FlowModelFlowBuilderTests {
 		assertEquals("2", expected[1]);
 	}
 
+	@Test
+	public void testEvaluateActionWithAsyncResultAndTimeout() throws Exception {
+		EvaluateModel evaluateModel = new EvaluateModel("testBean.getIntegersAsync()");
+		evaluateModel.setResult("flowScope.integers");
+		evaluateModel.setTimeout("5000");
+		model.setOnStartActions(asList(evaluateModel));
+		model.setStates(asList(new ViewStateModel("view")));
+		Flow flow = getFlow(model);
+		AnnotatedAction action = (AnnotatedAction) flow.getStartActionList().get(0);
+		assertEquals(5000, ((EvaluateAction) action.getTargetAction()).getTimeout());
+		MockRequestContext context = new MockRequestContext(flow);
+		context.getFlowScope().put("testBean", new TestBean());
+		assertEquals("success", action.execute(context).getId());
+		int[] expected = (int[]) context.getFlowScope().get("integers");
+		assertEquals(2, expected[1]);
+	}
+
 	private static class TestBean {
 		public String[] stringArray;
 
+		@SuppressWarnings("unused")
+		public CompletableFuture<int[]> getIntegersAsync() {
+			return CompletableFuture.supplyAsync(this::getIntegers);
+		}
+
 		@SuppressWarnings("unused")
 		public int[] getIntegers() {
 			return new int[] { 1, 2 };
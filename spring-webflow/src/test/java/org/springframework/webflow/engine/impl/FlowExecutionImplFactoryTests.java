@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -170,6 +170,54 @@ public class FlowExecutionImplFactoryTests {
 				locator.child.getState("state"));
 	}
 
+	@Test
+	public void testRestoreRecursiveSubflowSessions() {
+		FlowExecutionImpl flowExecution = (FlowExecutionImpl) factory.createFlowExecution(flowDefinition);
+		SimpleFlowDefinitionLocator locator = new SimpleFlowDefinitionLocator();
+		addSession(flowExecution, "flow", "end");
+		addSession(flowExecution, "child", "state");
+		addSession(flowExecution, "child", "state");
+		addSession(flowExecution, "flow", "end");
+		factory.restoreFlowExecution(flowExecution, flowDefinition, new MockFlowExecutionKey("e1s1"), null, locator);
+		assertEquals(1, locator.lookups);
+		assertSame(locator.child, flowExecution.getFlowSessions().get(1).getDefinition());
+		assertSame(locator.child, flowExecution.getFlowSessions().get(2).getDefinition());
+		assertSame(flowDefinition, flowExecution.getFlowSessions().get(3).getDefinition());
+		assertSame(flowDefinition.getState("end"), flowExecution.getFlowSessions().get(3).getState());
+	}
+
+	@Test
+	public void testListenersLoadedOncePerFlowDefinition() {
+		FlowExecutionListener listener = new FlowExecutionListener() {
+		};
+		int[] loads = new int[1];
+		factory.setExecutionListenerLoader(flowDefinition -> {
+			loads[0]++;
+			return new FlowExecutionListener[] { listener };
+		});
+		FlowExecutionImpl flowExecution = (FlowExecutionImpl) factory.createFlowExecution(flowDefinition);
+		factory.restoreFlowExecution(flowExecution, flowDefinition, new MockFlowExecutionKey("e1s1"), null, null);
+		factory.restoreFlowExecution(flowExecution, flowDefinition, new MockFlowExecutionKey("e1s2"), null, null);
+		assertEquals(1, loads[0]);
+		assertSame(listener, flowExecution.getListeners()[0]);
+
+		Flow refreshedDefinition = new Flow("flow");
+		new EndState(refreshedDefinition, "end");
+		factory.restoreFlowExecution(flowExecution, refreshedDefinition, new MockFlowExecutionKey("e1s3"), null, null);
+		assertEquals(2, loads[0]);
+
+		factory.setExecutionKeyFactory(new MockFlowExecutionKeyFactory());
+		factory.createFlowExecution(refreshedDefinition);
+		assertEquals(3, loads[0]);
+	}
+
+	private void addSession(FlowExecutionImpl flowExecution, String flowId, String stateId) {
+		FlowSessionImpl session = new FlowSessionImpl();
+		session.setFlowId(flowId);
+		session.setStateId(stateId);
+		flowExecution.getFlowSessions().add(session);
+	}
+
 	private class MockFlowExecutionKeyFactory implements FlowExecutionKeyFactory {
 		public FlowExecutionKey getKey(FlowExecution execution) {
 			getKeyCalled = true;
@@ -192,12 +240,15 @@ public class FlowExecutionImplFactoryTests {
 	private class SimpleFlowDefinitionLocator implements FlowDefinitionLocator {
 		Flow child = new Flow("child");
 
+		int lookups;
+
 		public SimpleFlowDefinitionLocator() {
 			new EndState(child, "state");
 		}
 
 		public FlowDefinition getFlowDefinition(String flowId) throws NoSuchFlowDefinitionException,
 				FlowDefinitionConstructionException {
+			lookups++;
 			if (flowId.equals(child.getId())) {
 				return child;
 			} else {
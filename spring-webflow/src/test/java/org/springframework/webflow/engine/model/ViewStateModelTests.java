@@ -1,5 +1,5 @@
 /*
- * Copyright 2004-2012 the original author or authors.
+ * Copyright 2004-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -85,6 +85,8 @@ public class ViewStateModelTests {
 		parent.setOnEntryActions(actions);
 		parent.setOnExitActions(actions);
 		parent.setOnRenderActions(actions);
+		parent.setOnEntryParallel("true");
+		parent.setOnRenderParallel("true");
 
 		LinkedList<VarModel> vars = new LinkedList<>();
 		vars.add(new VarModel("foo", "class"));
@@ -108,6 +110,8 @@ public class ViewStateModelTests {
 		assertEquals("foo.bar", ((EvaluateModel) child.getOnEntryActions().get(0)).getExpression());
 		assertEquals("foo.bar", ((EvaluateModel) child.getOnExitActions().get(0)).getExpression());
 		assertEquals("foo.bar", ((EvaluateModel) child.getOnRenderActions().get(0)).getExpression());
+		assertEquals("true", child.getOnEntryParallel());
+		assertEquals("true", child.getOnRenderParallel());
 		assertEquals("foo", child.getVars().get(0).getName());
 		assertEquals("foo", child.getExceptionHandlers().get(0).getBean());
 	}
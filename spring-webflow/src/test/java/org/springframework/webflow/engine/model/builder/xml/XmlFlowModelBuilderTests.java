@@ -19,6 +19,7 @@ import org.springframework.webflow.engine.Flow;
 import org.springframework.webflow.engine.builder.FlowAssembler;
 import org.springframework.webflow.engine.builder.model.FlowModelFlowBuilder;
 import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.engine.model.EvaluateModel;
 import org.springframework.webflow.engine.model.FlowModel;
 import org.springframework.webflow.engine.model.SecuredModel;
 import org.springframework.webflow.engine.model.TransitionModel;
@@ -191,6 +192,16 @@ public class XmlFlowModelBuilderTests {
 		assertEquals("true", ((ViewStateModel) flow.getStates().get(0)).getPopup());
 	}
 
+	@Test
+	public void testViewStateConditionalRefresh() {
+		ClassPathResource resource = new ClassPathResource("flow-viewstate-conditional-refresh.xml", getClass());
+		FlowModelBuilder builder = new XmlFlowModelBuilder(resource, registry);
+		builder.init();
+		builder.build();
+		FlowModel flow = builder.getFlowModel();
+		assertEquals("true", ((ViewStateModel) flow.getStates().get(0)).getConditionalRefresh());
+	}
+
 	@Test
 	public void testMerge() {
 		ClassPathResource resourceChild = new ClassPathResource("flow-inheritance-child.xml", getClass());
@@ -228,7 +239,8 @@ public class XmlFlowModelBuilderTests {
 		builder.init();
 		builder.build();
 		FlowModel flow = builder.getFlowModel();
-		assertEquals(4, flow.getOnStartActions().size());
+		assertEquals(5, flow.getOnStartActions().size());
+		assertEquals("5000", ((EvaluateModel) flow.getOnStartActions().get(4)).getTimeout());
 	}
 
 	@Test
@@ -309,6 +321,19 @@ public class XmlFlowModelBuilderTests {
 		}
 	}
 
+	@Test
+	public void testParallelActions() {
+		ClassPathResource resource = new ClassPathResource("flow-parallel-actions.xml", getClass());
+		FlowModelBuilder builder = new XmlFlowModelBuilder(resource, registry);
+		builder.init();
+		builder.build();
+		FlowModel flow = builder.getFlowModel();
+		ViewStateModel view = (ViewStateModel) flow.getStateById("view");
+		assertEquals("true", view.getOnEntryParallel());
+		assertEquals("true", view.getOnRenderParallel());
+		assertNull(flow.getStateById("action").getOnEntryParallel());
+	}
+
 	@Test
 	public void testParseFlowExceptionHandler() {
 		ClassPathResource res = new ClassPathResource("flow-exception-handler.xml", getClass());
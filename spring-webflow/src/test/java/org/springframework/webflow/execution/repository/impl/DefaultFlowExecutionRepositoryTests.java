@@ -121,6 +121,7 @@ public class DefaultFlowExecutionRepositoryTests {
 
 	@Test
 	public void testPutFlowExecutionNextSnapshotId() {
+		repository.setReuseLiveFlowExecutions(false);
 		FlowExecution execution = executionFactory.createFlowExecution(flow);
 		execution.start(null, new MockExternalContext());
 		assertNotNull(execution.getKey());
@@ -137,6 +138,68 @@ public class DefaultFlowExecutionRepositoryTests {
 		assertNotSame(execution.getKey(), execution2.getKey());
 	}
 
+	@Test
+	public void testGetLiveFlowExecution() {
+		FlowExecution execution = executionFactory.createFlowExecution(flow);
+		execution.start(null, new MockExternalContext());
+		repository.putFlowExecution(execution);
+		FlowExecutionKey key = repository.parseFlowExecutionKey(execution.getKey().toString());
+		assertSame(execution, repository.getFlowExecution(key));
+		FlowExecution restored = repository.getFlowExecution(key);
+		assertNotSame(execution, restored);
+		assertEquals("state", restored.getActiveSession().getState().getId());
+	}
+
+	@Test
+	public void testGetOlderFlowExecutionKey() {
+		FlowExecution execution = executionFactory.createFlowExecution(flow);
+		execution.start(null, new MockExternalContext());
+		repository.putFlowExecution(execution);
+		FlowExecutionKey key1 = repository.parseFlowExecutionKey(execution.getKey().toString());
+		FlowExecution execution2 = repository.getFlowExecution(key1);
+		assertSame(execution, execution2);
+		MockExternalContext context = new MockExternalContext();
+		context.setEventId("foo");
+		execution2.resume(context);
+		repository.putFlowExecution(execution2);
+		FlowExecutionKey key2 = repository.parseFlowExecutionKey(execution2.getKey().toString());
+		FlowExecution previous = repository.getFlowExecution(key1);
+		assertNotSame(execution2, previous);
+		assertEquals("state", previous.getActiveSession().getState().getId());
+		assertSame(execution2, repository.getFlowExecution(key2));
+		assertEquals("state2", execution2.getActiveSession().getState().getId());
+	}
+
+	@Test
+	public void testGetLiveFlowExecutionAfterSnapshotUpdate() {
+		FlowExecution execution = executionFactory.createFlowExecution(flow);
+		execution.start(null, new MockExternalContext());
+		repository.putFlowExecution(execution);
+		repository.updateFlowExecutionSnapshot(execution);
+		FlowExecutionKey key = repository.parseFlowExecutionKey(execution.getKey().toString());
+		assertNotSame(execution, repository.getFlowExecution(key));
+	}
+
+	@Test
+	public void testGetLiveFlowExecutionInDevelopment() {
+		flow.getAttributes().put("development", true);
+		FlowExecution execution = executionFactory.createFlowExecution(flow);
+		execution.start(null, new MockExternalContext());
+		repository.putFlowExecution(execution);
+		FlowExecutionKey key = repository.parseFlowExecutionKey(execution.getKey().toString());
+		assertNotSame(execution, repository.getFlowExecution(key));
+	}
+
+	@Test
+	public void testGetLiveFlowExecutionNotReused() {
+		repository.setReuseLiveFlowExecutions(false);
+		FlowExecution execution = executionFactory.createFlowExecution(flow);
+		execution.start(null, new MockExternalContext());
+		repository.putFlowExecution(execution);
+		FlowExecutionKey key = repository.parseFlowExecutionKey(execution.getKey().toString());
+		assertNotSame(execution, repository.getFlowExecution(key));
+	}
+
 	@Test
 	public void testPutFlowExecutionNoKeyAssigned() {
 		FlowExecution execution = executionFactory.createFlowExecution(flow);
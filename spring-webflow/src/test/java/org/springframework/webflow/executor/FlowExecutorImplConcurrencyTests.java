@@ -0,0 +1,182 @@
+/*
+ * Copyright 2004-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.webflow.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.binding.collection.SharedMapDecorator;
+import org.springframework.webflow.conversation.impl.ConversationContainer;
+import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
+import org.springframework.webflow.core.collection.LocalSharedAttributeMap;
+import org.springframework.webflow.core.collection.SharedAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.EndState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.StubViewFactory;
+import org.springframework.webflow.engine.Transition;
+import org.springframework.webflow.engine.ViewState;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
+import org.springframework.webflow.engine.support.MockTransitionCriteria;
+import org.springframework.webflow.execution.repository.impl.DefaultFlowExecutionRepository;
+import org.springframework.webflow.execution.repository.snapshot.SerializedFlowExecutionSnapshotFactory;
+import org.springframework.webflow.test.MockExternalContext;
+
+/**
+ * Stress test of {@link FlowExecutorImpl} with a session binding conversation manager: thousands of concurrent requests
+ * launch and resume flow executions of a few sessions. Requests run on virtual threads when available.
+ */
+public class FlowExecutorImplConcurrencyTests {
+
+	private static final int SESSIONS = 50;
+
+	private static final int REQUESTS_PER_SESSION = 40;
+
+	private FlowExecutorImpl flowExecutor;
+
+	private SessionBindingConversationManager conversationManager;
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	public void setUp() {
+		Flow flow = new Flow("flow");
+		ViewState view = new ViewState(flow, "view", new StubViewFactory());
+		view.getTransitionSet().add(
+				new Transition(new MockTransitionCriteria("next"), new DefaultTargetStateResolver("view")));
+		view.getTransitionSet().add(
+				new Transition(new MockTransitionCriteria("finish"), new DefaultTargetStateResolver("end")));
+		new EndState(flow, "end");
+		FlowDefinitionRegistryImpl registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(flow);
+
+		FlowExecutionImplFactory executionFactory = new FlowExecutionImplFactory();
+		conversationManager = new SessionBindingConversationManager();
+		conversationManager.setMaxConversations(-1);
+		DefaultFlowExecutionRepository repository = new DefaultFlowExecutionRepository(conversationManager,
+				new SerializedFlowExecutionSnapshotFactory(executionFactory, registry));
+		repository.setMaxSnapshots(-1);
+		executionFactory.setExecutionKeyFactory(repository);
+		flowExecutor = new FlowExecutorImpl(registry, executionFactory, repository);
+		executorService = createExecutorService();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void testConcurrentRequests() throws Exception {
+		List<SharedAttributeMap<Object>> sessions = new ArrayList<>();
+		for (int i = 0; i < SESSIONS; i++) {
+			sessions.add(new LocalSharedAttributeMap<>(new SharedMapDecorator<>(new ConcurrentHashMap<>())));
+		}
+
+		// launch an execution per session, and one more for every other request, all at once
+		List<Callable<String>> launches = new ArrayList<>();
+		for (SharedAttributeMap<Object> session : sessions) {
+			for (int i = 0; i < REQUESTS_PER_SESSION / 2; i++) {
+				launches.add(() -> flowExecutor.launchExecution("flow", null, createContext(session, null))
+						.getPausedKey());
+			}
+		}
+		List<String> keys = invokeAll(launches);
+		assertEquals(SESSIONS * REQUESTS_PER_SESSION / 2, keys.size());
+
+		// resume every execution twice concurrently, contending for the conversation lock
+		List<Callable<String>> resumes = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			SharedAttributeMap<Object> session = sessions.get(i / (REQUESTS_PER_SESSION / 2));
+			String key = keys.get(i);
+			for (int j = 0; j < 2; j++) {
+				resumes.add(() -> flowExecutor.resumeExecution(key, createContext(session, "next")).getPausedKey());
+			}
+		}
+		List<String> resumedKeys = invokeAll(resumes);
+		assertEquals(SESSIONS * REQUESTS_PER_SESSION, resumedKeys.size());
+
+		// finish every execution
+		List<Callable<String>> finishes = new ArrayList<>();
+		for (int i = 0; i < resumedKeys.size(); i += 2) {
+			SharedAttributeMap<Object> session = sessions.get(i / REQUESTS_PER_SESSION);
+			String key = resumedKeys.get(i);
+			finishes.add(() -> flowExecutor.resumeExecution(key, createContext(session, "finish")).getOutcome()
+					.getId());
+		}
+		for (String outcome : invokeAll(finishes)) {
+			assertEquals("end", outcome);
+		}
+		for (SharedAttributeMap<Object> session : sessions) {
+			ConversationContainer container = (ConversationContainer) session.get(conversationManager.getSessionKey());
+			assertEquals(0, container.size());
+		}
+	}
+
+	private MockExternalContext createContext(SharedAttributeMap<Object> session, String eventId) {
+		MockExternalContext context = new MockExternalContext();
+		context.setSessionMap(session);
+		if (eventId != null) {
+			context.putRequestParameter("_eventId", eventId);
+		}
+		return context;
+	}
+
+	private <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		for (Callable<T> task : tasks) {
+			futures.add(executorService.submit(() -> {
+				start.await();
+				return task.call();
+			}));
+		}
+		start.countDown();
+		List<T> results = new ArrayList<>(futures.size());
+		for (Future<T> future : futures) {
+			T result = future.get(60, TimeUnit.SECONDS);
+			assertTrue(result != null);
+			results.add(result);
+		}
+		return results;
+	}
+
+	/**
+	 * Returns an executor starting a virtual thread per task on Java 21 and above, and a thread pool otherwise.
+	 */
+	private static ExecutorService createExecutorService() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(200);
+		}
+	}
+
+}
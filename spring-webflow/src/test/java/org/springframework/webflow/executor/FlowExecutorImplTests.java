@@ -5,9 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.easymock.EasyMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.webflow.context.ExternalContextHolder;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
@@ -193,6 +199,51 @@ public class FlowExecutorImplTests {
 		verifyMocks();
 	}
 
+	@Test
+	public void testLaunchFlowExecutionAsync() throws Exception {
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		((FlowExecutorImpl) flowExecutor).setAsyncExecutor(executorService);
+		MockExternalContext context = new MockExternalContext();
+		Thread callingThread = Thread.currentThread();
+
+		EasyMock.expect(locator.getFlowDefinition("foo")).andReturn(definition);
+		EasyMock.expect(factory.createFlowExecution(definition)).andReturn(execution);
+		execution.start(null, context);
+		EasyMock.expectLastCall().andAnswer(() -> {
+			assertFalse(Thread.currentThread() == callingThread);
+			assertEquals(Locale.CANADA, LocaleContextHolder.getLocale());
+			assertEquals(context, ExternalContextHolder.getExternalContext());
+			return null;
+		});
+		EasyMock.expect(execution.hasEnded()).andReturn(true);
+		EasyMock.expect(execution.getDefinition()).andReturn(definition);
+		EasyMock.expect(definition.getId()).andReturn("foo");
+		EasyMock.expect(execution.getOutcome()).andReturn(new FlowExecutionOutcome("finish", null));
+		replayMocks();
+
+		LocaleContextHolder.setLocale(Locale.CANADA);
+		try {
+			FlowExecutionResult result = ((AsyncFlowExecutor) flowExecutor).launchExecutionAsync("foo", null, context)
+					.toCompletableFuture().get(10, TimeUnit.SECONDS);
+			assertTrue(result.isEnded());
+			assertEquals("finish", result.getOutcome().getId());
+			verifyMocks();
+		} finally {
+			LocaleContextHolder.resetLocaleContext();
+			executorService.shutdown();
+		}
+	}
+
+	@Test
+	public void testResumeFlowExecutionAsyncWithoutExecutor() {
+		EasyMock.expect(repository.parseFlowExecutionKey("12345")).andThrow(
+				new IllegalStateException("Bad key"));
+		replayMocks();
+		assertTrue(((AsyncFlowExecutor) flowExecutor).resumeExecutionAsync("12345", new MockExternalContext())
+				.toCompletableFuture().isCompletedExceptionally());
+		verifyMocks();
+	}
+
 	private void replayMocks() {
 		EasyMock.replay(locator, definition, factory, execution, repository, lock);
 	}
@@ -0,0 +1,154 @@
+package org.springframework.webflow.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.webflow.config.FlowExecutorBuilder;
+import org.springframework.webflow.core.collection.SharedAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.ActionState;
+import org.springframework.webflow.engine.EndState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.StubViewFactory;
+import org.springframework.webflow.engine.Transition;
+import org.springframework.webflow.engine.ViewState;
+import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
+import org.springframework.webflow.engine.support.DefaultTransitionCriteria;
+import org.springframework.webflow.execution.RequestContext;
+import org.springframework.webflow.execution.TestAction;
+import org.springframework.webflow.executor.FlowExecutionResult;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.test.MockExternalContext;
+import org.springframework.webflow.test.MockRequestContext;
+
+public class FlowExecutionTraceRecorderTests {
+
+	private TestTraceRecorder recorder;
+
+	private FlowDefinitionRegistryImpl registry;
+
+	private SharedAttributeMap<Object> sessionMap;
+
+	@BeforeEach
+	public void setUp() {
+		Flow flow = new Flow("flow");
+		ActionState actionState = new ActionState(flow, "compute");
+		actionState.getActionList().add(new TestAction());
+		actionState.getTransitionSet().add(createTransition("success", "view"));
+		ViewState viewState = new ViewState(flow, "view", new StubViewFactory());
+		viewState.getTransitionSet().add(createTransition("next", "end"));
+		new EndState(flow, "end");
+		registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(flow);
+		recorder = new TestTraceRecorder(64);
+		sessionMap = new MockExternalContext().getSessionMap();
+	}
+
+	@Test
+	public void testCapacity() {
+		assertEquals(64, recorder.getCapacity());
+		assertEquals(1, new FlowExecutionTraceRecorder(1).getCapacity());
+		assertEquals(128, new FlowExecutionTraceRecorder(65).getCapacity());
+		assertEquals(4096, new FlowExecutionTraceRecorder().getCapacity());
+	}
+
+	@Test
+	public void testLaunchAndResume() {
+		FlowExecutor flowExecutor = createFlowExecutor();
+		FlowExecutionResult result = flowExecutor.launchExecution("flow", null, createExternalContext(null));
+		flowExecutor.resumeExecution(result.getPausedKey(), createExternalContext("next"));
+
+		String dump = recorder.dump();
+		assertTrue(dump.startsWith("[0] +0.000 ms Request submitted to flow 'flow'\n"), dump);
+		assertTrue(dump.contains("Entered state 'compute' of flow 'flow'"), dump);
+		assertTrue(dump.contains("Executed actions of state 'compute' of flow 'flow' in "), dump);
+		assertTrue(dump.contains("Signaled event 'success'"), dump);
+		assertTrue(dump.contains("Executing transition 'success' from state 'compute' of flow 'flow' to 'view'"), dump);
+		assertTrue(dump.contains("Rendered view of state 'view' of flow 'flow' in "), dump);
+		assertTrue(dump.contains("Paused in state 'view' of flow 'flow'"), dump);
+		assertTrue(dump.contains("Took snapshot of flow 'flow' for execution '" + result.getPausedKey() + "' of "),
+				dump);
+		assertTrue(dump.contains("Request submitted to flow 'flow' for execution '" + result.getPausedKey() + "'"),
+				dump);
+		assertTrue(dump.contains("Ended session of flow 'flow' with outcome 'end'"), dump);
+		assertEquals(2, dump.split("Request processed in ").length - 1, dump);
+		assertNull(recorder.slowRequestTrace);
+	}
+
+	@Test
+	public void testSlowRequest() {
+		recorder.setSlowRequestThreshold(0);
+		FlowExecutor flowExecutor = createFlowExecutor();
+		FlowExecutionResult result = flowExecutor.launchExecution("flow", null, createExternalContext(null));
+		flowExecutor.resumeExecution(result.getPausedKey(), createExternalContext("next"));
+
+		String trace = recorder.slowRequestTrace;
+		assertTrue(trace.contains("for execution '" + result.getPausedKey() + "'"), trace);
+		assertTrue(trace.contains("Ended session of flow 'flow'"), trace);
+		assertFalse(trace.contains("Entered state 'compute'"), trace);
+		String duration = String.format("%.3f ms", recorder.slowRequestNanos / 1000000.0);
+		assertTrue(trace.endsWith("Request processed in " + duration + "\n"), trace);
+	}
+
+	@Test
+	public void testRequestStateRemovedWhenProcessed() {
+		MockRequestContext context = new MockRequestContext();
+		recorder.requestSubmitted(context);
+		assertEquals(1, context.getAttributes().size());
+		recorder.requestProcessed(context);
+		assertEquals(0, context.getAttributes().size());
+		assertTrue(recorder.dump().contains("Request processed in "));
+	}
+
+	@Test
+	public void testOldestEntriesOverwritten() {
+		recorder = new TestTraceRecorder(4);
+		FlowExecutor flowExecutor = createFlowExecutor();
+		flowExecutor.launchExecution("flow", null, createExternalContext(null));
+
+		String dump = recorder.dump();
+		assertEquals(4, dump.split("\n").length, dump);
+		assertFalse(dump.contains("Request submitted"), dump);
+		assertTrue(dump.contains("Request processed in "), dump);
+	}
+
+	private FlowExecutor createFlowExecutor() {
+		return new FlowExecutorBuilder(registry).setAlwaysRedirectOnPause(false).setTraceRecorder(recorder).build();
+	}
+
+	private Transition createTransition(String eventId, String targetStateId) {
+		return new Transition(new DefaultTransitionCriteria(new StaticExpression(eventId)),
+				new DefaultTargetStateResolver(targetStateId));
+	}
+
+	private MockExternalContext createExternalContext(String eventId) {
+		MockExternalContext context = new MockExternalContext();
+		context.setSessionMap(sessionMap);
+		if (eventId != null) {
+			context.setEventId(eventId);
+		}
+		return context;
+	}
+
+	private static class TestTraceRecorder extends FlowExecutionTraceRecorder {
+
+		private String slowRequestTrace;
+
+		private long slowRequestNanos;
+
+		public TestTraceRecorder(int capacity) {
+			super(capacity);
+		}
+
+		protected void slowRequestProcessed(RequestContext context, long nanos, String trace) {
+			this.slowRequestTrace = trace;
+			this.slowRequestNanos = nanos;
+		}
+	}
+
+}
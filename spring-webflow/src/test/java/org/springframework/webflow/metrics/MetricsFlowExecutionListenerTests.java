@@ -0,0 +1,93 @@
+package org.springframework.webflow.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.config.FlowExecutorBuilder;
+import org.springframework.webflow.core.collection.SharedAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.ActionState;
+import org.springframework.webflow.engine.EndState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.StubViewFactory;
+import org.springframework.webflow.engine.Transition;
+import org.springframework.webflow.engine.ViewState;
+import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
+import org.springframework.webflow.engine.support.DefaultTransitionCriteria;
+import org.springframework.binding.expression.support.StaticExpression;
+import org.springframework.webflow.execution.TestAction;
+import org.springframework.webflow.executor.FlowExecutionResult;
+import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.metrics.SimpleMeterRegistry.Meter;
+import org.springframework.webflow.test.MockExternalContext;
+
+public class MetricsFlowExecutionListenerTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private FlowExecutor flowExecutor;
+
+	private SharedAttributeMap<Object> sessionMap;
+
+	@BeforeEach
+	public void setUp() {
+		Flow flow = new Flow("flow");
+		ActionState actionState = new ActionState(flow, "compute");
+		actionState.getActionList().add(new TestAction());
+		actionState.getTransitionSet().add(createTransition("success", "view"));
+		ViewState viewState = new ViewState(flow, "view", new StubViewFactory());
+		viewState.getRenderActionList().add(new TestAction());
+		viewState.getTransitionSet().add(createTransition("next", "end"));
+		new EndState(flow, "end");
+		FlowDefinitionRegistryImpl registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(flow);
+		flowExecutor = new FlowExecutorBuilder(registry).setAlwaysRedirectOnPause(false)
+				.setMeterRegistry(meterRegistry).build();
+		sessionMap = new MockExternalContext().getSessionMap();
+	}
+
+	@Test
+	public void testLaunchAndResume() {
+		FlowExecutionResult result = flowExecutor.launchExecution("flow", null, createExternalContext(null));
+		flowExecutor.resumeExecution(result.getPausedKey(), createExternalContext("next"));
+
+		assertCount(1, FlowMetrics.REQUEST, "flow", null);
+		assertCount(1, FlowMetrics.REQUEST, "flow", "view");
+		assertCount(3, FlowMetrics.ACTION, "flow", "compute");
+		assertCount(3, FlowMetrics.ACTION, "flow", "view");
+		assertCount(1, FlowMetrics.RENDER, "flow", "view");
+		assertCount(2, FlowMetrics.LOCK_WAIT, "flow", "view");
+		assertCount(1, FlowMetrics.EXECUTION_STORE, "flow", "view");
+		assertCount(1, FlowMetrics.EXECUTION_RESTORE, "flow", "view");
+		assertCount(2, FlowMetrics.SNAPSHOT_SERIALIZE, "flow", "view");
+		assertCount(0, FlowMetrics.SNAPSHOT_DESERIALIZE, "flow", "view");
+		Meter snapshotSize = meterRegistry.findMeter(FlowMetrics.SNAPSHOT_SIZE, "flow", "view");
+		assertEquals(2, snapshotSize.getCount());
+		assertTrue(snapshotSize.getTotal() > 0);
+		assertCount(2, FlowMetrics.ACTION, "flow", "end");
+		assertNull(meterRegistry.findMeter(FlowMetrics.RENDER, "flow", "end"));
+	}
+
+	private void assertCount(long count, String name, String flowId, String stateId) {
+		Meter meter = meterRegistry.findMeter(name, flowId, stateId);
+		assertEquals(count, (meter != null ? meter.getCount() : 0), name + " for state " + stateId);
+	}
+
+	private Transition createTransition(String eventId, String targetStateId) {
+		return new Transition(new DefaultTransitionCriteria(new StaticExpression(eventId)),
+				new DefaultTargetStateResolver(targetStateId));
+	}
+
+	private MockExternalContext createExternalContext(String eventId) {
+		MockExternalContext context = new MockExternalContext();
+		context.setSessionMap(sessionMap);
+		if (eventId != null) {
+			context.setEventId(eventId);
+		}
+		return context;
+	}
+
+}
@@ -0,0 +1,56 @@
+package org.springframework.webflow.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.webflow.metrics.SimpleMeterRegistry.Meter;
+
+public class SimpleMeterRegistryTests {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	public void testRecord() {
+		registry.timer("timer", "flow", "state").record(10);
+		registry.timer("timer", "flow", "state").record(30);
+		registry.timer("timer", "flow", null).record(5);
+		Meter meter = registry.findMeter("timer", "flow", "state");
+		assertEquals(2, meter.getCount());
+		assertEquals(40, meter.getTotal());
+		assertEquals(30, meter.getMax());
+		assertEquals(20.0, meter.getMean());
+		assertEquals(1, registry.findMeter("timer", "flow", null).getCount());
+		assertNull(registry.findMeter("timer", "other", null));
+		assertEquals(2, registry.getMeters().size());
+	}
+
+	@Test
+	public void testSameMeterForSameId() {
+		assertSame(registry.summary("size", "flow", "state"), registry.summary("size", "flow", "state"));
+	}
+
+	@Test
+	public void testHistogram() {
+		Meter meter = (Meter) registry.summary("size", "flow", null);
+		for (int i = 1; i <= 100; i++) {
+			meter.record(i);
+		}
+		long[] histogram = meter.getHistogram();
+		assertEquals(0, histogram[0]);
+		assertEquals(1, histogram[1]);
+		assertEquals(2, histogram[2]);
+		assertEquals(37, histogram[7]);
+		assertEquals(63, meter.getPercentileUpperBound(0.5));
+		assertEquals(100, meter.getPercentileUpperBound(0.99));
+	}
+
+	@Test
+	public void testClear() {
+		registry.timer("timer", null, null).record(1);
+		registry.clear();
+		assertNull(registry.findMeter("timer", null, null));
+	}
+
+}
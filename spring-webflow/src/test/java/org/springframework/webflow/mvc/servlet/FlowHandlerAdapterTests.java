@@ -7,7 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,19 +24,39 @@ import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.context.support.StaticWebApplicationContext;
 import org.springframework.web.servlet.DispatcherServlet;
 import org.springframework.web.servlet.FlashMap;
 import org.springframework.web.servlet.FlashMapManager;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.webflow.context.servlet.ServletExternalContext;
+import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.core.FlowException;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
+import org.springframework.webflow.definition.registry.FlowDefinitionRegistryImpl;
+import org.springframework.webflow.engine.EndState;
+import org.springframework.webflow.engine.Flow;
+import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
+import org.springframework.webflow.execution.Event;
+import org.springframework.webflow.execution.factory.StaticFlowExecutionListenerLoader;
 import org.springframework.webflow.execution.FlowExecutionOutcome;
 import org.springframework.webflow.execution.repository.NoSuchFlowExecutionException;
+import org.springframework.webflow.execution.repository.impl.DefaultFlowExecutionRepository;
+import org.springframework.webflow.execution.repository.snapshot.SerializedFlowExecutionSnapshotFactory;
+import org.springframework.webflow.executor.AsyncFlowExecutor;
 import org.springframework.webflow.executor.FlowExecutionResult;
 import org.springframework.webflow.executor.FlowExecutor;
+import org.springframework.webflow.executor.FlowExecutorImpl;
+import org.springframework.webflow.security.SecurityFlowExecutionListener;
+import org.springframework.webflow.security.SecurityRule;
 import org.springframework.webflow.test.MockFlowExecutionKey;
 
 public class FlowHandlerAdapterTests {
@@ -523,6 +549,118 @@ public class FlowHandlerAdapterTests {
 		EasyMock.verify(flowExecutor);
 	}
 
+	@Test
+	public void testLaunchFlowRequestAsync() throws Exception {
+		AsyncFlowExecutor asyncFlowExecutor = setupAsyncExecution();
+		setupRequest("/springtravel", "/app", "/foo", "GET");
+		CompletableFuture<FlowExecutionResult> result = new CompletableFuture<>();
+		EasyMock.expect(asyncFlowExecutor.launchExecutionAsync("foo", flowInput, context)).andReturn(result);
+		EasyMock.replay(asyncFlowExecutor);
+		flowHandlerAdapter.handle(request, response, flowHandler);
+		EasyMock.verify(asyncFlowExecutor);
+		assertTrue(request.isAsyncStarted());
+		assertNull(response.getRedirectedUrl());
+
+		context.requestFlowExecutionRedirect();
+		result.complete(FlowExecutionResult.createPausedResult("foo", "12345"));
+		assertTrue(WebAsyncUtils.getAsyncManager(request).hasConcurrentResult());
+		flowHandlerAdapter.handle(request, response, flowHandler);
+		assertEquals("/springtravel/app/foo?execution=12345", response.getRedirectedUrl());
+	}
+
+	@Test
+	public void testResumeFlowRequestAsyncFlowException() throws Exception {
+		AsyncFlowExecutor asyncFlowExecutor = setupAsyncExecution();
+		handleException = true;
+		setupRequest("/springtravel", "/app", "/foo", "POST");
+		request.addParameter("execution", "12345");
+		CompletableFuture<FlowExecutionResult> result = new CompletableFuture<>();
+		EasyMock.expect(asyncFlowExecutor.resumeExecutionAsync("12345", context)).andReturn(result);
+		EasyMock.replay(asyncFlowExecutor);
+		flowHandlerAdapter.handle(request, response, flowHandler);
+		EasyMock.verify(asyncFlowExecutor);
+
+		result.completeExceptionally(new NoSuchFlowExecutionException(new MockFlowExecutionKey("12345"), null));
+		flowHandlerAdapter.handle(request, response, flowHandler);
+		assertEquals("/springtravel/app/error", response.getRedirectedUrl());
+	}
+
+	@Test
+	public void testLaunchSecuredFlowRequestAsync() throws Exception {
+		AtomicReference<Object> requestAttribute = new AtomicReference<>();
+		Flow flow = new Flow("foo");
+		SecurityRule rule = new SecurityRule();
+		rule.setAttributes(List.of("ROLE_USER"));
+		flow.getAttributes().put(SecurityRule.SECURITY_ATTRIBUTE_NAME, rule);
+		EndState end = new EndState(flow, "end");
+		end.getEntryActionList().add(context -> {
+			requestAttribute.set(RequestContextHolder.currentRequestAttributes().getAttribute("bar",
+					RequestAttributes.SCOPE_REQUEST));
+			return new Event(this, "success");
+		});
+		FlowDefinitionRegistryImpl registry = new FlowDefinitionRegistryImpl();
+		registry.registerFlowDefinition(flow);
+		FlowExecutionImplFactory executionFactory = new FlowExecutionImplFactory();
+		executionFactory.setExecutionListenerLoader(
+				new StaticFlowExecutionListenerLoader(new SecurityFlowExecutionListener()));
+		DefaultFlowExecutionRepository repository = new DefaultFlowExecutionRepository(
+				new SessionBindingConversationManager(),
+				new SerializedFlowExecutionSnapshotFactory(executionFactory, registry));
+		FlowExecutorImpl asyncFlowExecutor = new FlowExecutorImpl(registry, executionFactory, repository);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		asyncFlowExecutor.setAsyncExecutor(executor);
+		flowHandlerAdapter.setFlowExecutor(asyncFlowExecutor);
+		flowHandlerAdapter.setAsyncExecution(true);
+		flowHandlerAdapter.afterPropertiesSet();
+		request.setAsyncSupported(true);
+		setupRequest("/springtravel", "/app", "/foo", "GET");
+		request.setAttribute("bar", "baz");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("user", "",
+				List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+		try {
+			flowHandlerAdapter.handle(request, response, flowHandler);
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+			SecurityContextHolder.clearContext();
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(WebAsyncUtils.getAsyncManager(request).hasConcurrentResult());
+		flowHandlerAdapter.handle(request, response, flowHandler);
+		assertEquals("baz", requestAttribute.get());
+		assertEquals("/springtravel/app/foo", response.getRedirectedUrl());
+	}
+
+	private AsyncFlowExecutor setupAsyncExecution() throws Exception {
+		AsyncFlowExecutor asyncFlowExecutor = EasyMock.createMock(AsyncFlowExecutor.class);
+		flowHandlerAdapter.setFlowExecutor(asyncFlowExecutor);
+		flowHandlerAdapter.setAsyncExecution(true);
+		flowHandlerAdapter.afterPropertiesSet();
+		request.setAsyncSupported(true);
+		return asyncFlowExecutor;
+	}
+
+	@Test
+	public void testCreateServletExternalContextRenderOnPost() throws Exception {
+		FlowHandlerAdapter adapter = new FlowHandlerAdapter();
+		adapter.setFlowExecutor(flowExecutor);
+		StaticWebApplicationContext applicationContext = new StaticWebApplicationContext();
+		applicationContext.setServletContext(new MockServletContext());
+		adapter.setApplicationContext(applicationContext);
+		adapter.afterPropertiesSet();
+		setupRequest("/springtravel", "/app", "/foo", "POST");
+		assertFalse(adapter.createServletExternalContext(request, response).isInlineRenderRequest());
+		adapter.setRenderOnPost(true);
+		assertTrue(adapter.createServletExternalContext(request, response).isInlineRenderRequest());
+		request.setMethod("GET");
+		assertFalse(adapter.createServletExternalContext(request, response).isInlineRenderRequest());
+		request.setMethod("POST");
+		request.addHeader("Accept", "text/html;type=ajax");
+		assertFalse(adapter.createServletExternalContext(request, response).isInlineRenderRequest());
+	}
+
 	private void setupRequest(String contextPath, String servletPath, String pathInfo, String method) {
 		request.setContextPath(contextPath);
 		request.setServletPath(servletPath);
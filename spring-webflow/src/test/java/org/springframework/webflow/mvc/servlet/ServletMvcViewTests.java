@@ -2,6 +2,7 @@ package org.springframework.webflow.mvc.servlet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.security.Principal;
@@ -18,6 +19,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.view.InternalResourceView;
 import org.springframework.webflow.mvc.view.AbstractMvcView;
 import org.springframework.webflow.test.MockFlowExecutionKey;
 import org.springframework.webflow.test.MockRequestContext;
@@ -54,6 +56,36 @@ public class ServletMvcViewTests {
 		assertEquals(context, model.get("flowRequestContext"));
 		assertEquals("/mockFlow?execution=c1v1", model.get("flowExecutionUrl"));
 		assertNull(model.get(BindingResult.MODEL_KEY_PREFIX + "bindBean"));
+		assertNull(((MockHttpServletResponse) context.getExternalContext().getNativeResponse())
+				.getHeader(FlowHandlerAdapter.FLOW_EXECUTION_URL_HEADER));
+	}
+
+	@Test
+	public void testRenderInline() throws Exception {
+		MockRequestContext context = new MockRequestContext();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		context.getMockExternalContext().setNativeContext(new MockServletContext());
+		context.getMockExternalContext().setNativeRequest(new MockHttpServletRequest());
+		context.getMockExternalContext().setNativeResponse(response);
+		context.getMockExternalContext().setInlineRenderRequest(true);
+		context.getMockFlowExecutionContext().setKey(new MockFlowExecutionKey("c1v1"));
+		AbstractMvcView view = new ServletMvcView(new MockView(), context);
+		view.render();
+		assertTrue(renderCalled);
+		assertEquals("/mockFlow?execution=c1v1", response.getHeader(FlowHandlerAdapter.FLOW_EXECUTION_URL_HEADER));
+	}
+
+	@Test
+	public void testRenderForwardBasedViewAsync() throws Exception {
+		MockRequestContext context = new MockRequestContext();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		request.startAsync();
+		context.getMockExternalContext().setNativeContext(new MockServletContext());
+		context.getMockExternalContext().setNativeRequest(request);
+		context.getMockExternalContext().setNativeResponse(new MockHttpServletResponse());
+		AbstractMvcView view = new ServletMvcView(new InternalResourceView("/WEB-INF/view.jsp"), context);
+		assertThrows(IllegalStateException.class, view::render);
 	}
 
 	private class MockView implements View {
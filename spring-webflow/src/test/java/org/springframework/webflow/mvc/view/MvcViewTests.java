@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -263,6 +264,44 @@ public class MvcViewTests {
 		assertEquals("bogus 2", bm.getFieldValue("dateProperty"));
 	}
 
+	@Test
+	public void testResumeEventIndexedCollectionBinding() throws IOException {
+		MockRequestControlContext context = new MockRequestControlContext();
+		context.putRequestParameter("_eventId", "submit");
+		context.putRequestParameter("name", "order");
+		context.putRequestParameter("items[0].name", "first");
+		context.putRequestParameter("items[0].quantity", "5");
+		context.putRequestParameter("items[1].name", "second");
+		context.putRequestParameter("items[1].quantity", "bogus");
+		context.putRequestParameter("_items[1].name", "on");
+		context.putRequestParameter("items[2].bogus", "value");
+		OrderBean order = new OrderBean();
+		StaticExpression modelObject = new StaticExpression(order);
+		modelObject.setExpressionString("order");
+		context.getCurrentState().getAttributes().put("model", modelObject);
+		context.getFlowScope().put("order", order);
+		context.getMockExternalContext().setNativeContext(new MockServletContext());
+		context.getMockExternalContext().setNativeRequest(new MockHttpServletRequest());
+		context.getMockExternalContext().setNativeResponse(new MockHttpServletResponse());
+		context.getMockFlowExecutionContext().setKey(new MockFlowExecutionKey("c1v1"));
+		AbstractMvcView view = new MockMvcView(new MockView(), context);
+		view.setExpressionParser(createExpressionParser());
+		view.setMessageCodesResolver(new WebFlowMessageCodesResolver());
+		view.setIndexedCollectionBinding(true);
+		view.processUserEvent();
+		assertFalse(view.hasFlowEvent());
+		assertEquals("order", order.getName());
+		assertEquals("first", order.getItems().get(0).getName());
+		assertEquals(Integer.valueOf(5), order.getItems().get(0).getQuantity());
+		assertEquals("second", order.getItems().get(1).getName());
+		assertNull(order.getItems().get(1).getQuantity());
+		assertEquals(1, context.getMessageContext().getMessagesBySource("items[1].quantity").length);
+		view.render();
+		BindingModel bm = (BindingModel) model.get(BindingResult.MODEL_KEY_PREFIX + "order");
+		assertEquals("bogus", bm.getFieldValue("items[1].quantity"));
+		assertEquals("5", bm.getFieldValue("items[0].quantity"));
+	}
+
 	@Test
 	public void testResumeEventNoModelInScope() {
 		MockRequestContext context = new MockRequestContext();
@@ -880,6 +919,44 @@ public class MvcViewTests {
 		}
 	}
 
+	public static class OrderBean {
+		private String name;
+		private List<LineItem> items = new ArrayList<>(List.of(new LineItem(), new LineItem(), new LineItem()));
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<LineItem> getItems() {
+			return items;
+		}
+	}
+
+	public static class LineItem {
+		private String name;
+		private Integer quantity;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Integer getQuantity() {
+			return quantity;
+		}
+
+		public void setQuantity(Integer quantity) {
+			this.quantity = quantity;
+		}
+	}
+
 	public static class NestedBean {
 		private String name;
 
@@ -3,6 +3,7 @@ package org.springframework.webflow.security;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +24,7 @@ import org.springframework.webflow.engine.support.DefaultTargetStateResolver;
 import org.springframework.webflow.execution.RequestContext;
 import org.springframework.webflow.test.MockRequestContext;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class SecurityFlowExecutionListenerTests {
@@ -120,6 +122,23 @@ public class SecurityFlowExecutionListenerTests {
 		}
 	}
 
+	@Test
+	public void testAuthorizationManagerInitializedOncePerRule() {
+		configureSecurityContext();
+		AtomicInteger initializations = new AtomicInteger();
+		SecurityFlowExecutionListener listener = new SecurityFlowExecutionListener();
+		listener.setAuthorizationManagerInitializer(rule -> {
+			initializations.incrementAndGet();
+			return rule.getAuthorizationManager();
+		});
+		SecurityRule rule = getSecurityRuleAnyAuthorized();
+		listener.decide(rule, this);
+		listener.decide(rule, this);
+		assertEquals(1, initializations.get());
+		listener.decide(getSecurityRuleAllAuthorized(), this);
+		assertEquals(2, initializations.get());
+	}
+
 	private void configureSecurityContext() {
 		SecurityContext sc = new SecurityContextImpl();
 		sc.setAuthentication(getAuthentication());
@@ -1,5 +1,5 @@
 /*
- * Copyright 2008-2012 the original author or authors.
+ * Copyright 2008-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -155,6 +155,25 @@ public class ValidationHelperTests {
 		assertTrue(model.fallbackInvoked);
 	}
 
+	@Test
+	public void testModelValidationMethodsResolvedPerState() {
+		ViewState state1 = new ViewState(requestContext.getRootFlow(), "state1", new StubViewFactory());
+		ViewState state2 = new ViewState(requestContext.getRootFlow(), "state2", new StubViewFactory());
+		for (int i = 0; i < 2; i++) {
+			Model model = new Model();
+			requestContext.setCurrentState(state1);
+			new ValidationHelper(model, requestContext, eventId, modelName, null, this.codesResolver, null).validate();
+			assertTrue(model.state1Invoked);
+			assertTrue(model.fallbackInvoked);
+
+			model = new Model();
+			requestContext.setCurrentState(state2);
+			new ValidationHelper(model, requestContext, eventId, modelName, null, this.codesResolver, null).validate();
+			assertFalse(model.state1Invoked);
+			assertTrue(model.fallbackInvoked);
+		}
+	}
+
 	@Test
 	public void testStateAndFallbackErrorsModelValidationMethodInvoked() {
 		ErrorsModel model = new ErrorsModel();